@@ -3,6 +3,7 @@ package com.sasindu.rdsumebuilder;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * ============================================================================
@@ -19,10 +20,14 @@ import org.springframework.scheduling.annotation.EnableAsync;
  *   - Required for @Async annotation to work
  *   - Email sending runs in separate threads (non-blocking)
  *   - Improves performance - API doesn't wait for email to send
+ *
+ * @EnableScheduling - Enables @Scheduled background jobs
+ *   - Periodic rebuild of the token revocation filter
  * ============================================================================
  */
 @SpringBootApplication
 @EnableAsync  // Enable async email sending
+@EnableScheduling  // Enable background jobs
 public class RdsumebuilderApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,115 @@
+package com.sasindu.rdsumebuilder.artifact;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A rendered artifact, backed by a cache file (hit) or by the bytes just
+ * rendered (miss)
+ */
+public final class RenderedArtifact {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final String key;
+    private final Path file;
+    private final byte[] content;
+    private final long size;
+
+    private RenderedArtifact(String key, Path file, byte[] content, long size) {
+        this.key = key;
+        this.file = file;
+        this.content = content;
+        this.size = size;
+    }
+
+    static RenderedArtifact ofFile(String key, Path file, long size) {
+        return new RenderedArtifact(key, file, null, size);
+    }
+
+    static RenderedArtifact ofBytes(String key, byte[] content) {
+        return new RenderedArtifact(key, null, content, content.length);
+    }
+
+    /**
+     * Content hash (RenderedArtifactCache key)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isCached() {
+        return file != null;
+    }
+
+    /**
+     * Copy the artifact to a stream (zip entries and the like)
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (content != null) {
+            out.write(content);
+        } else {
+            Files.copy(file, out);
+        }
+    }
+
+    /**
+     * Response with the artifact as body. Cached files are not read into
+     * the heap: on Tomcat the connector sends them with sendfile (kernel
+     * copy straight to the socket); elsewhere they are streamed with
+     * FileChannel.transferTo.
+     *
+     * @param request Current request (sendfile attributes)
+     * @param headers Content type, disposition, caching
+     * @return 200 response
+     */
+    public ResponseEntity<?> toResponse(HttpServletRequest request, HttpHeaders headers) {
+        headers.setContentLength(size);
+        if (content != null) {
+            return new ResponseEntity<>(content, headers, HttpStatus.OK);
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat opens the file when the response is committed, right
+            // after this returns; the entry was just used, so it is the last
+            // one LRU eviction would pick
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return new ResponseEntity<>(headers, HttpStatus.OK);
+        }
+        StreamingResponseBody body = out -> {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = 0;
+                while (position < size) {
+                    long sent = channel.transferTo(position, size - position, target);
+                    if (sent <= 0) {
+                        throw new EOFException("Cached artifact truncated: " + file);
+                    }
+                    position += sent;
+                }
+            }
+        };
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+}
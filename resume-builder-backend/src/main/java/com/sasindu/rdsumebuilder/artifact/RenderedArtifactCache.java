@@ -0,0 +1,311 @@
+package com.sasindu.rdsumebuilder.artifact;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sasindu.rdsumebuilder.document.Resume;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed disk cache of rendered resume artifacts (PDFs, ...).
+ *
+ * The key is a SHA-256 over the resume's content (everything that can
+ * change the output: sections, template, colorTheme, legacy content) plus
+ * the artifact kind and renderer version, so an unchanged resume maps to
+ * the same file no matter how often it is saved, and any edit maps to a
+ * new one. Nothing has to be invalidated on write; stale files simply stop
+ * being asked for and age out.
+ *
+ * Files live in dir, in one subdirectory per first two hex digits of the
+ * key, named key.random. The in-memory index is an access-ordered map;
+ * when the files add up to more than max-size, the least recently used
+ * ones are dropped and deleted. (Plain LRU rather than a Caffeine cache:
+ * TinyLFU admission would reject a freshly rendered PDF in favor of older
+ * entries, and the second download would render it again.) The index is
+ * rebuilt from the directory at startup, oldest first.
+ * Each write goes to a fresh file name, so deleting an evicted file can
+ * never remove a newer copy of the same key.
+ *
+ * Cache failures (disk full, permissions) are logged and never fail a
+ * request: the artifact is then served from memory and rendered again
+ * next time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RenderedArtifactCache {
+
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final String METRIC_NAME = "renderedArtifactCache";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.artifact-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.artifact-cache.dir:${java.io.tmpdir}/resume-builder/artifacts}")
+    private String dir;
+
+    /**
+     * Total size of cached files; least recently used files go first
+     */
+    @Value("${app.artifact-cache.max-size:512MB}")
+    private DataSize maxSize;
+
+    /**
+     * Key to file, least recently used first; guarded by itself
+     */
+    private final LinkedHashMap<String, StoredFile> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long indexedBytes;
+
+    private Path directory;
+    private ObjectWriter contentWriter;
+    private Counter hits;
+    private Counter misses;
+    private Counter evictions;
+
+    /**
+     * Resume fields that do not affect rendered output
+     */
+    @JsonIgnoreProperties({"id", "userId", "revision", "revisionOrDefault", "discoverable", "shareSlug",
+            "createdAt", "updatedAt"})
+    private interface RenderedContent {
+    }
+
+    private record StoredFile(Path path, long size) {
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        contentWriter = objectMapper.copy()
+                .addMixIn(Resume.class, RenderedContent.class)
+                .setSerializationInclusion(JsonInclude.Include.NON_EMPTY)
+                .writer();
+        if (!enabled) {
+            return;
+        }
+        directory = Path.of(dir).toAbsolutePath();
+        Files.createDirectories(directory);
+        hits = Counter.builder("cache.gets").tag("cache", METRIC_NAME).tag("result", "hit")
+                .register(meterRegistry);
+        misses = Counter.builder("cache.gets").tag("cache", METRIC_NAME).tag("result", "miss")
+                .register(meterRegistry);
+        evictions = Counter.builder("cache.evictions").tag("cache", METRIC_NAME).register(meterRegistry);
+        Gauge.builder("cache.size", this, RenderedArtifactCache::indexedFiles).tag("cache", METRIC_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.weight", this, RenderedArtifactCache::indexedBytes).tag("cache", METRIC_NAME)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        load();
+    }
+
+    /**
+     * Cache key of a resume's rendering
+     *
+     * @param resume Resume as it will be rendered
+     * @param kind   Artifact type and renderer version, e.g. "pdf-1"
+     * @return Hex SHA-256
+     */
+    public String key(Resume resume, String kind) {
+        MessageDigest digest = sha256();
+        digest.update(kind.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            contentWriter.writeValue(out, resume);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not hash resume content", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Cached artifact, if any
+     *
+     * @param key Key from {@link #key}
+     * @return File-backed artifact, or empty on a miss
+     */
+    public Optional<RenderedArtifact> get(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        StoredFile file;
+        synchronized (index) {
+            file = index.get(key);
+        }
+        if (file == null || !Files.isReadable(file.path())) {
+            if (file != null) {
+                // removed behind our back (tmp cleaner)
+                remove(key, file);
+            }
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(RenderedArtifact.ofFile(key, file.path(), file.size()));
+    }
+
+    /**
+     * Store a freshly rendered artifact
+     *
+     * @param key     Key from {@link #key}
+     * @param content Rendered bytes
+     * @return The artifact, served from the given bytes (a new entry may be
+     * evicted again before anyone reads its file)
+     */
+    public RenderedArtifact put(String key, byte[] content) {
+        RenderedArtifact artifact = RenderedArtifact.ofBytes(key, content);
+        if (!enabled) {
+            return artifact;
+        }
+        Path shard = directory.resolve(key.substring(0, 2));
+        Path partial = null;
+        try {
+            Files.createDirectories(shard);
+            partial = Files.createTempFile(shard, key + ".", PARTIAL_SUFFIX);
+            Files.write(partial, content);
+            String name = partial.getFileName().toString();
+            Path target = shard.resolve(name.substring(0, name.length() - PARTIAL_SUFFIX.length()));
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+            add(key, new StoredFile(target, content.length));
+        } catch (IOException e) {
+            log.warn("Could not cache artifact {}: {}", key, e.getMessage());
+            if (partial != null) {
+                delete(partial);
+            }
+        }
+        return artifact;
+    }
+
+    /**
+     * Index the files left by a previous run, oldest first so they are
+     * evicted first; unfinished writes and duplicate keys are deleted
+     */
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory, 2)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        Map<Path, FileTime> modified = new HashMap<>();
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(PARTIAL_SUFFIX)) {
+                delete(file);
+            } else {
+                modified.put(file, Files.getLastModifiedTime(file));
+            }
+        }
+        modified.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                .forEach(entry -> {
+                    Path file = entry.getKey();
+                    String name = file.getFileName().toString();
+                    int dot = name.indexOf('.');
+                    if (dot <= 0) {
+                        delete(file);
+                        return;
+                    }
+                    try {
+                        // a newer file of the same key replaces (and deletes) the older one
+                        add(name.substring(0, dot), new StoredFile(file, Files.size(file)));
+                    } catch (IOException e) {
+                        delete(file);
+                    }
+                });
+        log.info("Artifact cache: {} files, {} bytes in {}", indexedFiles(), indexedBytes(), directory);
+    }
+
+    /**
+     * Index a file, then drop least recently used files until the total
+     * fits in max-size (never the file just added)
+     */
+    private void add(String key, StoredFile file) {
+        List<StoredFile> removed = new ArrayList<>();
+        synchronized (index) {
+            StoredFile previous = index.put(key, file);
+            if (previous != null) {
+                indexedBytes -= previous.size();
+                removed.add(previous);
+            }
+            indexedBytes += file.size();
+            Iterator<StoredFile> eldest = index.values().iterator();
+            while (indexedBytes > maxSize.toBytes() && eldest.hasNext()) {
+                StoredFile candidate = eldest.next();
+                if (candidate == file) {
+                    break;
+                }
+                eldest.remove();
+                indexedBytes -= candidate.size();
+                removed.add(candidate);
+                evictions.increment();
+            }
+        }
+        removed.forEach(stored -> delete(stored.path()));
+    }
+
+    private void remove(String key, StoredFile file) {
+        synchronized (index) {
+            if (index.remove(key, file)) {
+                indexedBytes -= file.size();
+            }
+        }
+    }
+
+    private int indexedFiles() {
+        synchronized (index) {
+            return index.size();
+        }
+    }
+
+    private long indexedBytes() {
+        synchronized (index) {
+            return indexedBytes;
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete cached artifact {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
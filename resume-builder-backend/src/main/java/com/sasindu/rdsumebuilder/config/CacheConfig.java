@@ -0,0 +1,166 @@
+package com.sasindu.rdsumebuilder.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.sasindu.rdsumebuilder.html.PublicResumePage;
+import com.sasindu.rdsumebuilder.util.VerifiedToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * In-process cache configuration.
+ * Every cache is bounded, expires entries and publishes hit/miss/eviction
+ * metrics through Actuator (/actuator/metrics/cache.gets etc.).
+ */
+@Configuration
+public class CacheConfig {
+
+    @Value("${app.security.principal-cache.max-size:10000}")
+    private long principalCacheMaxSize;
+
+    @Value("${app.security.principal-cache.ttl:5m}")
+    private Duration principalCacheTtl;
+
+    @Value("${app.security.token-version-cache.max-size:50000}")
+    private long tokenVersionCacheMaxSize;
+
+    @Value("${app.security.token-version-cache.ttl:30s}")
+    private Duration tokenVersionCacheTtl;
+
+    @Value("${app.security.verified-token-cache.max-size:100000}")
+    private long verifiedTokenCacheMaxSize;
+
+    @Value("${app.security.verified-token-cache.max-ttl:10m}")
+    private Duration verifiedTokenCacheMaxTtl;
+
+    @Value("${app.share.page-cache.max-size:64MB}")
+    private DataSize publicPageCacheMaxSize;
+
+    @Value("${app.share.page-cache.ttl:10m}")
+    private Duration publicPageCacheTtl;
+
+    @Value("${app.share.slug-cache.max-size:100000}")
+    private long shareSlugCacheMaxSize;
+
+    /**
+     * Resolved principals by email, used by CustomUserDetailsService.
+     * Entries are evicted explicitly whenever the account state changes
+     * (lock, password reset, verification, email change, deletion).
+     *
+     * @param meterRegistry Actuator meter registry
+     * @return Principal cache
+     */
+    @Bean
+    public Cache<String, UserDetails> principalCache(MeterRegistry meterRegistry) {
+        Cache<String, UserDetails> cache = Caffeine.newBuilder()
+                .maximumSize(principalCacheMaxSize)
+                .expireAfterWrite(principalCacheTtl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "principalCache");
+    }
+
+    /**
+     * Current token version by email, used by the stateless auth mode.
+     * Kept short-lived so revocations from other nodes are picked up quickly.
+     *
+     * @param meterRegistry Actuator meter registry
+     * @return Token version cache
+     */
+    @Bean
+    public Cache<String, Long> tokenVersionCache(MeterRegistry meterRegistry) {
+        Cache<String, Long> cache = Caffeine.newBuilder()
+                .maximumSize(tokenVersionCacheMaxSize)
+                .expireAfterWrite(tokenVersionCacheTtl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "tokenVersionCache");
+    }
+
+    /**
+     * Verified JWTs keyed by SHA-256 digest of the raw token.
+     * Each entry expires at the token's own exp or after max-ttl, whichever
+     * comes first, so an expired token is never served from the cache.
+     *
+     * @param meterRegistry Actuator meter registry
+     * @return Verified token cache
+     */
+    @Bean
+    public Cache<String, VerifiedToken> verifiedTokenCache(MeterRegistry meterRegistry) {
+        long maxTtlNanos = verifiedTokenCacheMaxTtl.toNanos();
+        Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        if (token.expiresAt() == null) {
+                            return maxTtlNanos;
+                        }
+                        long untilExp = Duration.between(Instant.now(), token.expiresAt()).toNanos();
+                        return Math.max(0, Math.min(maxTtlNanos, untilExp));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokenCache");
+    }
+
+    /**
+     * Rendered public share pages by resume ID, used by PublicResumeService.
+     * Bounded by HTML bytes. ResumeService evicts a resume's page on every
+     * write; the TTL bounds staleness of pages cached on other nodes.
+     *
+     * @param meterRegistry Actuator meter registry
+     * @return Public page cache
+     */
+    @Bean
+    public Cache<String, PublicResumePage> publicPageCache(MeterRegistry meterRegistry) {
+        Cache<String, PublicResumePage> cache = Caffeine.newBuilder()
+                .maximumWeight(publicPageCacheMaxSize.toBytes())
+                .weigher((String resumeId, PublicResumePage page) -> page.html().length)
+                .expireAfterWrite(publicPageCacheTtl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "publicPageCache");
+    }
+
+    /**
+     * Resume ID by share link slug ("" for slugs that match no resume), so
+     * popular links and bogus slugs are answered without MongoDB. A stale
+     * entry is harmless: the page is only served if its resume still has
+     * that slug.
+     *
+     * @param meterRegistry Actuator meter registry
+     * @return Share slug cache
+     */
+    @Bean
+    public Cache<String, String> shareSlugCache(MeterRegistry meterRegistry) {
+        Cache<String, String> cache = Caffeine.newBuilder()
+                .maximumSize(shareSlugCacheMaxSize)
+                .expireAfterWrite(publicPageCacheTtl)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "shareSlugCache");
+    }
+}
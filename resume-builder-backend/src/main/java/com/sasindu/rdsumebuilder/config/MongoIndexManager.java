@@ -0,0 +1,200 @@
+package com.sasindu.rdsumebuilder.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the indexes declared on @Document classes (@Indexed, @CompoundIndex).
+ *
+ * Replaces spring.data.mongodb.auto-index-creation, which builds every index
+ * synchronously while the mapping context starts. Indexes are split in two:
+ * - Required (unique or TTL): one account per email, single-use refresh
+ *   tokens, unique share slugs and token expiry depend on them. They are
+ *   ensured once all beans exist, before the web server starts, so no
+ *   request is served without them. Connection failures are retried with
+ *   backoff for up to required-index-timeout; if an index still cannot be
+ *   built (or existing data violates it), startup fails.
+ * - Performance (everything else): built on their own thread with
+ *   background=true once the application is up, so a large collection does
+ *   not delay startup. A failed one is logged and retried on the next start.
+ *
+ * Existing indexes are a cheap no-op.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoIndexManager implements SmartInitializingSingleton {
+
+    private static final Duration MAX_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+
+    /**
+     * How long startup waits for MongoDB to build the required indexes
+     */
+    @Value("${app.mongo.required-index-timeout:2m}")
+    private Duration requiredIndexTimeout;
+
+    /**
+     * One declared index and its collection
+     */
+    private record DeclaredIndex(String collection, IndexDefinition definition) {
+
+        boolean required() {
+            Document options = definition.getIndexOptions();
+            return Boolean.TRUE.equals(options.get("unique")) || options.containsKey("expireAfterSeconds");
+        }
+
+        @Override
+        public String toString() {
+            return collection + " " + definition.getIndexKeys().toJson();
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        ensureRequiredIndexes();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        Thread thread = new Thread(() -> ensure(declaredIndexes(false), true), "mongo-index-manager");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Create every declared index that does not exist yet (blocking)
+     *
+     * @return Number of indexes that failed to build
+     */
+    public int ensureIndexes() {
+        return ensure(declaredIndexes(true), false) + ensure(declaredIndexes(false), true);
+    }
+
+    /**
+     * Build the unique and TTL indexes, retrying until the timeout
+     *
+     * @throws IllegalStateException if one of them cannot be built
+     */
+    private void ensureRequiredIndexes() {
+        List<DeclaredIndex> pending = declaredIndexes(true);
+        long deadline = System.nanoTime() + requiredIndexTimeout.toNanos();
+        Duration delay = Duration.ofSeconds(1);
+        while (true) {
+            List<DeclaredIndex> failed = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                DeclaredIndex index = pending.get(i);
+                try {
+                    build(index, false);
+                } catch (DataIntegrityViolationException e) {
+                    // Duplicates in existing data: retrying cannot help
+                    throw new IllegalStateException("Existing documents violate required index " + index, e);
+                } catch (DataAccessResourceFailureException e) {
+                    // MongoDB unreachable: the other indexes would only wait for the same timeout
+                    log.warn("MongoDB unavailable while building required indexes: {}", e.getMessage());
+                    failed.addAll(pending.subList(i, pending.size()));
+                    break;
+                } catch (RuntimeException e) {
+                    log.warn("Failed to build required index {}: {}", index, e.getMessage());
+                    failed.add(index);
+                }
+            }
+            if (failed.isEmpty()) {
+                log.info("Required indexes ready ({})", pending.size());
+                return;
+            }
+            if (System.nanoTime() + delay.toNanos() > deadline) {
+                throw new IllegalStateException("Required MongoDB indexes could not be built within "
+                        + requiredIndexTimeout.toSeconds() + " s: " + failed);
+            }
+            pending = failed;
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while building required indexes", e);
+            }
+            delay = delay.multipliedBy(2).compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay.multipliedBy(2);
+        }
+    }
+
+    private int ensure(List<DeclaredIndex> indexes, boolean background) {
+        int failures = 0;
+        for (DeclaredIndex index : indexes) {
+            try {
+                build(index, background);
+            } catch (RuntimeException e) {
+                failures++;
+                log.error("Failed to build index {}", index, e);
+            }
+        }
+        log.info("Index check finished ({} indexes), {} failure(s)", indexes.size(), failures);
+        return failures;
+    }
+
+    private void build(DeclaredIndex index, boolean background) {
+        long start = System.nanoTime();
+        String name = mongoTemplate.indexOps(index.collection())
+                .ensureIndex(background ? inBackground(index.definition()) : index.definition());
+        log.debug("Index {}.{} ready in {} ms", index.collection(), name, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Indexes declared on the @Document classes, required or the others
+     */
+    private List<DeclaredIndex> declaredIndexes(boolean required) {
+        MongoPersistentEntityIndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        List<DeclaredIndex> indexes = new ArrayList<>();
+        for (MongoPersistentEntity<?> entity : new ArrayList<>(mappingContext.getPersistentEntities())) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            for (IndexDefinition definition : resolver.resolveIndexFor(entity.getTypeInformation())) {
+                DeclaredIndex index = new DeclaredIndex(entity.getCollection(), definition);
+                if (index.required() == required) {
+                    indexes.add(index);
+                }
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Same keys and options, with background=true so pre-4.2 servers do not
+     * block the collection while building
+     */
+    private static IndexDefinition inBackground(IndexDefinition index) {
+        Document options = new Document(index.getIndexOptions());
+        options.put("background", true);
+        return new IndexDefinition() {
+            @Override
+            public Document getIndexKeys() {
+                return index.getIndexKeys();
+            }
+
+            @Override
+            public Document getIndexOptions() {
+                return options;
+            }
+        };
+    }
+}
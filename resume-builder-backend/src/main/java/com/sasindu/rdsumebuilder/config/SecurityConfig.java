@@ -1,12 +1,17 @@
 package com.sasindu.rdsumebuilder.config;
 
+import com.sasindu.rdsumebuilder.document.User;
+import com.sasindu.rdsumebuilder.exception.RevisionConflictException;
+import com.sasindu.rdsumebuilder.filter.AuthRateLimitFilter;
 import com.sasindu.rdsumebuilder.filter.JwtAuthenticationFilter;
 import com.sasindu.rdsumebuilder.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -69,6 +74,14 @@ public class SecurityConfig {
      */
     private final JwtAuthenticationFilter jwtAuthFilter;
 
+    /**
+     * Inject auth endpoint rate limiter (runs before the JWT filter)
+     */
+    private final AuthRateLimitFilter authRateLimitFilter;
+
+    @Value("${app.security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
     @Value("${app.cors.allowed-origins:http://localhost:5173,http://localhost:5174}")
     private String allowedOrigins;
 
@@ -81,6 +94,15 @@ public class SecurityConfig {
     @Value("${app.cors.allow-credentials:true}")
     private boolean allowCredentials;
 
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    /**
+     * Actuator port, -1 when Actuator shares the application port
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     /**
      * ========================================================================
      * PASSWORD ENCODER BEAN - BCrypt Hashing
@@ -95,14 +117,16 @@ public class SecurityConfig {
      *
      * SECURITY:
      * - Salt: Random data added to password (prevents rainbow table attacks)
-     * - Strength: 10 rounds (higher = more secure but slower)
+     * - Strength: app.security.bcrypt.strength (default 10, higher = more secure but slower)
      * - Each password gets unique hash even if passwords are same!
+     * - AuthService never calls this on request threads: hashing goes through
+     *   PasswordHashingService's bounded executor
      *
-     * @return BCrypt password encoder with strength 10
+     * @return BCrypt password encoder with the configured strength
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+        return new BCryptPasswordEncoder(bcryptStrength);
     }
 
     /**
@@ -147,6 +171,31 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * Actuator on its own port (management.server.port), which is meant for
+     * the metrics scraper and health probes and is not published outside the
+     * host or cluster: open, no JWT. Checked before the application chain.
+     *
+     * When Actuator shares the application port this chain matches nothing,
+     * and the endpoints require authentication like the rest of the API.
+     *
+     * @param http HttpSecurity configuration
+     * @return Filter chain for management requests
+     * @throws Exception if configuration fails
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http) throws Exception {
+        boolean separatePort = managementPort > 0 && managementPort != serverPort;
+        http
+                .securityMatcher(request -> separatePort && request.getLocalPort() == managementPort)
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        return http.build();
+    }
+
     /**
      * ========================================================================
      * SECURITY FILTER CHAIN - Main Security Configuration
@@ -166,6 +215,8 @@ public class SecurityConfig {
      * - GET /api/auth/verify-email
      * - POST /api/auth/forgot-password
      * - POST /api/auth/reset-password
+     * - GET /api/public/resume/{slug} (share links, no JWT filter at all)
+     * - GET /api/public/jwks.json (public keys for verifying access tokens)
      *
      * PROTECTED ENDPOINTS (JWT required):
      * - /api/user/** (user profile, etc.)
@@ -194,9 +245,16 @@ public class SecurityConfig {
                                 "/error" // Error page
                         ).permitAll()
 
+                        // Talent search is for recruiter accounts only
+                        .requestMatchers("/api/talent/**").hasAuthority(User.ROLE_RECRUITER)
+
                         // Allow CORS preflight requests
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // Streamed responses (data export) finish on an async dispatch where
+                        // the JWT filter does not run; the request was authorized on the first one
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // All other endpoints require authentication
                         .anyRequest().authenticated())
 
@@ -209,7 +267,11 @@ public class SecurityConfig {
 
                 // Add JWT filter before UsernamePasswordAuthenticationFilter
                 // This ensures JWT validation happens BEFORE other authentication
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // Throttle login/register/forgot-password/reset-password/verify-email before anything else
+                // Rejected requests never reach the JWT filter, services or MongoDB
+                .addFilterBefore(authRateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -250,6 +312,9 @@ public class SecurityConfig {
             }
         }
 
+        // Let the browser read the current revision on 409 Conflict
+        config.addExposedHeader(RevisionConflictException.REVISION_HEADER);
+
         config.setAllowCredentials(allowCredentials);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
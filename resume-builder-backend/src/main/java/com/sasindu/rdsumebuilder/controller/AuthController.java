@@ -1,12 +1,14 @@
 package com.sasindu.rdsumebuilder.controller;
 
 import com.sasindu.rdsumebuilder.dto.request.LoginRequest;
+import com.sasindu.rdsumebuilder.dto.request.RefreshTokenRequest;
 import com.sasindu.rdsumebuilder.dto.request.RegisterRequest;
 import com.sasindu.rdsumebuilder.dto.response.AuthResponse;
 import com.sasindu.rdsumebuilder.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 //import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -36,6 +38,37 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Refresh endpoint - Rotate refresh token and issue a new access token.
+     *
+     * @param request RefreshTokenRequest containing the current refresh token
+     * @return ResponseEntity with AuthResponse (new token and refresh token)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Logout endpoint - Revoke the current access token and refresh token.
+     * Always succeeds, so logging out twice or with an expired token is harmless.
+     *
+     * @param authHeader Authorization header ("Bearer <token>")
+     * @param request    Optional body with the refresh token to revoke
+     * @return ResponseEntity with success message
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader,
+            @RequestBody(required = false) RefreshTokenRequest request) {
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ")
+                ? authHeader.substring(7)
+                : null;
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.ok("Logged out successfully.");
+    }
+
     /**
      * Verify email with token
      *
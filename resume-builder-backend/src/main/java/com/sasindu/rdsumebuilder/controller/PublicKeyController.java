@@ -0,0 +1,32 @@
+package com.sasindu.rdsumebuilder.controller;
+
+import com.sasindu.rdsumebuilder.util.JwtKeyRing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/public")
+@RequiredArgsConstructor
+public class PublicKeyController {
+
+    private final JwtKeyRing keyRing;
+
+    /**
+     * JWKS endpoint - Public keys for verifying our access tokens.
+     * Other services cache this and verify tokens locally by "kid".
+     *
+     * @return ResponseEntity with {"keys": [...]} (empty in HS256 mode)
+     */
+    @GetMapping("/jwks.json")
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(Map.of("keys", keyRing.getJwks()));
+    }
+}
@@ -0,0 +1,62 @@
+package com.sasindu.rdsumebuilder.controller;
+
+import com.sasindu.rdsumebuilder.html.PublicResumePage;
+import com.sasindu.rdsumebuilder.service.PublicResumeService;
+import com.sasindu.rdsumebuilder.service.ResumeStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/public")
+@RequiredArgsConstructor
+public class PublicResumeController {
+
+    /**
+     * The page is self-contained: inline styles only, nothing else may load
+     */
+    private static final String CONTENT_SECURITY_POLICY = "default-src 'none'; style-src 'unsafe-inline'";
+
+    private final PublicResumeService publicResumeService;
+    private final ResumeStatsService resumeStatsService;
+
+    @Value("${app.share.max-age:1m}")
+    private Duration maxAge;
+
+    /**
+     * Shared resume as an HTML page. No authentication: the JWT filter is
+     * skipped for /api/public/**. Answers 304 when If-None-Match has the
+     * current ETag; only a 200 with the page counts as a public view, so
+     * revalidations by the same browser are not counted again.
+     *
+     * @param slug Slug from the share link
+     * @return HTML page, 404 if nothing is shared under the slug
+     */
+    @GetMapping(value = "/resume/{slug}", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<byte[]> sharedResume(@PathVariable String slug, WebRequest webRequest) {
+        PublicResumePage page = publicResumeService.page(slug)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Resume not found"));
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+        // sets the 304 status and the ETag header
+        if (webRequest.checkNotModified(page.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        resumeStatsService.record(page.userId(), page.resumeId(), ResumeStatsService.Event.PUBLIC_VIEW);
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .eTag(page.etag())
+                .cacheControl(cacheControl)
+                .header("Content-Security-Policy", CONTENT_SECURITY_POLICY)
+                .header("X-Robots-Tag", "noindex")
+                .body(page.html());
+    }
+}
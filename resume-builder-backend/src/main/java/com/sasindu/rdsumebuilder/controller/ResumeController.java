@@ -1,15 +1,39 @@
 package com.sasindu.rdsumebuilder.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sasindu.rdsumebuilder.artifact.RenderedArtifact;
 import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.dto.request.ResumeDeltaRequest;
+import com.sasindu.rdsumebuilder.dto.response.ResumeImportResult;
+import com.sasindu.rdsumebuilder.dto.response.ResumeSaveResponse;
+import com.sasindu.rdsumebuilder.dto.response.ResumeStatsResponse;
+import com.sasindu.rdsumebuilder.dto.response.ResumeSummaryPage;
+import com.sasindu.rdsumebuilder.service.AccountExportService;
+import com.sasindu.rdsumebuilder.service.PdfRenderService;
+import com.sasindu.rdsumebuilder.service.ResumeArchiveService;
+import com.sasindu.rdsumebuilder.service.ResumeImportService;
 import com.sasindu.rdsumebuilder.service.ResumeService;
+import com.sasindu.rdsumebuilder.service.ResumeStatsService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/resume")
@@ -17,6 +41,10 @@ import java.util.List;
 public class ResumeController {
 
     private final ResumeService resumeService;
+    private final ResumeImportService resumeImportService;
+    private final PdfRenderService pdfRenderService;
+    private final ResumeArchiveService resumeArchiveService;
+    private final ResumeStatsService resumeStatsService;
 
     @PostMapping
     public ResponseEntity<Resume> createResume(
@@ -44,15 +72,81 @@ public class ResumeController {
         return ResponseEntity.ok(resumes);
     }
 
+    /**
+     * Dashboard cards: title, template, theme and timestamps only,
+     * newest first, paged with ?cursor= (nextCursor of the previous page)
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ResumeSummaryPage> getResumeSummaries(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userId = userDetails.getUsername();
+        ResumeSummaryPage page = resumeService.getResumeSummaries(userId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Resume> getResumeById(
             @PathVariable String id,
             @AuthenticationPrincipal UserDetails userDetails) {
         String userId = userDetails.getUsername();
         Resume resume = resumeService.getResumeById(id, userId);
+        resumeStatsService.record(userId, id, ResumeStatsService.Event.VIEW);
         return ResponseEntity.ok(resume);
     }
 
+    /**
+     * Daily view and download counts of the user's resumes (UTC days)
+     *
+     * @param from     First day (ISO date), default 29 days before to
+     * @param to       Last day (ISO date), default today
+     * @param resumeId Only this resume
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ResumeStatsResponse> getResumeStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String resumeId,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userId = userDetails.getUsername();
+        return ResponseEntity.ok(resumeStatsService.series(userId, from, to, resumeId));
+    }
+
+    /**
+     * Server-rendered PDF in the resume's template and theme (vector text)
+     */
+    @GetMapping(value = "/{id}/pdf", produces = MediaType.APPLICATION_PDF_VALUE)
+    public ResponseEntity<?> downloadPdf(
+            @PathVariable String id,
+            @AuthenticationPrincipal UserDetails userDetails,
+            HttpServletRequest request) {
+        String userId = userDetails.getUsername();
+        Resume resume = resumeService.getResumeById(id, userId);
+        RenderedArtifact pdf = pdfRenderService.render(resume);
+        resumeStatsService.record(userId, id, ResumeStatsService.Event.DOWNLOAD);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_PDF);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename(pdfFileName(resume), StandardCharsets.UTF_8)
+                .build());
+        return pdf.toResponse(request, headers);
+    }
+
+    /**
+     * All of the user's resumes as PDFs in one zip, streamed as they render
+     */
+    @GetMapping("/export/pdf")
+    public ResponseEntity<StreamingResponseBody> downloadPdfArchive(
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userId = userDetails.getUsername();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resumes.zip\"")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(resumeArchiveService.pdfArchive(userId));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Resume> updateResume(
             @PathVariable String id,
@@ -67,6 +161,36 @@ public class ResumeController {
         return ResponseEntity.ok(updatedResume);
     }
 
+    /**
+     * Partial update with a JSON Merge Patch (RFC 7386).
+     * Example: {"title": "New title", "summary": null, "experience": {"0": {"company": "Acme"}}}
+     * sets the title, removes the summary and changes only the first job's company.
+     */
+    @PatchMapping(value = "/{id}", consumes = { "application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<Resume> patchResume(
+            @PathVariable String id,
+            @RequestBody JsonNode patch,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userId = userDetails.getUsername();
+        Resume updatedResume = resumeService.patchResume(id, userId, patch);
+        return ResponseEntity.ok(updatedResume);
+    }
+
+    /**
+     * Editor autosave: only the changed sections or array elements plus the
+     * revision they are based on. Returns the new revision, or 409 with the
+     * current revision in X-Resume-Revision if another session saved first.
+     */
+    @PatchMapping("/{id}/sections")
+    public ResponseEntity<ResumeSaveResponse> saveSections(
+            @PathVariable String id,
+            @Valid @RequestBody ResumeDeltaRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userId = userDetails.getUsername();
+        ResumeSaveResponse response = resumeService.saveDelta(id, userId, request);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{id}/title")
     public ResponseEntity<Resume> updateResumeTitle(
             @PathVariable String id,
@@ -97,6 +221,43 @@ public class ResumeController {
         return ResponseEntity.ok(updatedResume);
     }
 
+    /**
+     * Opt in or out of recruiter talent search
+     */
+    @PatchMapping("/{id}/discoverable")
+    public ResponseEntity<Resume> updateResumeDiscoverable(
+            @PathVariable String id,
+            @RequestParam boolean discoverable,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userId = userDetails.getUsername();
+        Resume updatedResume = resumeService.updateResumeDiscoverable(id, userId, discoverable);
+        return ResponseEntity.ok(updatedResume);
+    }
+
+    /**
+     * Create (or return) the public share link of a resume
+     */
+    @PostMapping("/{id}/share")
+    public ResponseEntity<Map<String, String>> shareResume(
+            @PathVariable String id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userId = userDetails.getUsername();
+        String slug = resumeService.shareResume(id, userId);
+        return ResponseEntity.ok(Map.of("slug", slug, "path", "/api/public/resume/" + slug));
+    }
+
+    /**
+     * Remove the public share link of a resume
+     */
+    @DeleteMapping("/{id}/share")
+    public ResponseEntity<Void> unshareResume(
+            @PathVariable String id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        String userId = userDetails.getUsername();
+        resumeService.unshareResume(id, userId);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deleteResume(
             @PathVariable String id,
@@ -115,6 +276,18 @@ public class ResumeController {
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * Bulk import from an NDJSON or JSON (JSON Resume, export, or array) body,
+     * streamed; invalid records are reported, not fatal
+     */
+    @PostMapping(value = "/import", consumes = {AccountExportService.NDJSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ResumeImportResult> importResumes(
+            InputStream body,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        String userId = userDetails.getUsername();
+        return ResponseEntity.ok(resumeImportService.importResumes(userId, body));
+    }
+
     @GetMapping("/count")
     public ResponseEntity<?> getResumeCount(
             @AuthenticationPrincipal UserDetails userDetails) {
@@ -126,4 +299,12 @@ public class ResumeController {
 
         return ResponseEntity.ok(response);
     }
+
+    private static String pdfFileName(Resume resume) {
+        String name = resume.getPersonalInfo() != null ? resume.getPersonalInfo().getFullName() : null;
+        if (name == null || name.isBlank()) {
+            name = resume.getTitle() != null && !resume.getTitle().isBlank() ? resume.getTitle() : "resume";
+        }
+        return name.trim().replaceAll("[\\\\/:*?\"<>|]", "_") + ".pdf";
+    }
 }
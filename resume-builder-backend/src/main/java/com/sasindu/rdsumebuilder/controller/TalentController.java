@@ -0,0 +1,37 @@
+package com.sasindu.rdsumebuilder.controller;
+
+import com.sasindu.rdsumebuilder.dto.response.TalentSearchPage;
+import com.sasindu.rdsumebuilder.service.TalentSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Recruiter talent search (ROLE_RECRUITER only, see SecurityConfig).
+ * Covers resumes whose owners opted in with PATCH /api/resume/{id}/discoverable.
+ */
+@RestController
+@RequestMapping("/api/talent")
+@RequiredArgsConstructor
+public class TalentController {
+
+    private final TalentSearchService talentSearchService;
+
+    /**
+     * Example: /api/talent/search?skills=Java,Kubernetes&location=Colombo&q=backend engineer&page=0&size=20
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TalentSearchPage> search(
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) String location,
+            @RequestParam(name = "q", required = false) String keywords,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(talentSearchService.search(skills, location, keywords, page, size));
+    }
+}
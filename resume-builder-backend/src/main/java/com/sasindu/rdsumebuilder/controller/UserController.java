@@ -1,12 +1,18 @@
 package com.sasindu.rdsumebuilder.controller;
 
 import com.sasindu.rdsumebuilder.document.User;
+import com.sasindu.rdsumebuilder.service.AccountExportService;
 import com.sasindu.rdsumebuilder.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/user")
@@ -14,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final AccountExportService accountExportService;
 
     @GetMapping("/profile")
     public ResponseEntity<User> getProfile(
@@ -57,4 +64,27 @@ public class UserController {
 
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * Download the profile and all resumes (data portability), streamed
+     *
+     * @param format ndjson (default) or zip
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportAccount(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        String email = userDetails.getUsername();
+        return switch (format) {
+            case "ndjson" -> ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resume-builder-export.ndjson\"")
+                    .contentType(MediaType.parseMediaType(AccountExportService.NDJSON))
+                    .body(accountExportService.ndjson(email));
+            case "zip" -> ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"resume-builder-export.zip\"")
+                    .contentType(MediaType.parseMediaType("application/zip"))
+                    .body(accountExportService.zip(email));
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be ndjson or zip");
+        };
+    }
 }
@@ -0,0 +1,67 @@
+package com.sasindu.rdsumebuilder.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh token issued at login and rotated on every refresh.
+ * Stored in MongoDB "refresh_tokens" collection.
+ *
+ * Only the SHA-256 digest of the token is stored. Tokens from one login share
+ * a familyId; presenting an already-used token revokes the whole family.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "refresh_tokens")
+public class RefreshToken {
+
+    @Id
+    private String id;
+
+    /**
+     * SHA-256 digest of the raw token
+     */
+    @Indexed(unique = true)
+    private String tokenHash;
+
+    /**
+     * Rotation chain this token belongs to (one per login)
+     */
+    @Indexed
+    private String familyId;
+
+    /**
+     * Owner's email (JWT subject)
+     */
+    @Indexed
+    private String email;
+
+    /**
+     * User's tokenVersion at issue time; a bump (lock, password reset) invalidates it
+     */
+    private Long tokenVersion;
+
+    /**
+     * MongoDB removes the document once this time has passed (TTL index)
+     */
+    @Indexed(expireAfter = "0s")
+    private LocalDateTime expiresAt;
+
+    /**
+     * Set when the token is rotated; a second use means it was stolen
+     */
+    private LocalDateTime usedAt;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+}
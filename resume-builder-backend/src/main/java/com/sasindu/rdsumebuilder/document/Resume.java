@@ -1,5 +1,9 @@
 package com.sasindu.rdsumebuilder.document;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -7,6 +11,10 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -16,12 +24,25 @@ import java.util.List;
  * Resume entity representing a user's resume document.
  * Stored in MongoDB "resumes" collection.
  * One User → Many Resumes relationship.
+ *
+ * Indexes (built at startup by MongoIndexManager):
+ * - userId + updatedAt + _id: every per-user lookup, count and delete, and the
+ *   dashboard's newest-first keyset pages
+ * - userId + title: title search within a user's resumes
+ * - updatedAt: resumes changed since the last search index sync
+ * - shareSlug (unique, sparse): public share link lookup
+ *
+ * Validation constraints are checked on bulk import (ResumeImportService).
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @Document(collection = "resumes")
+@CompoundIndexes({
+        @CompoundIndex(name = "userId_updatedAt", def = "{ 'userId': 1, 'updatedAt': -1, '_id': -1 }"),
+        @CompoundIndex(name = "userId_title", def = "{ 'userId': 1, 'title': 1 }")
+})
 public class Resume {
 
     @Id
@@ -39,6 +60,8 @@ public class Resume {
     /**
      * Resume title/name
      */
+    @NotBlank(message = "Title is required")
+    @Size(max = 200)
     private String title;
 
     /**
@@ -62,44 +85,74 @@ public class Resume {
     /**
      * Personal information section
      */
+    @Valid
     private PersonalInfo personalInfo;
 
     /**
      * Professional summary/objective
      */
+    @Size(max = 10000)
     private String summary;
 
     /**
      * Education entries
      */
-    private List<Education> education;
+    @Size(max = 200)
+    private List<@Valid Education> education;
 
     /**
      * Work experience entries
      */
-    private List<Experience> experience;
+    @Size(max = 200)
+    private List<@Valid Experience> experience;
 
     /**
      * List of skills
      */
-    private List<Skill> skills;
+    @Size(max = 200)
+    private List<@Valid Skill> skills;
 
     /**
      * List of projects
      */
-    private List<Project> projects;
+    @Size(max = 200)
+    private List<@Valid Project> projects;
 
     /**
      * List of certifications
      * Example: AWS Certified, Google Cloud Professional
      */
-    private List<Certification> certifications;
+    @Size(max = 200)
+    private List<@Valid Certification> certifications;
 
     /**
      * List of languages known
      * Example: English (Native), Spanish (Fluent)
      */
-    private List<Language> languages;
+    @Size(max = 200)
+    private List<@Valid Language> languages;
+
+    /**
+     * Opt-in to recruiter talent search (off by default)
+     */
+    @Builder.Default
+    private Boolean discoverable = false;
+
+    /**
+     * Slug of the public share link (/api/public/resume/{slug}),
+     * null while the resume is not shared
+     */
+    @Indexed(unique = true, sparse = true)
+    private String shareSlug;
+
+    /**
+     * Optimistic concurrency revision, incremented on every write.
+     * Clients send the revision they last saw, and stale writes are rejected
+     * with 409 instead of overwriting newer edits (two tabs, two devices).
+     * Null until first saved; resumes created before revisions count as 0.
+     */
+    @Version
+    private Long revision;
 
     // ========================================================================
     // TIMESTAMPS
@@ -115,8 +168,13 @@ public class Resume {
      * When resume was last modified
      */
     @LastModifiedDate
+    @Indexed
     private LocalDateTime updatedAt;
 
+    public long getRevisionOrDefault() {
+        return revision != null ? revision : 0L;
+    }
+
     /**
      * Personal Information Section
      */
@@ -125,7 +183,9 @@ public class Resume {
     @AllArgsConstructor
     @Builder
     public static class PersonalInfo {
+        @Size(max = 200)
         private String fullName;
+        @Email
         private String email;
         private String phone;
         private String location;
@@ -144,8 +204,11 @@ public class Resume {
     @AllArgsConstructor
     @Builder
     public static class Education {
+        @Size(max = 200)
         private String degree;
+        @Size(max = 200)
         private String fieldOfStudy;
+        @Size(max = 200)
         private String institution;
         private String location;
         private String startDate;
@@ -162,13 +225,18 @@ public class Resume {
     @AllArgsConstructor
     @Builder
     public static class Experience {
+        @Size(max = 200)
         private String jobTitle;
+        @Size(max = 200)
         private String company;
         private String location;
         private String startDate;
         private String endDate;
         private Boolean isCurrentJob;
+        @Size(max = 10000)
         private String description;
+        private String responsibilities;
+        private List<String> technologies;
         private List<String> achievements;
     }
 
@@ -180,6 +248,8 @@ public class Resume {
     @AllArgsConstructor
     @Builder
     public static class Skill {
+        @NotBlank(message = "Skill name is required")
+        @Size(max = 100)
         private String name;
         private String category;
         private String level;
@@ -193,7 +263,9 @@ public class Resume {
     @AllArgsConstructor
     @Builder
     public static class Project {
+        @Size(max = 200)
         private String name;
+        @Size(max = 10000)
         private String description;
         private String startDate;
         private String endDate;
@@ -210,6 +282,8 @@ public class Resume {
     @AllArgsConstructor
     @Builder
     public static class Certification {
+        @NotBlank(message = "Certification name is required")
+        @Size(max = 200)
         private String name;
         private String issuer;
         private String issueDate;
@@ -226,6 +300,8 @@ public class Resume {
     @AllArgsConstructor
     @Builder
     public static class Language {
+        @NotBlank(message = "Language name is required")
+        @Size(max = 100)
         private String name;
         private String proficiency;
     }
@@ -0,0 +1,63 @@
+package com.sasindu.rdsumebuilder.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * View and download counts of one resume on one day (UTC).
+ * Stored in MongoDB "resume_daily_stats" collection.
+ *
+ * Written only by ResumeStatsService, as batched $inc upserts; the id is
+ * derived from resume and day so concurrent flushes from several nodes
+ * land in the same document.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "resume_daily_stats")
+@CompoundIndex(name = "userId_day", def = "{ 'userId': 1, 'day': 1 }")
+public class ResumeDailyStats {
+
+    /**
+     * resumeId:day
+     */
+    @Id
+    private String id;
+
+    /**
+     * Owner of the resume (user's email)
+     */
+    private String userId;
+
+    private String resumeId;
+
+    /**
+     * ISO date (2024-03-15), sorts and compares as a string
+     */
+    private String day;
+
+    /**
+     * Opened by the owner (GET /api/resume/{id})
+     */
+    private long views;
+
+    /**
+     * Opened through the public share link
+     */
+    private long publicViews;
+
+    /**
+     * Downloaded as PDF, alone or in the zip of all resumes
+     */
+    private long downloads;
+
+    public static String id(String resumeId, String day) {
+        return resumeId + ":" + day;
+    }
+}
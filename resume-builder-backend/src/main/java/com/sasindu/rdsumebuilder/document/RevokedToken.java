@@ -0,0 +1,41 @@
+package com.sasindu.rdsumebuilder.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Access token revoked before its expiry (logout).
+ * Stored in MongoDB "revoked_tokens" collection.
+ * Documents disappear once the token would have expired anyway (TTL index).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document(collection = "revoked_tokens")
+public class RevokedToken {
+
+    @Id
+    private String id;
+
+    /**
+     * JWT ID (jti claim) of the revoked token
+     */
+    @Indexed(unique = true)
+    private String jti;
+
+    /**
+     * Token's own expiry; MongoDB removes the document after this time
+     */
+    @Indexed(expireAfter = "0s")
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime revokedAt;
+}
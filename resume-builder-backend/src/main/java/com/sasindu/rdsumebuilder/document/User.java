@@ -11,6 +11,7 @@ import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * User entity representing application users.
@@ -23,6 +24,9 @@ import java.time.LocalDateTime;
 @Document(collection = "users")
 public class User {
 
+    public static final String ROLE_USER = "ROLE_USER";
+    public static final String ROLE_RECRUITER = "ROLE_RECRUITER";
+
     @Id
     private String id;
 
@@ -47,21 +51,53 @@ public class User {
     @Builder.Default
     private Boolean isEmailVerified = false;
 
+    // Sparse: only users with a pending verification/reset have a token
+    @Indexed(sparse = true)
     private String verificationToken;
     private LocalDateTime verificationTokenExpiry;
 
+    @Indexed(sparse = true)
     private String passwordResetToken;
     private LocalDateTime passwordResetTokenExpiry;
 
     @Builder.Default
     private Boolean isActive = true;
 
+    /**
+     * Recruiter accounts can search discoverable resumes (/api/talent).
+     * Granted by an operator in the users collection, never by the API.
+     */
+    @Builder.Default
+    private Boolean isRecruiter = false;
+
     @Builder.Default
     private Boolean isLocked = false;
 
     @Builder.Default
     private Integer failedLoginAttempts = 0;
 
+    /**
+     * Embedded in every JWT. Bumping it revokes all tokens issued before
+     * (account lock, password reset).
+     */
+    @Builder.Default
+    private Long tokenVersion = 0L;
+
+    /**
+     * Number of resumes the user owns, kept by ResumeQuotaService on create
+     * and delete (atomic $inc) and reconciled periodically against the
+     * resumes collection. Null until seeded: register sets 0, accounts
+     * created before the counter get it from ResumeQuotaService on first
+     * use. No default here, since the mapper instantiates users through the
+     * no-arg constructor and a default would hide a missing field.
+     */
+    private Long resumeCount;
+
+    /**
+     * Last change of resumeCount (the reconciler skips recent ones)
+     */
+    private LocalDateTime resumeCountUpdatedAt;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
@@ -90,6 +126,17 @@ public class User {
         return LocalDateTime.now().isBefore(verificationTokenExpiry);
     }
 
+    /**
+     * Granted authorities (also embedded in access tokens)
+     */
+    public List<String> authorities() {
+        return Boolean.TRUE.equals(isRecruiter) ? List.of(ROLE_USER, ROLE_RECRUITER) : List.of(ROLE_USER);
+    }
+
+    public long getTokenVersionOrDefault() {
+        return tokenVersion != null ? tokenVersion : 0L;
+    }
+
     public boolean isPasswordResetTokenValid() {
         if (passwordResetToken == null || passwordResetTokenExpiry == null) {
             return false;
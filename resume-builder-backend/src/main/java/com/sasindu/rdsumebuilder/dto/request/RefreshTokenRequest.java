@@ -0,0 +1,21 @@
+package com.sasindu.rdsumebuilder.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request body for POST /api/auth/refresh
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenRequest {
+
+    /**
+     * Refresh token from the last login or refresh
+     */
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
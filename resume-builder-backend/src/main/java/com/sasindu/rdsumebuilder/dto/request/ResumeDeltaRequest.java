@@ -0,0 +1,31 @@
+package com.sasindu.rdsumebuilder.dto.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request body for PATCH /api/resume/{id}/sections (editor autosave)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeDeltaRequest {
+
+    /**
+     * Revision the editor last loaded or saved
+     */
+    @NotNull(message = "Base revision is required")
+    @PositiveOrZero(message = "Base revision cannot be negative")
+    private Long baseRevision;
+
+    /**
+     * Changed sections in JSON Merge Patch form, e.g.
+     * {"summary": "...", "experience": {"1": {"company": "Acme"}}}
+     */
+    @NotNull(message = "Changes are required")
+    private JsonNode changes;
+}
@@ -27,14 +27,14 @@ public class AuthResponse {
      * JWT Access Token
      * Client stores this and sends in Authorization header for API requests
      * Example: "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."
-     * Valid for 24 hours (configurable in application.properties)
+     * Short-lived: 15 minutes by default (jwt.expiration), renewed via /api/auth/refresh
      */
     private String token;
 
     /**
-     * JWT Refresh Token (Optional - for later implementation)
-     * Used to get new access token without logging in again
-     * Valid for 7 days (longer than access token)
+     * Refresh Token (opaque, single use)
+     * Sent to POST /api/auth/refresh to get a new access token without logging in again
+     * Rotated on every refresh, valid for 7 days (jwt.refresh.expiration)
      */
     private String refreshToken;
 
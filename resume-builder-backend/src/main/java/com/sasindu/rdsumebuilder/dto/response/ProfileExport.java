@@ -0,0 +1,47 @@
+package com.sasindu.rdsumebuilder.dto.response;
+
+import com.sasindu.rdsumebuilder.document.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Account data included in an export (no password hash, tokens or counters)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProfileExport {
+
+    private String email;
+    private String firstName;
+    private String lastName;
+    private String phone;
+    private String profileImageUrl;
+    private String subscriptionPlan;
+    private Boolean isPremium;
+    private LocalDateTime premiumExpiryDate;
+    private Boolean isEmailVerified;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ProfileExport from(User user) {
+        return ProfileExport.builder()
+                .email(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .phone(user.getPhone())
+                .profileImageUrl(user.getProfileImageUrl())
+                .subscriptionPlan(user.getSubscriptionPlan())
+                .isPremium(user.getIsPremium())
+                .premiumExpiryDate(user.getPremiumExpiryDate())
+                .isEmailVerified(user.getIsEmailVerified())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.sasindu.rdsumebuilder.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: counts plus the first errors (capped)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeImportResult {
+
+    /**
+     * Resume records read (profile lines of an export are not counted)
+     */
+    private int received;
+    private int imported;
+    private int failed;
+    private List<RecordError> errors;
+
+    /**
+     * More records failed than are listed in errors
+     */
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecordError {
+
+        /**
+         * 1-based position of the record in the file
+         */
+        private int record;
+
+        /**
+         * Line where the record starts
+         */
+        private int line;
+
+        private String message;
+    }
+}
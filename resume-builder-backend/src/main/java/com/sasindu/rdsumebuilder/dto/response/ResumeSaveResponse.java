@@ -0,0 +1,28 @@
+package com.sasindu.rdsumebuilder.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response after a delta save: just enough for the editor to base its
+ * next save on, instead of echoing the whole resume back
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeSaveResponse {
+
+    private String id;
+
+    /**
+     * New revision, send it as baseRevision with the next save
+     */
+    private Long revision;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,74 @@
+package com.sasindu.rdsumebuilder.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daily view and download counts of a user's resumes over a date range.
+ * Series are sparse: days without any view or download are left out.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeStatsResponse {
+
+    /**
+     * First day of the range (UTC, inclusive)
+     */
+    private LocalDate from;
+
+    /**
+     * Last day of the range (UTC, inclusive)
+     */
+    private LocalDate to;
+
+    /**
+     * Resumes with activity in the range, most viewed first
+     */
+    private List<ResumeSeries> resumes;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ResumeSeries {
+        private String resumeId;
+
+        /**
+         * Totals over the range
+         */
+        private Counts totals;
+
+        /**
+         * Oldest day first
+         */
+        private List<DailyCounts> days;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyCounts {
+        private LocalDate day;
+        private Counts counts;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Counts {
+        private long views;
+        private long publicViews;
+        private long downloads;
+
+        public long total() {
+            return views + publicViews + downloads;
+        }
+    }
+}
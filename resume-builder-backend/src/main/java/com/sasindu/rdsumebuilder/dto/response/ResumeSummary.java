@@ -0,0 +1,37 @@
+package com.sasindu.rdsumebuilder.dto.response;
+
+import com.sasindu.rdsumebuilder.document.Resume;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dashboard card data for one resume (no sections, no content blob)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeSummary {
+
+    private String id;
+    private String title;
+    private String template;
+    private String colorTheme;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ResumeSummary from(Resume resume) {
+        return ResumeSummary.builder()
+                .id(resume.getId())
+                .title(resume.getTitle())
+                .template(resume.getTemplate())
+                .colorTheme(resume.getColorTheme())
+                .createdAt(resume.getCreatedAt())
+                .updatedAt(resume.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sasindu.rdsumebuilder.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of resume summaries, most recently updated first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeSummaryPage {
+
+    private List<ResumeSummary> items;
+
+    /**
+     * Pass as ?cursor= to get the next page, null on the last page
+     */
+    private String nextCursor;
+}
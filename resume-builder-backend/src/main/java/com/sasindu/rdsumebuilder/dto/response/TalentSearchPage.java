@@ -0,0 +1,35 @@
+package com.sasindu.rdsumebuilder.dto.response;
+
+import com.sasindu.rdsumebuilder.search.TalentIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of recruiter talent search results
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TalentSearchPage {
+
+    private List<TalentIndex.Profile> items;
+
+    private int page;
+    private int size;
+
+    /**
+     * Number of matching resumes (only the first max-window can be paged to)
+     */
+    private int total;
+
+    /**
+     * Most frequent skills and locations among all matches, for narrowing down
+     */
+    private List<TalentIndex.FacetCount> skillFacets;
+    private List<TalentIndex.FacetCount> locationFacets;
+}
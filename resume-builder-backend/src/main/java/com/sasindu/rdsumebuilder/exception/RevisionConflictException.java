@@ -0,0 +1,34 @@
+package com.sasindu.rdsumebuilder.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when a resume write was based on an outdated revision
+ * (another tab or device saved first).
+ * Resolved by Spring MVC to 409 Conflict with the current revision in the
+ * X-Resume-Revision header, so the client can reload and retry.
+ */
+public class RevisionConflictException extends ResponseStatusException {
+
+    public static final String REVISION_HEADER = "X-Resume-Revision";
+
+    private final long currentRevision;
+
+    public RevisionConflictException(long currentRevision) {
+        super(HttpStatus.CONFLICT, "Resume was modified by another session (current revision " + currentRevision + ")");
+        this.currentRevision = currentRevision;
+    }
+
+    public long getCurrentRevision() {
+        return currentRevision;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(REVISION_HEADER, String.valueOf(currentRevision));
+        return headers;
+    }
+}
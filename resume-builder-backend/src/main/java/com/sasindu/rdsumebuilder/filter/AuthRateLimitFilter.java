@@ -0,0 +1,159 @@
+package com.sasindu.rdsumebuilder.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sasindu.rdsumebuilder.ratelimit.RateLimitStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Throttles the public auth endpoints per client IP and per email.
+ *
+ * Runs before JwtAuthenticationFilter (see SecurityConfig). A rejected request
+ * gets 429 Too Many Requests straight from memory: no controller, no service
+ * and no MongoDB read or write (failed logins used to cost a write each).
+ *
+ * - IP key: every limited endpoint
+ * - Email key: login/register (JSON body) and forgot-password (request param)
+ *
+ * Login and register bodies must have a Content-Length of at most MAX_BODY
+ * (411/413 otherwise), so padding or chunking a body cannot skip the email key.
+ */
+@Slf4j
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> LIMITED_PATHS = Set.of(
+            "/api/auth/login",
+            "/api/auth/register",
+            "/api/auth/forgot-password",
+            "/api/auth/reset-password",
+            "/api/auth/verify-email");
+
+    /**
+     * Endpoints that take the email in a JSON body
+     */
+    private static final Set<String> JSON_BODY_PATHS = Set.of(
+            "/api/auth/login",
+            "/api/auth/register");
+
+    /**
+     * Largest body accepted on JSON_BODY_PATHS (auth bodies are tiny). The
+     * whole body is parsed for the email key, so larger or unknown-length
+     * bodies are refused instead of skipping the email limit.
+     */
+    private static final int MAX_BODY = 8 * 1024;
+
+    private final RateLimitStore rateLimitStore;
+    private final ObjectMapper objectMapper;
+    private final Counter rejectedCounter;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.window:1m}")
+    private Duration window;
+
+    @Value("${app.rate-limit.ip-limit:30}")
+    private int ipLimit;
+
+    @Value("${app.rate-limit.email-limit:10}")
+    private int emailLimit;
+
+    public AuthRateLimitFilter(RateLimitStore rateLimitStore, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        this.rateLimitStore = rateLimitStore;
+        this.objectMapper = objectMapper;
+        this.rejectedCounter = Counter.builder("auth.rate_limit.rejected")
+                .description("Auth requests rejected by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || !LIMITED_PATHS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getServletPath();
+        long now = System.currentTimeMillis();
+        long windowMillis = window.toMillis();
+
+        if (!rateLimitStore.tryAcquire(path + "|ip|" + request.getRemoteAddr(), ipLimit, windowMillis, now)) {
+            reject(response);
+            return;
+        }
+
+        HttpServletRequest forwarded = request;
+        String email = request.getParameter("email");
+        if (email == null && JSON_BODY_PATHS.contains(path)) {
+            long length = request.getContentLengthLong();
+            if (length < 0) {
+                refuse(response, HttpStatus.LENGTH_REQUIRED, "Content-Length is required.");
+                return;
+            }
+            if (length > MAX_BODY) {
+                refuse(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large.");
+                return;
+            }
+            if (length > 0) {
+                CachedBodyHttpServletRequest cached = new CachedBodyHttpServletRequest(request);
+                email = extractEmail(cached.getBody());
+                forwarded = cached;
+            }
+        }
+
+        if (email != null && !email.isBlank()) {
+            String emailKey = path + "|email|" + email.trim().toLowerCase(Locale.ROOT);
+            if (!rateLimitStore.tryAcquire(emailKey, emailLimit, windowMillis, now)) {
+                reject(response);
+                return;
+            }
+        }
+
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText() : null;
+        } catch (IOException e) {
+            // Malformed body: let the controller report it
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        rejectedCounter.increment();
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, window.toSeconds())));
+        refuse(response, HttpStatus.TOO_MANY_REQUESTS, "Too many requests. Please try again later.");
+    }
+
+    private void refuse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+}
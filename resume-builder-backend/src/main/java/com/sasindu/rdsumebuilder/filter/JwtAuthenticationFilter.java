@@ -1,12 +1,15 @@
 package com.sasindu.rdsumebuilder.filter;
 
 import com.sasindu.rdsumebuilder.service.CustomUserDetailsService;
-import com.sasindu.rdsumebuilder.util.JwtUtil;
+import com.sasindu.rdsumebuilder.service.TokenRevocationService;
+import com.sasindu.rdsumebuilder.util.CachedTokenVerifier;
+import com.sasindu.rdsumebuilder.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * ============================================================================
@@ -80,10 +84,10 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     /**
-     * JWT utility to validate tokens and extract user info
+     * Verifies tokens (via JwtUtil) with a cache of already-verified tokens
      * Injected via constructor (@RequiredArgsConstructor)
      */
-    private final JwtUtil jwtUtil;
+    private final CachedTokenVerifier tokenVerifier;
 
     /**
      * Service to load user details from database
@@ -91,6 +95,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      */
     private final CustomUserDetailsService userDetailsService;
 
+    /**
+     * Logout revocations (Bloom filter first, MongoDB only on probable hits)
+     */
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * Stateless mode: build the principal from token claims instead of MongoDB.
+     * Tokens without embedded claims still go through the database path.
+     */
+    @Value("${app.security.stateless-auth.enabled:false}")
+    private boolean statelessAuthEnabled;
+
+    /**
+     * Public auth endpoints (login, register, verify-email, ...) and public
+     * resources (share links, JWKS) never need a token, so the filter is
+     * skipped for them entirely: no token parsing, no user lookup.
+     *
+     * @param request The incoming HTTP request
+     * @return true if this filter should not run
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return path.startsWith("/api/auth/") || path.startsWith("/api/public/");
+    }
+
     /**
      * ========================================================================
      * MAIN FILTER METHOD - Runs for Every Request
@@ -152,11 +182,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         // ====================================================================
-        // STEP 4: Extract Email from JWT Token
+        // STEP 4: Verify JWT Token (single parse)
         // ====================================================================
-        // Use JwtUtil to extract the "subject" (email) from token
-        // The "subject" is the primary identifier we stored in the token
-        userEmail = jwtUtil.extractUsername(jwt);
+        // Parse the token ONCE: signature, expiration and subject are all
+        // checked here, and the result is reused for the rest of the request.
+        // Tokens seen before are served from the verified token cache until
+        // they expire. Invalid or expired tokens give an empty result.
+        Optional<VerifiedToken> verified = tokenVerifier.verify(jwt)
+                // Logged-out tokens stay signed and unexpired, so check revocation too.
+                // A Bloom filter answers almost every check without touching MongoDB.
+                .filter(token -> !tokenRevocationService.isRevoked(token));
 
         // ====================================================================
         // STEP 5: Check if User is Already Authenticated
@@ -168,9 +203,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // - If user is already authenticated in this request, skip validation
         // - Prevents redundant database lookups
         // - Improves performance
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            // User email found in token AND user not yet authenticated
+        if (verified.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Token verified AND user not yet authenticated
             // → Proceed with authentication
+            userEmail = verified.get().subject();
 
             // ================================================================
             // STEP 6: Load User Details from Database
@@ -181,17 +217,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 2. User account is not locked
             // 3. User email is verified
             // 4. User has correct roles/authorities
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            //
+            // In stateless mode the principal comes from the token claims instead,
+            // and only the token version is checked (revoked tokens are rejected)
+            UserDetails userDetails;
+            if (statelessAuthEnabled && verified.get().hasEmbeddedAuthorities()) {
+                userDetails = this.userDetailsService.loadUserFromToken(verified.get()).orElse(null);
+            } else {
+                userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            }
 
             // ================================================================
-            // STEP 7: Validate JWT Token
+            // STEP 7: Match Token Subject to Loaded User
             // ================================================================
-            // Check if token is valid for this user
-            // Validation includes:
-            // 1. Token signature is correct (not tampered with)
-            // 2. Token is not expired
-            // 3. Token subject matches the loaded user
-            if (jwtUtil.isTokenValid(jwt, userDetails)) {
+            // Signature and expiration were already checked in STEP 4,
+            // so only the subject has to match the loaded user
+            if (userDetails != null && userEmail.equals(userDetails.getUsername())) {
                 // Token is VALID! → Authenticate the user
 
                 // ============================================================
@@ -335,8 +376,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * This filter connects with:
      *
      * 1. JwtUtil (Phase 7):
-     * - extractUsername(jwt) → Get email from token
-     * - isTokenValid(jwt, userDetails) → Validate token
+     * - verifyToken(jwt) → Parse, verify and read the token in one pass
+     * (called through CachedTokenVerifier, which skips repeat tokens)
      *
      * 2. CustomUserDetailsService (Phase 9):
      * - loadUserByUsername(email) → Load user from MongoDB
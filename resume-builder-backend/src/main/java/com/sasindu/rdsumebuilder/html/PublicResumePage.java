@@ -0,0 +1,22 @@
+package com.sasindu.rdsumebuilder.html;
+
+import com.sasindu.rdsumebuilder.util.TokenDigest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Rendered public share page of a resume, as cached and served
+ *
+ * @param resumeId Resume ID
+ * @param userId   Owner (user's email), for evicting a user's pages
+ * @param slug     Share link slug the page was rendered for
+ * @param html     UTF-8 HTML document
+ * @param etag     Strong ETag (quoted SHA-256 of the HTML)
+ */
+public record PublicResumePage(String resumeId, String userId, String slug, byte[] html, String etag) {
+
+    public static PublicResumePage of(String resumeId, String userId, String slug, String html) {
+        return new PublicResumePage(resumeId, userId, slug, html.getBytes(StandardCharsets.UTF_8),
+                "\"" + TokenDigest.sha256(html) + "\"");
+    }
+}
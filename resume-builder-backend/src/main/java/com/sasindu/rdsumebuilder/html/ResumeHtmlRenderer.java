@@ -0,0 +1,623 @@
+package com.sasindu.rdsumebuilder.html;
+
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.pdf.PdfTemplate;
+import com.sasindu.rdsumebuilder.pdf.PdfTheme;
+import org.springframework.web.util.HtmlUtils;
+
+import java.awt.Color;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Renders a resume as a standalone HTML page (public share link) in the
+ * layout of its editor template and color theme, with the same sections
+ * and ordering as ResumePdfRenderer.
+ *
+ * The page is self-contained: one inline style sheet, no scripts, images
+ * or external resources, so it can be served with a strict
+ * Content-Security-Policy. All resume text is HTML-escaped; only http(s)
+ * and mailto links are emitted. The profile image is not rendered.
+ *
+ * Stateless and thread-safe.
+ */
+public final class ResumeHtmlRenderer {
+
+    private static final DateTimeFormatter MONTH_YEAR = DateTimeFormatter.ofPattern("MMM yyyy", Locale.ENGLISH);
+    private static final Pattern WEB_URL = Pattern.compile("(?i)https?://\\S+");
+    private static final Pattern BARE_DOMAIN = Pattern.compile("(?i)[a-z0-9-]+(\\.[a-z0-9-]+)+(/\\S*)?");
+    private static final String DATE_SEPARATOR = " - ";
+
+    private static final String BASE_CSS = """
+            *{box-sizing:border-box;margin:0;padding:0}
+            html{background:#f3f4f6}
+            body{font-family:var(--font);color:var(--text);font-size:14px;line-height:1.55}
+            .resume{max-width:820px;margin:32px auto;background:#fff;padding:44px;box-shadow:0 1px 4px rgba(0,0,0,.12)}
+            h1{font-size:2.1em;line-height:1.2}
+            h3{font-size:1.05em}
+            a{color:inherit;text-decoration:none}
+            a:hover{text-decoration:underline}
+            .contact{list-style:none;display:flex;flex-wrap:wrap;gap:2px 18px;margin-top:6px;color:var(--light);font-size:.92em}
+            section{margin-top:20px}
+            h2{margin-bottom:8px}
+            .entry+.entry{margin-top:12px}
+            .entry-head{display:flex;justify-content:space-between;align-items:baseline;gap:12px}
+            .dates{white-space:nowrap;color:var(--light);font-size:.9em}
+            .entry p,.entry ul{margin-top:3px}
+            .text{white-space:pre-line}
+            .bullets{padding-left:18px}
+            .bullets li::marker{color:var(--primary)}
+            .note{color:var(--light);font-size:.88em}
+            .chips{list-style:none;display:flex;flex-wrap:wrap;gap:6px}
+            .chips li{padding:2px 11px;border-radius:999px;font-size:.88em}
+            @media (max-width:640px){.resume{margin:0;padding:22px}.entry-head{flex-direction:column;gap:0}}
+            @media print{html{background:none}.resume{margin:0;padding:0;box-shadow:none;max-width:none}}
+            """;
+
+    private static final Map<PdfTemplate, String> TEMPLATE_CSS = Map.of(
+            PdfTemplate.MODERN, """
+                    :root{--font:Inter,-apple-system,'Segoe UI',Helvetica,Arial,sans-serif}
+                    header{padding-bottom:14px;border-bottom:3px solid var(--primary)}
+                    h1,h2{color:var(--primary)}
+                    h2{font-size:1.2em}
+                    h3{color:var(--secondary)}
+                    .chips li{background:var(--primary-15);color:var(--primary);font-weight:500}
+                    """,
+            PdfTemplate.CLASSIC, """
+                    :root{--font:Georgia,'Times New Roman',Times,serif}
+                    header{text-align:center;padding-bottom:14px;border-bottom:1.5px solid var(--secondary)}
+                    h1{color:var(--secondary)}
+                    .contact{justify-content:center;gap:2px 0}
+                    .contact li+li::before{content:"\\2022";margin:0 10px}
+                    h2{font-size:1.05em;letter-spacing:1px;color:var(--secondary);padding-bottom:3px;border-bottom:.75px solid var(--border)}
+                    .subtitle,.dates{font-style:italic;color:var(--light)}
+                    """,
+            PdfTemplate.MINIMAL, """
+                    :root{--font:'Helvetica Neue',Helvetica,Arial,sans-serif}
+                    body{font-weight:300}
+                    .resume{padding:64px}
+                    h1{font-size:2.4em;font-weight:300}
+                    .contact{font-size:.85em;gap:2px 28px}
+                    section{margin-top:28px}
+                    h2{font-size:.75em;font-weight:400;letter-spacing:2px;color:var(--light)}
+                    h3{font-weight:600}
+                    .subtitle{color:var(--light)}
+                    @media (max-width:640px){.resume{padding:24px}}
+                    """,
+            PdfTemplate.PROFESSIONAL, """
+                    :root{--font:'Segoe UI',Helvetica,Arial,sans-serif}
+                    .resume{display:grid;grid-template-columns:1fr 2fr;padding:0}
+                    aside{background:var(--primary-10);padding:32px 22px}
+                    .main{padding:32px 30px}
+                    header{padding-bottom:10px;border-bottom:2px solid var(--primary)}
+                    h1,h2{color:var(--primary)}
+                    h2{font-size:1.05em;letter-spacing:.5px;padding-bottom:3px;border-bottom:1px solid var(--border)}
+                    aside h2{font-size:.8em;letter-spacing:.6px;border:0;margin-bottom:6px}
+                    aside section:first-child{margin-top:0}
+                    aside ul{list-style:none;font-size:.9em}
+                    aside li+li{margin-top:6px}
+                    .subtitle{color:var(--secondary)}
+                    .bar{display:grid;grid-template-columns:repeat(4,1fr);gap:3px;margin-top:3px}
+                    .bar span{height:4px;border-radius:2px;background:var(--border)}
+                    .bar span.on{background:var(--primary)}
+                    @media (max-width:640px){.resume{display:block}}
+                    """,
+            PdfTemplate.CREATIVE, """
+                    :root{--font:Poppins,-apple-system,'Segoe UI',Helvetica,Arial,sans-serif}
+                    header{border-left:5px solid var(--accent);border-radius:3px;padding-left:16px}
+                    h1,h2{color:var(--primary)}
+                    .contact li::before{content:"";display:inline-block;width:5px;height:5px;border-radius:50%;background:var(--accent);margin-right:6px;vertical-align:middle}
+                    .summary{background:var(--primary-06);border-radius:6px;padding:12px 14px}
+                    h2{font-size:1.25em;display:flex;align-items:center;gap:10px}
+                    h2::before{content:"";width:20px;height:4px;border-radius:2px;background:var(--accent)}
+                    .entry{position:relative;padding-left:18px}
+                    .entry::before{content:"";position:absolute;left:0;top:.45em;width:7px;height:7px;border-radius:50%;border:1.5px solid var(--accent);background:#fff}
+                    .subtitle{color:var(--accent);font-weight:600}
+                    .dates{background:var(--primary-12);color:var(--primary);font-weight:600;font-size:.78em;padding:1px 9px;border-radius:999px}
+                    .chips li{background:var(--accent-12);border:1px solid var(--accent);color:var(--secondary)}
+                    """);
+
+    /**
+     * Render a resume
+     *
+     * @param resume Resume to render (sections, not the legacy content blob)
+     * @return Complete HTML document
+     */
+    public String render(Resume resume) {
+        return new Page(resume).render();
+    }
+
+    /**
+     * Output of one render
+     */
+    private static final class Page {
+
+        private final Resume resume;
+        private final PdfTemplate template;
+        private final PdfTheme theme;
+        private final StringBuilder html = new StringBuilder(16 * 1024);
+
+        Page(Resume resume) {
+            this.resume = resume;
+            this.template = PdfTemplate.of(resume.getTemplate());
+            this.theme = PdfTheme.of(resume.getColorTheme());
+        }
+
+        String render() {
+            String fullName = fullName();
+            html.append("<!DOCTYPE html>\n<html lang=\"en\"><head><meta charset=\"utf-8\">")
+                    .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">")
+                    .append("<meta name=\"robots\" content=\"noindex\">")
+                    .append("<title>").append(escape(fullName != null ? fullName + " - Resume" : "Resume"))
+                    .append("</title><style>").append(themeCss()).append(BASE_CSS).append(TEMPLATE_CSS.get(template))
+                    .append("</style></head><body>");
+
+            html.append("<main class=\"resume ").append(template.name().toLowerCase(Locale.ROOT)).append("\">");
+            if (template == PdfTemplate.PROFESSIONAL) {
+                html.append("<aside>");
+                sidebar();
+                html.append("</aside><div class=\"main\">");
+            }
+            header(fullName);
+            summary();
+            experience();
+            education();
+            if (template != PdfTemplate.PROFESSIONAL) {
+                skills();
+            }
+            projects();
+            certifications();
+            if (template != PdfTemplate.PROFESSIONAL) {
+                languages();
+            }
+            if (template == PdfTemplate.PROFESSIONAL) {
+                html.append("</div>");
+            }
+            html.append("</main></body></html>\n");
+            return html.toString();
+        }
+
+        private String themeCss() {
+            return ":root{--primary:" + hex(theme.primary())
+                    + ";--secondary:" + hex(theme.secondary())
+                    + ";--accent:" + hex(theme.accent())
+                    + ";--text:" + hex(theme.text())
+                    + ";--light:" + hex(theme.textLight())
+                    + ";--border:" + hex(theme.border())
+                    + ";--primary-06:" + hex(PdfTheme.tint(theme.primary(), 0.06f))
+                    + ";--primary-10:" + hex(PdfTheme.tint(theme.primary(), 0.1f))
+                    + ";--primary-12:" + hex(PdfTheme.tint(theme.primary(), 0.12f))
+                    + ";--primary-15:" + hex(PdfTheme.tint(theme.primary(), 0.15f))
+                    + ";--accent-12:" + hex(PdfTheme.tint(theme.accent(), 0.12f))
+                    + "}\n";
+        }
+
+        // ==================== HEADER ====================
+
+        private String fullName() {
+            Resume.PersonalInfo info = resume.getPersonalInfo();
+            String fullName = info != null ? clean(info.getFullName()) : null;
+            return fullName != null ? fullName : clean(resume.getTitle());
+        }
+
+        private void header(String fullName) {
+            html.append("<header>");
+            element("h1", null, fullName);
+            // professional shows contact details in the sidebar
+            if (template != PdfTemplate.PROFESSIONAL) {
+                contact("contact");
+            }
+            html.append("</header>");
+        }
+
+        private void contact(String cssClass) {
+            Resume.PersonalInfo info = resume.getPersonalInfo();
+            if (info == null) {
+                return;
+            }
+            List<String> items = new ArrayList<>();
+            String email = clean(info.getEmail());
+            if (email != null) {
+                items.add("<a href=\"mailto:" + escape(email) + "\">" + escape(email) + "</a>");
+            }
+            for (String item : new String[]{info.getPhone(), info.getLocation()}) {
+                String text = clean(item);
+                if (text != null) {
+                    items.add(escape(text));
+                }
+            }
+            for (String item : new String[]{info.getWebsite(), info.getLinkedIn(), info.getGithub(),
+                    info.getPortfolio()}) {
+                String text = clean(item);
+                if (text != null) {
+                    items.add(link(text));
+                }
+            }
+            if (items.isEmpty()) {
+                return;
+            }
+            html.append("<ul class=\"").append(cssClass).append("\">");
+            for (String item : items) {
+                html.append("<li>").append(item).append("</li>");
+            }
+            html.append("</ul>");
+        }
+
+        // ==================== SECTIONS ====================
+
+        private void section(String label) {
+            html.append("<section><h2>").append(escape(template == PdfTemplate.CREATIVE
+                    ? label : label.toUpperCase(Locale.ROOT))).append("</h2>");
+        }
+
+        private void summary() {
+            String summary = clean(resume.getSummary());
+            if (summary == null) {
+                return;
+            }
+            switch (template) {
+                case MINIMAL -> html.append("<section>");
+                case CREATIVE -> html.append("<section class=\"summary\">");
+                case CLASSIC -> section("Summary");
+                case PROFESSIONAL -> section("Profile");
+                default -> section("Professional Summary");
+            }
+            element("p", "text", summary);
+            html.append("</section>");
+        }
+
+        private void experience() {
+            List<Resume.Experience> items = present(resume.getExperience());
+            if (items.isEmpty()) {
+                return;
+            }
+            section(template == PdfTemplate.CLASSIC ? "Professional Experience" : "Experience");
+            for (Resume.Experience item : items) {
+                entry(item.getJobTitle(),
+                        dateRange(item.getStartDate(), item.getEndDate(), item.getIsCurrentJob()),
+                        join(", ", item.getCompany(), item.getLocation()));
+                element("p", "text", clean(item.getDescription()));
+                element("p", "text", clean(item.getResponsibilities()));
+                bullets(item.getAchievements());
+                technologies(item.getTechnologies());
+                html.append("</article>");
+            }
+            html.append("</section>");
+        }
+
+        private void education() {
+            List<Resume.Education> items = present(resume.getEducation());
+            if (items.isEmpty()) {
+                return;
+            }
+            section("Education");
+            for (Resume.Education item : items) {
+                String degree = clean(item.getFieldOfStudy()) != null
+                        ? join(" in ", item.getDegree(), item.getFieldOfStudy())
+                        : clean(item.getDegree());
+                entry(degree,
+                        dateRange(item.getStartDate(), item.getEndDate(), null),
+                        join(", ", item.getInstitution(), item.getLocation()));
+                String grade = clean(item.getGrade());
+                element("p", "note", grade != null ? "Grade: " + grade : null);
+                element("p", "text", clean(item.getDescription()));
+                html.append("</article>");
+            }
+            html.append("</section>");
+        }
+
+        private void projects() {
+            List<Resume.Project> items = present(resume.getProjects());
+            if (items.isEmpty()) {
+                return;
+            }
+            section("Projects");
+            for (Resume.Project item : items) {
+                entry(item.getName(), dateRange(item.getStartDate(), item.getEndDate(), null), null);
+                String url = clean(item.getUrl());
+                if (url != null) {
+                    html.append("<p class=\"note\">").append(link(url)).append("</p>");
+                }
+                element("p", "text", clean(item.getDescription()));
+                bullets(item.getHighlights());
+                technologies(item.getTechnologies());
+                html.append("</article>");
+            }
+            html.append("</section>");
+        }
+
+        private void certifications() {
+            List<Resume.Certification> items = present(resume.getCertifications());
+            if (items.isEmpty()) {
+                return;
+            }
+            section("Certifications");
+            for (Resume.Certification item : items) {
+                entry(item.getName(), date(item.getIssueDate()), item.getIssuer());
+                String credential = clean(item.getCredentialId());
+                element("p", "note", credential != null ? "Credential ID: " + credential : null);
+                String url = clean(item.getCredentialUrl());
+                if (url != null) {
+                    html.append("<p class=\"note\">").append(link(url)).append("</p>");
+                }
+                html.append("</article>");
+            }
+            html.append("</section>");
+        }
+
+        private void skills() {
+            List<Resume.Skill> items = present(resume.getSkills());
+            if (items.isEmpty()) {
+                return;
+            }
+            section("Skills");
+            switch (template) {
+                case MODERN, CREATIVE -> chips(labels(items));
+                default -> {
+                    // grouped by category, in order of first appearance
+                    Map<String, List<String>> groups = new LinkedHashMap<>();
+                    for (Resume.Skill skill : items) {
+                        String skillName = clean(skill.getName());
+                        if (skillName != null) {
+                            String category = Objects.requireNonNullElse(clean(skill.getCategory()), "");
+                            groups.computeIfAbsent(category, key -> new ArrayList<>()).add(skillName);
+                        }
+                    }
+                    String separator = template == PdfTemplate.MINIMAL ? "  ·  " : ", ";
+                    for (Map.Entry<String, List<String>> group : groups.entrySet()) {
+                        String list = String.join(separator, group.getValue());
+                        element("p", null, group.getKey().isEmpty() ? list : group.getKey() + ": " + list);
+                    }
+                }
+            }
+            html.append("</section>");
+        }
+
+        private void languages() {
+            List<String> labels = new ArrayList<>();
+            for (Resume.Language language : present(resume.getLanguages())) {
+                String label = join(" - ", language.getName(), language.getProficiency());
+                if (label != null) {
+                    labels.add(label);
+                }
+            }
+            if (labels.isEmpty()) {
+                return;
+            }
+            section("Languages");
+            switch (template) {
+                case MODERN, CREATIVE -> chips(labels);
+                default -> element("p", null, String.join(template == PdfTemplate.MINIMAL ? "  ·  " : ",  ", labels));
+            }
+            html.append("</section>");
+        }
+
+        /**
+         * Professional sidebar: contact, skills with level bars, languages
+         */
+        private void sidebar() {
+            int start = html.length();
+            html.append("<section><h2>CONTACT</h2>");
+            int before = html.length();
+            contact("sidebar-contact");
+            if (html.length() == before) {
+                html.setLength(start);
+            } else {
+                html.append("</section>");
+            }
+
+            List<Resume.Skill> skills = present(resume.getSkills()).stream()
+                    .filter(skill -> clean(skill.getName()) != null)
+                    .toList();
+            if (!skills.isEmpty()) {
+                html.append("<section><h2>SKILLS</h2><ul>");
+                for (Resume.Skill skill : skills) {
+                    html.append("<li>").append(escape(clean(skill.getName())));
+                    int level = level(skill.getLevel());
+                    if (level > 0) {
+                        html.append("<div class=\"bar\" title=\"").append(escape(clean(skill.getLevel())))
+                                .append("\">");
+                        for (int i = 0; i < 4; i++) {
+                            html.append(i < level ? "<span class=\"on\"></span>" : "<span></span>");
+                        }
+                        html.append("</div>");
+                    }
+                    html.append("</li>");
+                }
+                html.append("</ul></section>");
+            }
+
+            List<Resume.Language> languages = present(resume.getLanguages()).stream()
+                    .filter(language -> clean(language.getName()) != null)
+                    .toList();
+            if (!languages.isEmpty()) {
+                html.append("<section><h2>LANGUAGES</h2><ul>");
+                for (Resume.Language language : languages) {
+                    html.append("<li>").append(escape(clean(language.getName())));
+                    element("div", "note", clean(language.getProficiency()));
+                    html.append("</li>");
+                }
+                html.append("</ul></section>");
+            }
+        }
+
+        // ==================== ENTRIES ====================
+
+        /**
+         * Opens an entry: title with dates on the right, subtitle below.
+         * The caller adds the body and closes the article.
+         */
+        private void entry(String entryTitle, String dates, String entrySubtitle) {
+            html.append("<article class=\"entry\"><div class=\"entry-head\">");
+            element("h3", null, clean(entryTitle));
+            element("span", "dates", dates);
+            html.append("</div>");
+            element("p", "subtitle", clean(entrySubtitle));
+        }
+
+        private void bullets(List<String> items) {
+            List<String> lines = present(items).stream().map(ResumeHtmlRenderer::clean).filter(Objects::nonNull)
+                    .toList();
+            if (lines.isEmpty()) {
+                return;
+            }
+            html.append("<ul class=\"bullets\">");
+            for (String line : lines) {
+                element("li", null, line);
+            }
+            html.append("</ul>");
+        }
+
+        private void technologies(List<String> technologies) {
+            List<String> names = present(technologies).stream().map(ResumeHtmlRenderer::clean)
+                    .filter(Objects::nonNull).toList();
+            if (!names.isEmpty()) {
+                element("p", "note", "Technologies: " + String.join(", ", names));
+            }
+        }
+
+        private void chips(List<String> labels) {
+            html.append("<ul class=\"chips\">");
+            for (String label : labels) {
+                element("li", null, label);
+            }
+            html.append("</ul>");
+        }
+
+        /**
+         * Element with escaped text, nothing if the text is null
+         */
+        private void element(String tag, String cssClass, String text) {
+            if (text == null) {
+                return;
+            }
+            html.append('<').append(tag);
+            if (cssClass != null) {
+                html.append(" class=\"").append(cssClass).append('"');
+            }
+            html.append('>').append(escape(text)).append("</").append(tag).append('>');
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Link for web addresses (bare domains get https://), escaped text otherwise
+     */
+    private static String link(String text) {
+        String href = WEB_URL.matcher(text).matches() ? text
+                : BARE_DOMAIN.matcher(text).matches() ? "https://" + text
+                : null;
+        if (href == null) {
+            return escape(text);
+        }
+        return "<a href=\"" + escape(href) + "\" rel=\"nofollow noopener\">" + escape(text) + "</a>";
+    }
+
+    /**
+     * "name • level" labels of skills with a name
+     */
+    private static List<String> labels(List<Resume.Skill> skills) {
+        List<String> labels = new ArrayList<>();
+        for (Resume.Skill skill : skills) {
+            String skillName = clean(skill.getName());
+            if (skillName == null) {
+                continue;
+            }
+            String level = clean(skill.getLevel());
+            labels.add(level != null ? skillName + " • " + level : skillName);
+        }
+        return labels;
+    }
+
+    /**
+     * Filled segments of a skill bar (editor levels), 0 for no bar
+     */
+    private static int level(String level) {
+        if (level == null) {
+            return 0;
+        }
+        return switch (level.trim().toLowerCase(Locale.ROOT)) {
+            case "beginner" -> 1;
+            case "intermediate" -> 2;
+            case "advanced" -> 3;
+            case "expert" -> 4;
+            default -> 0;
+        };
+    }
+
+    /**
+     * "2024-03" or "2024-03-15" as "Mar 2024", anything else as written
+     */
+    private static String date(String value) {
+        String text = clean(value);
+        if (text == null || text.length() < 7) {
+            return text;
+        }
+        try {
+            return YearMonth.parse(text.substring(0, 7)).format(MONTH_YEAR);
+        } catch (DateTimeParseException e) {
+            return text;
+        }
+    }
+
+    /**
+     * Start - end, "Present" for an open end, null if there are no dates
+     */
+    private static String dateRange(String start, String end, Boolean current) {
+        String from = date(start);
+        String to = Boolean.TRUE.equals(current) ? null : date(end);
+        if (from == null && to == null) {
+            return Boolean.TRUE.equals(current) ? "Present" : null;
+        }
+        if (from == null) {
+            return to;
+        }
+        return from + DATE_SEPARATOR + (to != null ? to : "Present");
+    }
+
+    /**
+     * Cleaned non-blank parts joined, null if there are none
+     */
+    private static String join(String separator, String... parts) {
+        List<String> present = new ArrayList<>();
+        for (String part : parts) {
+            String cleaned = clean(part);
+            if (cleaned != null) {
+                present.add(cleaned);
+            }
+        }
+        return present.isEmpty() ? null : String.join(separator, present);
+    }
+
+    /**
+     * Trimmed text, null if blank
+     */
+    private static String clean(String text) {
+        if (text == null) {
+            return null;
+        }
+        String stripped = text.strip();
+        return stripped.isEmpty() ? null : stripped;
+    }
+
+    private static String escape(String text) {
+        return HtmlUtils.htmlEscape(text, "UTF-8");
+    }
+
+    private static String hex(Color color) {
+        return String.format("#%06x", color.getRGB() & 0xffffff);
+    }
+
+    private static <T> List<T> present(List<T> items) {
+        return items == null ? List.of() : items.stream().filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,141 @@
+package com.sasindu.rdsumebuilder.pdf;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+
+import java.awt.Color;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pages of one render. Pages are added on demand (a flow asks for page n)
+ * up to maxPages, and each keeps its content stream open until close(),
+ * so a sidebar and the main column can be laid out one after the other.
+ */
+final class PdfCanvas implements Closeable {
+
+    static final PDRectangle PAGE_SIZE = PDRectangle.A4;
+
+    /**
+     * Drawn first on every new page (sidebar background)
+     */
+    interface PageBackground {
+        void draw(PDPageContentStream stream) throws IOException;
+    }
+
+    private final PDDocument document;
+    private final int maxPages;
+    private final List<PDPageContentStream> streams = new ArrayList<>();
+    private PageBackground background;
+
+    PdfCanvas(PDDocument document, int maxPages) {
+        this.document = document;
+        this.maxPages = maxPages;
+    }
+
+    void setBackground(PageBackground background) {
+        this.background = background;
+    }
+
+    /**
+     * Content stream of a page, adding pages up to it
+     *
+     * @throws PdfPageLimitException beyond maxPages
+     * @throws InterruptedIOException  if the render was cancelled
+     */
+    PDPageContentStream page(int index) throws IOException {
+        while (streams.size() <= index) {
+            checkInterrupted();
+            if (streams.size() == maxPages) {
+                throw new PdfPageLimitException(maxPages);
+            }
+            PDPage page = new PDPage(PAGE_SIZE);
+            document.addPage(page);
+            PDPageContentStream stream = new PDPageContentStream(document, page);
+            streams.add(stream);
+            if (background != null) {
+                background.draw(stream);
+            }
+        }
+        return streams.get(index);
+    }
+
+    /**
+     * Stop a render whose thread was interrupted (timed out and cancelled);
+     * checked at every new page and entry, so a cancelled render frees its
+     * thread instead of laying out the rest of the document
+     */
+    static void checkInterrupted() throws InterruptedIOException {
+        if (Thread.interrupted()) {
+            throw new InterruptedIOException("PDF rendering cancelled");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (PDPageContentStream stream : streams) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                failure = failure == null ? e : failure;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    static void fillRect(PDPageContentStream stream, float x, float y, float width, float height, Color color)
+            throws IOException {
+        stream.setNonStrokingColor(color);
+        stream.addRect(x, y, width, height);
+        stream.fill();
+    }
+
+    /**
+     * Rounded rectangle, filled and/or stroked (null color skips)
+     */
+    static void roundedRect(PDPageContentStream stream, float x, float y, float width, float height, float radius,
+            Color fill, Color stroke) throws IOException {
+        float r = Math.min(radius, Math.min(width, height) / 2);
+        float k = r * 0.5523f;
+        stream.moveTo(x + r, y);
+        stream.lineTo(x + width - r, y);
+        stream.curveTo(x + width - r + k, y, x + width, y + r - k, x + width, y + r);
+        stream.lineTo(x + width, y + height - r);
+        stream.curveTo(x + width, y + height - r + k, x + width - r + k, y + height, x + width - r, y + height);
+        stream.lineTo(x + r, y + height);
+        stream.curveTo(x + r - k, y + height, x, y + height - r + k, x, y + height - r);
+        stream.lineTo(x, y + r);
+        stream.curveTo(x, y + r - k, x + r - k, y, x + r, y);
+        stream.closePath();
+        paint(stream, fill, stroke);
+    }
+
+    static void circle(PDPageContentStream stream, float cx, float cy, float r, Color fill, Color stroke)
+            throws IOException {
+        roundedRect(stream, cx - r, cy - r, 2 * r, 2 * r, r, fill, stroke);
+    }
+
+    private static void paint(PDPageContentStream stream, Color fill, Color stroke) throws IOException {
+        if (fill != null) {
+            stream.setNonStrokingColor(fill);
+        }
+        if (stroke != null) {
+            stream.setStrokingColor(stroke);
+        }
+        if (fill != null && stroke != null) {
+            stream.fillAndStroke();
+        } else if (fill != null) {
+            stream.fill();
+        } else {
+            stream.stroke();
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.sasindu.rdsumebuilder.pdf;
+
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A column of content flowing down the pages of a canvas. y is the top of
+ * the next line in PDF coordinates (origin bottom left); when a block does
+ * not fit above the bottom margin, the flow continues at the top of the
+ * next page.
+ */
+final class PdfFlow {
+
+    private static final String BULLET = "•";
+
+    private final PdfCanvas canvas;
+    private final float left;
+    private final float width;
+    private final float top;
+    private final float bottom;
+    private int page;
+    private float y;
+
+    PdfFlow(PdfCanvas canvas, float left, float width, float top, float bottom) {
+        this.canvas = canvas;
+        this.left = left;
+        this.width = width;
+        this.top = top;
+        this.bottom = bottom;
+        this.y = top;
+    }
+
+    float left() {
+        return left;
+    }
+
+    float width() {
+        return width;
+    }
+
+    float y() {
+        return y;
+    }
+
+    /**
+     * Height left above the bottom margin of the current page
+     */
+    float remaining() {
+        return y - bottom;
+    }
+
+    int page() {
+        return page;
+    }
+
+    PDPageContentStream stream() throws IOException {
+        return canvas.page(page);
+    }
+
+    /**
+     * Continue on the next page if less than height is left on this one
+     */
+    void ensure(float height) {
+        if (y - height < bottom && y < top) {
+            page++;
+            y = top;
+        }
+    }
+
+    /**
+     * Vertical gap; dropped at the top of a page
+     */
+    void space(float height) {
+        if (y < top) {
+            y = Math.max(y - height, bottom);
+        }
+    }
+
+    /**
+     * Take height points of the column and return the top of the block
+     */
+    float advance(float height) {
+        ensure(height);
+        float blockTop = y;
+        y -= height;
+        return blockTop;
+    }
+
+    /**
+     * Wrapped text; newlines in the text start new lines
+     *
+     * @param indent Left indent of every line
+     */
+    void paragraph(String text, TextStyle style, float indent) throws IOException {
+        if (text == null) {
+            return;
+        }
+        for (String line : wrap(text, style, width - indent)) {
+            float lineTop = advance(style.leading());
+            text(line, style, left + indent, lineTop);
+        }
+    }
+
+    void centered(String text, TextStyle style) throws IOException {
+        if (text == null) {
+            return;
+        }
+        for (String line : wrap(text, style, width)) {
+            float lineTop = advance(style.leading());
+            text(line, style, left + (width - style.width(line)) / 2, lineTop);
+        }
+    }
+
+    /**
+     * Text on the left and a right-aligned note (dates) on the first line
+     *
+     * @param noteFill Background of the note (date pill), or null
+     */
+    void row(String text, TextStyle style, String note, TextStyle noteStyle, Color noteFill, float indent)
+            throws IOException {
+        if (note == null) {
+            paragraph(text, style, indent);
+            return;
+        }
+        float padX = noteFill != null ? noteStyle.size() * 0.8f : 0;
+        float noteWidth = noteStyle.width(note) + 2 * padX;
+        List<String> lines = text != null ? wrap(text, style, width - indent - noteWidth - 12) : List.of("");
+        float leading = Math.max(style.leading(), noteStyle.leading());
+        float lineTop = advance(leading);
+        float noteTop = lineTop - (leading - noteStyle.leading()) / 2;
+        if (noteFill != null) {
+            float height = noteStyle.size() + 6;
+            PdfCanvas.roundedRect(stream(), left + width - noteWidth, noteTop - (noteStyle.leading() + height) / 2,
+                    noteWidth, height, height / 2, noteFill, null);
+        }
+        text(lines.get(0), style, left + indent, lineTop - (leading - style.leading()) / 2);
+        text(note, noteStyle, left + width - noteWidth + padX, noteTop);
+        for (String line : lines.subList(1, lines.size())) {
+            text(line, style, left + indent, advance(style.leading()));
+        }
+    }
+
+    /**
+     * Bullet list item with a hanging indent
+     */
+    void bullet(String text, TextStyle style, Color bulletColor, float indent) throws IOException {
+        if (text == null) {
+            return;
+        }
+        float hang = style.width(BULLET) + 6;
+        List<String> lines = wrap(text, style, width - indent - hang);
+        for (int i = 0; i < lines.size(); i++) {
+            float lineTop = advance(style.leading());
+            if (i == 0) {
+                text(BULLET, style.withColor(bulletColor), left + indent, lineTop);
+            }
+            text(lines.get(i), style, left + indent + hang, lineTop);
+        }
+    }
+
+    /**
+     * Horizontal rule across the column
+     */
+    void rule(float thickness, Color color) throws IOException {
+        float ruleTop = advance(thickness);
+        PdfCanvas.fillRect(stream(), left, ruleTop - thickness, width, thickness, color);
+    }
+
+    /**
+     * Rounded labels laid out left to right, wrapping to new rows
+     *
+     * @param fill   Label background
+     * @param stroke Label outline, or null
+     */
+    void chips(List<String> labels, TextStyle style, Color fill, Color stroke, float indent) throws IOException {
+        float padX = style.size() * 0.8f;
+        float height = style.size() + 8;
+        float gap = 5;
+        float x = left + indent;
+        float rowTop = -1;
+        for (String label : labels) {
+            float chipWidth = Math.min(style.width(label) + 2 * padX, width - indent);
+            if (rowTop < 0 || x + chipWidth > left + width) {
+                if (rowTop >= 0) {
+                    space(gap);
+                }
+                rowTop = advance(height);
+                x = left + indent;
+            }
+            PdfCanvas.roundedRect(stream(), x, rowTop - height, chipWidth, height, height / 2, fill, stroke);
+            text(fit(label, style, chipWidth - 2 * padX), style, x + padX, rowTop - (height - style.leading()) / 2);
+            x += chipWidth + gap;
+        }
+    }
+
+    /**
+     * One line of text whose line box starts at lineTop
+     */
+    void text(String text, TextStyle style, float x, float lineTop) throws IOException {
+        if (text.isEmpty()) {
+            return;
+        }
+        PDPageContentStream stream = stream();
+        stream.beginText();
+        stream.setFont(style.font(), style.size());
+        stream.setNonStrokingColor(style.color());
+        if (style.charSpacing() != 0) {
+            stream.setCharacterSpacing(style.charSpacing());
+        }
+        stream.newLineAtOffset(x, baseline(style, lineTop));
+        stream.showText(text);
+        if (style.charSpacing() != 0) {
+            stream.setCharacterSpacing(0);
+        }
+        stream.endText();
+    }
+
+    /**
+     * Baseline that centers the font's cap height in the line box
+     */
+    static float baseline(TextStyle style, float lineTop) {
+        return lineTop - style.leading() / 2 - style.size() * 0.35f;
+    }
+
+    /**
+     * Greedy word wrap. Words longer than a line (URLs) are broken.
+     */
+    static List<String> wrap(String text, TextStyle style, float maxWidth) {
+        List<String> lines = new ArrayList<>();
+        float spaceWidth = style.width(" ");
+        for (String paragraph : text.split("\n")) {
+            StringBuilder line = new StringBuilder();
+            float lineWidth = 0;
+            for (String word : paragraph.trim().split(" +")) {
+                if (word.isEmpty()) {
+                    continue;
+                }
+                float wordWidth = style.width(word);
+                float needed = line.isEmpty() ? wordWidth : lineWidth + spaceWidth + wordWidth;
+                if (needed <= maxWidth) {
+                    if (!line.isEmpty()) {
+                        line.append(' ');
+                    }
+                    line.append(word);
+                    lineWidth = needed;
+                    continue;
+                }
+                if (!line.isEmpty()) {
+                    lines.add(line.toString());
+                    line.setLength(0);
+                }
+                while (wordWidth > maxWidth) {
+                    int end = fitLength(word, style, maxWidth);
+                    lines.add(word.substring(0, end));
+                    word = word.substring(end);
+                    wordWidth = style.width(word);
+                }
+                line.append(word);
+                lineWidth = wordWidth;
+            }
+            if (!line.isEmpty()) {
+                lines.add(line.toString());
+            }
+        }
+        if (lines.isEmpty()) {
+            lines.add("");
+        }
+        return lines;
+    }
+
+    /**
+     * The text cut to maxWidth, with an ellipsis if anything was cut
+     */
+    static String fit(String text, TextStyle style, float maxWidth) {
+        if (style.width(text) <= maxWidth) {
+            return text;
+        }
+        String ellipsis = "...";
+        int end = fitLength(text, style, Math.max(0, maxWidth - style.width(ellipsis)));
+        return text.substring(0, Math.max(0, end - 1)) + ellipsis;
+    }
+
+    /**
+     * Characters of the text that fit in maxWidth (at least one)
+     */
+    private static int fitLength(String text, TextStyle style, float maxWidth) {
+        int low = 1;
+        int high = text.length();
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (style.width(text.substring(0, mid)) <= maxWidth) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sasindu.rdsumebuilder.pdf;
+
+/**
+ * The resume does not fit in the page limit of the renderer
+ */
+public class PdfPageLimitException extends IllegalStateException {
+
+    private final int maxPages;
+
+    public PdfPageLimitException(int maxPages) {
+        super("Resume does not fit in " + maxPages + " pages");
+        this.maxPages = maxPages;
+    }
+
+    public int getMaxPages() {
+        return maxPages;
+    }
+}
@@ -0,0 +1,49 @@
+package com.sasindu.rdsumebuilder.pdf;
+
+import java.util.Locale;
+
+/**
+ * Resume layouts, one per editor template
+ * (frontend/src/components/templates)
+ */
+public enum PdfTemplate {
+
+    /**
+     * Sans serif, bold colored headings, rule under the header, skill pills
+     */
+    MODERN,
+
+    /**
+     * Serif, centered header, small-caps headings over a thin rule
+     */
+    CLASSIC,
+
+    /**
+     * Light sans serif, wide margins, small spaced headings
+     */
+    MINIMAL,
+
+    /**
+     * Tinted sidebar with contact, skill bars and languages
+     */
+    PROFESSIONAL,
+
+    /**
+     * Accent bar header, summary box, timeline dots and date pills
+     */
+    CREATIVE;
+
+    /**
+     * Template by name, modern if unknown or null
+     */
+    public static PdfTemplate of(String name) {
+        if (name != null) {
+            for (PdfTemplate template : values()) {
+                if (template.name().equals(name.toUpperCase(Locale.ROOT))) {
+                    return template;
+                }
+            }
+        }
+        return MODERN;
+    }
+}
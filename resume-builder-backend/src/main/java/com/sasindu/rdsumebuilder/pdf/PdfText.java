@@ -0,0 +1,99 @@
+package com.sasindu.rdsumebuilder.pdf;
+
+import org.apache.pdfbox.pdmodel.font.encoding.GlyphList;
+import org.apache.pdfbox.pdmodel.font.encoding.WinAnsiEncoding;
+
+import java.text.Normalizer;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.BitSet;
+import java.util.Locale;
+
+/**
+ * Text helpers for the renderer: cleanup for the standard PDF fonts and
+ * date formatting matching the editor preview ("Jan 2024 - Present").
+ */
+final class PdfText {
+
+    private static final DateTimeFormatter MONTH_YEAR = DateTimeFormatter.ofPattern("MMM yyyy", Locale.ENGLISH);
+
+    /**
+     * Characters the standard 14 fonts can show (WinAnsiEncoding)
+     */
+    private static final BitSet SUPPORTED = new BitSet(0x2200);
+
+    static {
+        GlyphList glyphs = GlyphList.getAdobeGlyphList();
+        for (String name : WinAnsiEncoding.INSTANCE.getNameToCodeMap().keySet()) {
+            String unicode = glyphs.toUnicode(name);
+            if (unicode != null && unicode.length() == 1) {
+                SUPPORTED.set(unicode.charAt(0));
+            }
+        }
+    }
+
+    private PdfText() {
+    }
+
+    /**
+     * Trimmed text that the standard fonts can encode, null if blank.
+     * Tabs become spaces, other control characters are dropped, accents are
+     * kept when WinAnsi has the precomposed letter, and anything else
+     * (non-Latin scripts, emoji) becomes '?'.
+     */
+    static String clean(String text) {
+        if (text == null) {
+            return null;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        StringBuilder out = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (codePoint == '\n') {
+                out.append('\n');
+            } else if (codePoint == '\t') {
+                out.append(' ');
+            } else if (Character.isISOControl(codePoint)) {
+                continue;
+            } else if (codePoint < SUPPORTED.size() && SUPPORTED.get(codePoint)) {
+                out.append((char) codePoint);
+            } else {
+                out.append('?');
+            }
+        }
+        String cleaned = out.toString().strip();
+        return cleaned.isEmpty() ? null : cleaned;
+    }
+
+    /**
+     * "2024-03" or "2024-03-15" as "Mar 2024", anything else as written
+     */
+    static String date(String value) {
+        String text = clean(value);
+        if (text == null || text.length() < 7) {
+            return text;
+        }
+        try {
+            return YearMonth.parse(text.substring(0, 7)).format(MONTH_YEAR);
+        } catch (DateTimeParseException e) {
+            return text;
+        }
+    }
+
+    /**
+     * Start - end, "Present" for an open end, null if there are no dates
+     */
+    static String dateRange(String start, String end, Boolean current, String separator) {
+        String from = date(start);
+        String to = Boolean.TRUE.equals(current) ? null : date(end);
+        if (from == null && to == null) {
+            return Boolean.TRUE.equals(current) ? "Present" : null;
+        }
+        if (from == null) {
+            return to;
+        }
+        return from + separator + (to != null ? to : "Present");
+    }
+}
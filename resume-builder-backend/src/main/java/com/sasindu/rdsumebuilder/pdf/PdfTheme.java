@@ -0,0 +1,56 @@
+package com.sasindu.rdsumebuilder.pdf;
+
+import java.awt.Color;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resume color themes (same values as the editor's THEMES in
+ * frontend/src/types/template.ts), shared by the PDF and HTML renderers
+ *
+ * @param primary   Name, headings
+ * @param secondary Entry titles
+ * @param accent    Decorations (creative)
+ * @param text      Body text
+ * @param textLight Dates, contact line, secondary text
+ * @param border    Rules and empty skill bars
+ */
+public record PdfTheme(Color primary, Color secondary, Color accent, Color text, Color textLight, Color border) {
+
+    private static final Color TEXT = new Color(0x1f2937);
+    private static final Color TEXT_LIGHT = new Color(0x6b7280);
+    private static final Color BORDER = new Color(0xe5e7eb);
+
+    private static final Map<String, PdfTheme> THEMES = Map.of(
+            "blue", theme(0x2563eb, 0x1e40af, 0x3b82f6),
+            "green", theme(0x059669, 0x047857, 0x10b981),
+            "purple", theme(0x7c3aed, 0x6d28d9, 0x8b5cf6),
+            "red", theme(0xdc2626, 0xb91c1c, 0xef4444),
+            "orange", theme(0xea580c, 0xc2410c, 0xf97316),
+            "gray", theme(0x374151, 0x1f2937, 0x4b5563));
+
+    /**
+     * Theme by name, blue if unknown or null
+     */
+    public static PdfTheme of(String name) {
+        PdfTheme theme = name != null ? THEMES.get(name.toLowerCase(Locale.ROOT)) : null;
+        return theme != null ? theme : THEMES.get("blue");
+    }
+
+    /**
+     * A color mixed with white (opacity over a white page)
+     *
+     * @param color   Base color
+     * @param opacity 0 (white) to 1 (color)
+     */
+    public static Color tint(Color color, float opacity) {
+        return new Color(
+                Math.round(255 - (255 - color.getRed()) * opacity),
+                Math.round(255 - (255 - color.getGreen()) * opacity),
+                Math.round(255 - (255 - color.getBlue()) * opacity));
+    }
+
+    private static PdfTheme theme(int primary, int secondary, int accent) {
+        return new PdfTheme(new Color(primary), new Color(secondary), new Color(accent), TEXT, TEXT_LIGHT, BORDER);
+    }
+}
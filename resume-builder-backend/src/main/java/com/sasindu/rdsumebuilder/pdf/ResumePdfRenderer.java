@@ -0,0 +1,723 @@
+package com.sasindu.rdsumebuilder.pdf;
+
+import com.sasindu.rdsumebuilder.document.Resume;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDDocumentInformation;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Renders a resume as a vector PDF (selectable text, A4) in the layout of
+ * its editor template and color theme.
+ *
+ * Text uses the standard 14 PDF fonts (Helvetica for the sans templates,
+ * Times for classic), which every viewer has, so nothing is embedded and a
+ * typical resume is a few KB. These fonts cover WinAnsi (Western European)
+ * only; other characters are printed as '?'. The profile image is not
+ * rendered.
+ *
+ * Memory per render is bounded: content streams are buffered in at most
+ * maxMemoryBytes of heap (then a temp file) and a resume longer than
+ * maxPages fails with {@link PdfPageLimitException}.
+ *
+ * Thread-safe: each call renders into its own document.
+ */
+public final class ResumePdfRenderer {
+
+    /**
+     * Layout version, part of the artifact cache key: bump it whenever a
+     * change here alters the output of an unchanged resume
+     */
+    public static final int VERSION = 1;
+
+    private static final float PAGE_WIDTH = PdfCanvas.PAGE_SIZE.getWidth();
+    private static final float PAGE_HEIGHT = PdfCanvas.PAGE_SIZE.getHeight();
+    private static final float SIDEBAR_WIDTH = PAGE_WIDTH / 3;
+    private static final String DATE_SEPARATOR = " - ";
+
+    private final int maxPages;
+    private final long maxMemoryBytes;
+
+    /**
+     * @param maxPages       Pages a resume may take
+     * @param maxMemoryBytes Heap used to buffer one document before spilling to a temp file
+     */
+    public ResumePdfRenderer(int maxPages, long maxMemoryBytes) {
+        this.maxPages = maxPages;
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    /**
+     * Render a resume
+     *
+     * @param resume Resume to render
+     * @param out    Receives the PDF
+     * @return Number of pages
+     * @throws IOException if writing fails
+     * @throws PdfPageLimitException if the resume needs more than maxPages
+     * @throws java.io.InterruptedIOException if the thread is interrupted while laying out
+     */
+    public int render(Resume resume, OutputStream out) throws IOException {
+        try (PDDocument document = new PDDocument(MemoryUsageSetting.setupMixed(maxMemoryBytes).streamCache)) {
+            Resume.PersonalInfo info = resume.getPersonalInfo();
+            PDDocumentInformation metadata = document.getDocumentInformation();
+            metadata.setTitle(PdfText.clean(info != null && info.getFullName() != null
+                    ? info.getFullName() + " - Resume" : resume.getTitle()));
+            metadata.setAuthor(info != null ? PdfText.clean(info.getFullName()) : null);
+            metadata.setCreator("Resume Builder");
+
+            try (PdfCanvas canvas = new PdfCanvas(document, maxPages)) {
+                new Layout(resume, canvas).draw();
+            }
+            PdfCanvas.checkInterrupted();
+            document.save(out);
+            return document.getNumberOfPages();
+        }
+    }
+
+    /**
+     * Page limit of this renderer
+     */
+    public int getMaxPages() {
+        return maxPages;
+    }
+
+    /**
+     * Layout state of one render: fonts (per document), styles of the
+     * template and the column flows
+     */
+    private static final class Layout {
+
+        private final Resume resume;
+        private final PdfCanvas canvas;
+        private final PdfTemplate template;
+        private final PdfTheme theme;
+        private final PdfFlow main;
+        private final PdfFlow sidebar;
+
+        private final TextStyle name;
+        private final TextStyle contact;
+        private final TextStyle heading;
+        private final TextStyle title;
+        private final TextStyle subtitle;
+        private final TextStyle date;
+        private final TextStyle body;
+        private final TextStyle small;
+        private final TextStyle chip;
+        private final float sectionGap;
+        private final float entryGap;
+
+        Layout(Resume resume, PdfCanvas canvas) {
+            this.resume = resume;
+            this.canvas = canvas;
+            this.template = PdfTemplate.of(resume.getTemplate());
+            this.theme = PdfTheme.of(resume.getColorTheme());
+
+            PDFont sans = font(Standard14Fonts.FontName.HELVETICA);
+            PDFont sansBold = font(Standard14Fonts.FontName.HELVETICA_BOLD);
+            PDFont sansItalic = font(Standard14Fonts.FontName.HELVETICA_OBLIQUE);
+            Color text = theme.text();
+            Color light = theme.textLight();
+
+            switch (template) {
+                case CLASSIC -> {
+                    PDFont serif = font(Standard14Fonts.FontName.TIMES_ROMAN);
+                    PDFont serifBold = font(Standard14Fonts.FontName.TIMES_BOLD);
+                    PDFont serifItalic = font(Standard14Fonts.FontName.TIMES_ITALIC);
+                    name = new TextStyle(serifBold, 24, theme.secondary());
+                    contact = new TextStyle(serif, 10, light);
+                    heading = new TextStyle(serifBold, 12, theme.secondary()).withSpacing(1);
+                    title = new TextStyle(serifBold, 11.5f, text);
+                    subtitle = new TextStyle(serifItalic, 10.5f, light);
+                    date = new TextStyle(serifItalic, 10, light);
+                    body = new TextStyle(serif, 10.5f, text);
+                    small = new TextStyle(serif, 9.5f, light);
+                    chip = small;
+                    sectionGap = 14;
+                    entryGap = 8;
+                }
+                case MINIMAL -> {
+                    name = new TextStyle(sans, 28, text);
+                    contact = new TextStyle(sans, 8.5f, light);
+                    heading = new TextStyle(sans, 7.5f, light).withSpacing(2);
+                    title = new TextStyle(sansBold, 10, text);
+                    subtitle = new TextStyle(sans, 9, light);
+                    date = new TextStyle(sans, 8.5f, light);
+                    body = new TextStyle(sans, 9, text);
+                    small = new TextStyle(sans, 8, light);
+                    chip = small;
+                    sectionGap = 22;
+                    entryGap = 10;
+                }
+                case PROFESSIONAL -> {
+                    name = new TextStyle(sansBold, 22, theme.primary());
+                    contact = new TextStyle(sans, 8.5f, text);
+                    heading = new TextStyle(sansBold, 11.5f, theme.primary()).withSpacing(0.5f);
+                    title = new TextStyle(sansBold, 10.5f, text);
+                    subtitle = new TextStyle(sans, 9.5f, theme.secondary());
+                    date = new TextStyle(sans, 9, light);
+                    body = new TextStyle(sans, 9.5f, text);
+                    small = new TextStyle(sans, 8.5f, light);
+                    chip = new TextStyle(sans, 8.5f, text);
+                    sectionGap = 14;
+                    entryGap = 8;
+                }
+                case CREATIVE -> {
+                    name = new TextStyle(sansBold, 28, theme.primary());
+                    contact = new TextStyle(sans, 9, light);
+                    heading = new TextStyle(sansBold, 13, theme.primary());
+                    title = new TextStyle(sansBold, 10.5f, text);
+                    subtitle = new TextStyle(sansBold, 9.5f, theme.accent());
+                    date = new TextStyle(sansBold, 8, theme.primary());
+                    body = new TextStyle(sans, 9.5f, text);
+                    small = new TextStyle(sansItalic, 8.5f, light);
+                    chip = new TextStyle(sans, 8.5f, theme.secondary());
+                    sectionGap = 16;
+                    entryGap = 10;
+                }
+                default -> {
+                    name = new TextStyle(sansBold, 24, theme.primary());
+                    contact = new TextStyle(sans, 9, light);
+                    heading = new TextStyle(sansBold, 12.5f, theme.primary());
+                    title = new TextStyle(sansBold, 10.5f, theme.secondary());
+                    subtitle = new TextStyle(sans, 9.5f, text);
+                    date = new TextStyle(sans, 9, light);
+                    body = new TextStyle(sans, 9.5f, text);
+                    small = new TextStyle(sans, 8.5f, light);
+                    chip = new TextStyle(sans, 8.5f, theme.primary());
+                    sectionGap = 14;
+                    entryGap = 8;
+                }
+            }
+
+            float margin = switch (template) {
+                case CLASSIC -> 50;
+                case MINIMAL -> 64;
+                case PROFESSIONAL -> 30;
+                default -> 40;
+            };
+            if (template == PdfTemplate.PROFESSIONAL) {
+                Color sidebarFill = PdfTheme.tint(theme.primary(), 0.1f);
+                canvas.setBackground(stream -> PdfCanvas.fillRect(stream, 0, 0, SIDEBAR_WIDTH, PAGE_HEIGHT,
+                        sidebarFill));
+                sidebar = new PdfFlow(canvas, 20, SIDEBAR_WIDTH - 40, PAGE_HEIGHT - margin, margin);
+                main = new PdfFlow(canvas, SIDEBAR_WIDTH + 22, PAGE_WIDTH - SIDEBAR_WIDTH - 22 - margin,
+                        PAGE_HEIGHT - margin, margin);
+            } else {
+                sidebar = null;
+                main = new PdfFlow(canvas, margin, PAGE_WIDTH - 2 * margin, PAGE_HEIGHT - margin, margin);
+            }
+        }
+
+        void draw() throws IOException {
+            canvas.page(0);
+            header();
+            summary();
+            experience();
+            education();
+            if (sidebar == null) {
+                skills();
+            }
+            projects();
+            certifications();
+            if (sidebar == null) {
+                languages();
+            }
+            if (sidebar != null) {
+                sidebar();
+            }
+        }
+
+        // ==================== HEADER ====================
+
+        private void header() throws IOException {
+            Resume.PersonalInfo info = resume.getPersonalInfo();
+            String fullName = info != null ? PdfText.clean(info.getFullName()) : null;
+            if (fullName == null) {
+                fullName = PdfText.clean(resume.getTitle());
+            }
+            List<String> items = contactItems();
+
+            switch (template) {
+                case CLASSIC -> {
+                    main.centered(fullName, name);
+                    main.space(4);
+                    main.centered(items.isEmpty() ? null : String.join("  •  ", items), contact);
+                    main.space(10);
+                    main.rule(1.5f, theme.secondary());
+                    main.space(4);
+                }
+                case MINIMAL -> {
+                    main.paragraph(fullName, name, 0);
+                    main.space(6);
+                    main.paragraph(items.isEmpty() ? null : String.join("     ", items), contact, 0);
+                    main.space(14);
+                }
+                case PROFESSIONAL -> {
+                    main.paragraph(fullName, name, 0);
+                    main.space(6);
+                    main.rule(2, theme.primary());
+                    main.space(2);
+                }
+                case CREATIVE -> {
+                    float top = main.y();
+                    main.paragraph(fullName, name, 16);
+                    main.space(6);
+                    contactWithDots(items, 16);
+                    float bottom = main.y();
+                    PdfCanvas.roundedRect(main.stream(), main.left(), bottom, 5, top - bottom, 2.5f,
+                            theme.accent(), null);
+                    main.space(8);
+                }
+                default -> {
+                    main.paragraph(fullName, name, 0);
+                    main.space(4);
+                    main.paragraph(items.isEmpty() ? null : String.join("   |   ", items), contact, 0);
+                    main.space(10);
+                    main.rule(2.5f, theme.primary());
+                    main.space(4);
+                }
+            }
+        }
+
+        private List<String> contactItems() {
+            Resume.PersonalInfo info = resume.getPersonalInfo();
+            if (info == null) {
+                return List.of();
+            }
+            List<String> items = new ArrayList<>();
+            for (String item : new String[]{info.getEmail(), info.getPhone(), info.getLocation(),
+                    info.getWebsite(), info.getLinkedIn(), info.getGithub(), info.getPortfolio()}) {
+                String cleaned = PdfText.clean(item);
+                if (cleaned != null) {
+                    items.add(cleaned.replace('\n', ' '));
+                }
+            }
+            return items;
+        }
+
+        /**
+         * Contact items left to right, each after an accent dot (creative)
+         */
+        private void contactWithDots(List<String> items, float indent) throws IOException {
+            float dot = 2;
+            float gap = 14;
+            float x = main.left() + indent;
+            float lineTop = -1;
+            for (String item : items) {
+                String text = PdfFlow.fit(item, contact, main.width() - indent - 4 * dot);
+                float itemWidth = 4 * dot + contact.width(text);
+                if (lineTop < 0 || x + itemWidth > main.left() + main.width()) {
+                    lineTop = main.advance(contact.leading());
+                    x = main.left() + indent;
+                }
+                PdfCanvas.circle(main.stream(), x + dot, lineTop - contact.leading() / 2, dot, theme.accent(), null);
+                main.text(text, contact, x + 4 * dot, lineTop);
+                x += itemWidth + gap;
+            }
+        }
+
+        // ==================== SECTIONS ====================
+
+        private void section(PdfFlow flow, String label) throws IOException {
+            flow.space(sectionGap);
+            // keep the heading with the first lines of the section
+            flow.ensure(heading.leading() + 3 * body.leading());
+            String text = label.toUpperCase(Locale.ROOT);
+            switch (template) {
+                case CLASSIC, PROFESSIONAL -> {
+                    flow.paragraph(text, heading, 0);
+                    flow.space(2);
+                    flow.rule(template == PdfTemplate.CLASSIC ? 0.75f : 1, theme.border());
+                    flow.space(6);
+                }
+                case MINIMAL -> {
+                    flow.paragraph(text, heading, 0);
+                    flow.space(8);
+                }
+                case CREATIVE -> {
+                    float lineTop = flow.advance(heading.leading());
+                    PdfCanvas.roundedRect(flow.stream(), flow.left(), lineTop - heading.leading() / 2 - 2, 20, 4, 2,
+                            theme.accent(), null);
+                    flow.text(label, heading, flow.left() + 28, lineTop);
+                    flow.space(8);
+                }
+                default -> {
+                    flow.paragraph(text, heading, 0);
+                    flow.space(6);
+                }
+            }
+        }
+
+        private void summary() throws IOException {
+            String summary = PdfText.clean(resume.getSummary());
+            if (summary == null) {
+                return;
+            }
+            switch (template) {
+                case MINIMAL -> {
+                    main.space(sectionGap);
+                    main.paragraph(summary, body, 0);
+                }
+                case CREATIVE -> {
+                    main.space(sectionGap);
+                    summaryBox(summary);
+                }
+                case CLASSIC -> {
+                    section(main, "Summary");
+                    main.paragraph(summary, body, 0);
+                }
+                case PROFESSIONAL -> {
+                    section(main, "Profile");
+                    main.paragraph(summary, body, 0);
+                }
+                default -> {
+                    section(main, "Professional Summary");
+                    main.paragraph(summary, body, 0);
+                }
+            }
+        }
+
+        /**
+         * Summary on a tinted panel (creative), split into one panel per
+         * page if the text runs over a page break
+         */
+        private void summaryBox(String summary) throws IOException {
+            float pad = 10;
+            Color fill = PdfTheme.tint(theme.primary(), 0.06f);
+            List<String> lines = PdfFlow.wrap(summary, body, main.width() - 2 * pad);
+            int i = 0;
+            while (i < lines.size()) {
+                main.ensure(2 * pad + Math.min(lines.size() - i, 3) * body.leading());
+                int fits = (int) ((main.remaining() - 2 * pad) / body.leading());
+                int count = Math.max(1, Math.min(lines.size() - i, fits));
+                float height = 2 * pad + count * body.leading();
+                float top = main.advance(height);
+                PdfCanvas.roundedRect(main.stream(), main.left(), top - height, main.width(), height, 6, fill, null);
+                for (int k = 0; k < count; k++) {
+                    main.text(lines.get(i + k), body, main.left() + pad, top - pad - k * body.leading());
+                }
+                i += count;
+            }
+        }
+
+        private void experience() throws IOException {
+            List<Resume.Experience> items = present(resume.getExperience());
+            if (items.isEmpty()) {
+                return;
+            }
+            section(main, template == PdfTemplate.CLASSIC ? "Professional Experience" : "Experience");
+            for (int i = 0; i < items.size(); i++) {
+                Resume.Experience item = items.get(i);
+                entry(i,
+                        item.getJobTitle(),
+                        PdfText.dateRange(item.getStartDate(), item.getEndDate(), item.getIsCurrentJob(),
+                                DATE_SEPARATOR),
+                        join(", ", item.getCompany(), item.getLocation()));
+                float indent = indent();
+                main.paragraph(PdfText.clean(item.getDescription()), body, indent);
+                main.paragraph(PdfText.clean(item.getResponsibilities()), body, indent);
+                for (String achievement : present(item.getAchievements())) {
+                    main.bullet(PdfText.clean(achievement), body, theme.primary(), indent);
+                }
+                technologies(item.getTechnologies(), indent);
+            }
+        }
+
+        private void education() throws IOException {
+            List<Resume.Education> items = present(resume.getEducation());
+            if (items.isEmpty()) {
+                return;
+            }
+            section(main, "Education");
+            for (int i = 0; i < items.size(); i++) {
+                Resume.Education item = items.get(i);
+                String degree = item.getFieldOfStudy() != null && !item.getFieldOfStudy().isBlank()
+                        ? join(" in ", item.getDegree(), item.getFieldOfStudy())
+                        : item.getDegree();
+                entry(i,
+                        degree,
+                        PdfText.dateRange(item.getStartDate(), item.getEndDate(), null, DATE_SEPARATOR),
+                        join(", ", item.getInstitution(), item.getLocation()));
+                float indent = indent();
+                String grade = PdfText.clean(item.getGrade());
+                main.paragraph(grade != null ? "Grade: " + grade : null, small, indent);
+                main.paragraph(PdfText.clean(item.getDescription()), body, indent);
+            }
+        }
+
+        private void projects() throws IOException {
+            List<Resume.Project> items = present(resume.getProjects());
+            if (items.isEmpty()) {
+                return;
+            }
+            section(main, "Projects");
+            for (int i = 0; i < items.size(); i++) {
+                Resume.Project item = items.get(i);
+                entry(i,
+                        item.getName(),
+                        PdfText.dateRange(item.getStartDate(), item.getEndDate(), null, DATE_SEPARATOR),
+                        null);
+                float indent = indent();
+                main.paragraph(PdfText.clean(item.getUrl()), small, indent);
+                main.paragraph(PdfText.clean(item.getDescription()), body, indent);
+                for (String highlight : present(item.getHighlights())) {
+                    main.bullet(PdfText.clean(highlight), body, theme.primary(), indent);
+                }
+                technologies(item.getTechnologies(), indent);
+            }
+        }
+
+        private void certifications() throws IOException {
+            List<Resume.Certification> items = present(resume.getCertifications());
+            if (items.isEmpty()) {
+                return;
+            }
+            section(main, "Certifications");
+            for (int i = 0; i < items.size(); i++) {
+                Resume.Certification item = items.get(i);
+                entry(i, item.getName(), PdfText.date(item.getIssueDate()), item.getIssuer());
+                float indent = indent();
+                String credential = PdfText.clean(item.getCredentialId());
+                main.paragraph(credential != null ? "Credential ID: " + credential : null, small, indent);
+                main.paragraph(PdfText.clean(item.getCredentialUrl()), small, indent);
+            }
+        }
+
+        private void skills() throws IOException {
+            List<Resume.Skill> items = present(resume.getSkills());
+            if (items.isEmpty()) {
+                return;
+            }
+            section(main, "Skills");
+            switch (template) {
+                case MODERN -> main.chips(labels(items), chip, PdfTheme.tint(theme.primary(), 0.15f), null, 0);
+                case CREATIVE -> main.chips(labels(items), chip, PdfTheme.tint(theme.accent(), 0.12f),
+                        theme.accent(), 0);
+                default -> {
+                    // grouped by category, in order of first appearance
+                    Map<String, List<String>> groups = new LinkedHashMap<>();
+                    for (Resume.Skill skill : items) {
+                        String skillName = PdfText.clean(skill.getName());
+                        if (skillName != null) {
+                            String category = Objects.requireNonNullElse(PdfText.clean(skill.getCategory()), "");
+                            groups.computeIfAbsent(category, key -> new ArrayList<>()).add(skillName);
+                        }
+                    }
+                    String separator = template == PdfTemplate.MINIMAL ? "  ·  " : ", ";
+                    for (Map.Entry<String, List<String>> group : groups.entrySet()) {
+                        String list = String.join(separator, group.getValue());
+                        main.paragraph(group.getKey().isEmpty() ? list : group.getKey() + ": " + list, body, 0);
+                    }
+                }
+            }
+        }
+
+        private void languages() throws IOException {
+            List<Resume.Language> items = present(resume.getLanguages());
+            if (items.isEmpty()) {
+                return;
+            }
+            section(main, "Languages");
+            List<String> labels = new ArrayList<>();
+            for (Resume.Language language : items) {
+                String label = join(" - ", language.getName(), language.getProficiency());
+                if (label != null) {
+                    labels.add(label);
+                }
+            }
+            switch (template) {
+                case MODERN -> main.chips(labels, chip, PdfTheme.tint(theme.primary(), 0.15f), null, 0);
+                case CREATIVE -> main.chips(labels, chip, PdfTheme.tint(theme.accent(), 0.12f), theme.accent(), 0);
+                default -> main.paragraph(String.join(template == PdfTemplate.MINIMAL ? "  ·  " : ",  ", labels),
+                        body, 0);
+            }
+        }
+
+        /**
+         * Professional sidebar: contact, skills with level bars, languages
+         */
+        private void sidebar() throws IOException {
+            TextStyle sidebarHeading = new TextStyle(heading.font(), 10, theme.primary()).withSpacing(0.6f);
+            TextStyle sidebarText = contact;
+            List<String> items = contactItems();
+            if (!items.isEmpty()) {
+                sidebarHeading(sidebarHeading, "Contact", false);
+                for (String item : items) {
+                    sidebar.paragraph(item, sidebarText, 0);
+                    sidebar.space(3);
+                }
+            }
+
+            List<Resume.Skill> skills = present(resume.getSkills());
+            if (!skills.isEmpty()) {
+                sidebarHeading(sidebarHeading, "Skills", !items.isEmpty());
+                for (Resume.Skill skill : skills) {
+                    String skillName = PdfText.clean(skill.getName());
+                    if (skillName == null) {
+                        continue;
+                    }
+                    sidebar.ensure(sidebarText.leading() + 8);
+                    sidebar.paragraph(skillName, sidebarText, 0);
+                    int level = level(skill.getLevel());
+                    if (level > 0) {
+                        sidebar.space(2);
+                        skillBar(level);
+                    }
+                    sidebar.space(6);
+                }
+            }
+
+            List<Resume.Language> languages = present(resume.getLanguages());
+            if (!languages.isEmpty()) {
+                sidebarHeading(sidebarHeading, "Languages", true);
+                TextStyle proficiency = small;
+                for (Resume.Language language : languages) {
+                    sidebar.paragraph(PdfText.clean(language.getName()), sidebarText, 0);
+                    sidebar.paragraph(PdfText.clean(language.getProficiency()), proficiency, 0);
+                    sidebar.space(4);
+                }
+            }
+        }
+
+        private void sidebarHeading(TextStyle style, String label, boolean gap) throws IOException {
+            if (gap) {
+                sidebar.space(sectionGap);
+            }
+            sidebar.ensure(style.leading() + 2 * contact.leading());
+            sidebar.paragraph(label.toUpperCase(Locale.ROOT), style, 0);
+            sidebar.space(4);
+        }
+
+        /**
+         * Four segments, filled up to the level
+         */
+        private void skillBar(int level) throws IOException {
+            float gap = 3;
+            float height = 4;
+            float segment = (sidebar.width() - 3 * gap) / 4;
+            float top = sidebar.advance(height);
+            PDPageContentStream stream = sidebar.stream();
+            for (int i = 0; i < 4; i++) {
+                PdfCanvas.roundedRect(stream, sidebar.left() + i * (segment + gap), top - height, segment, height,
+                        height / 2, i < level ? theme.primary() : theme.border(), null);
+            }
+        }
+
+        // ==================== ENTRIES ====================
+
+        /**
+         * Title with dates on the right and the subtitle below. Creative
+         * entries hang off a timeline dot and show the dates as a pill.
+         */
+        private void entry(int index, String entryTitle, String dates, String entrySubtitle) throws IOException {
+            PdfCanvas.checkInterrupted();
+            if (index > 0) {
+                main.space(entryGap);
+            }
+            String titleText = PdfText.clean(entryTitle);
+            String subtitleText = PdfText.clean(entrySubtitle);
+            main.ensure(title.leading() + subtitle.leading() + 2 * body.leading());
+            float indent = indent();
+            if (template == PdfTemplate.CREATIVE) {
+                float lineTop = main.y();
+                PdfCanvas.circle(main.stream(), main.left() + 4, lineTop - title.leading() / 2, 3.5f,
+                        Color.WHITE, theme.accent());
+                main.row(titleText, title, dates, date, PdfTheme.tint(theme.primary(), 0.12f), indent);
+            } else {
+                main.row(titleText, title, dates, date, null, indent);
+            }
+            main.paragraph(subtitleText, subtitle, indent);
+            if (subtitleText != null || titleText != null) {
+                main.space(2);
+            }
+        }
+
+        private void technologies(List<String> technologies, float indent) throws IOException {
+            List<String> names = new ArrayList<>();
+            for (String technology : present(technologies)) {
+                String cleaned = PdfText.clean(technology);
+                if (cleaned != null) {
+                    names.add(cleaned);
+                }
+            }
+            if (!names.isEmpty()) {
+                main.space(2);
+                main.paragraph("Technologies: " + String.join(", ", names), small, indent);
+            }
+        }
+
+        private float indent() {
+            return template == PdfTemplate.CREATIVE ? 16 : 0;
+        }
+
+        // ==================== HELPERS ====================
+
+        private static PDFont font(Standard14Fonts.FontName fontName) {
+            return new PDType1Font(fontName);
+        }
+
+        /**
+         * "name • level" labels of skills with a name
+         */
+        private static List<String> labels(List<Resume.Skill> skills) {
+            List<String> labels = new ArrayList<>();
+            for (Resume.Skill skill : skills) {
+                String skillName = PdfText.clean(skill.getName());
+                if (skillName == null) {
+                    continue;
+                }
+                String level = PdfText.clean(skill.getLevel());
+                labels.add(level != null ? skillName + " • " + level : skillName);
+            }
+            return labels;
+        }
+
+        /**
+         * Filled segments of a skill bar (editor levels), 0 for no bar
+         */
+        private static int level(String level) {
+            if (level == null) {
+                return 0;
+            }
+            return switch (level.trim().toLowerCase(Locale.ROOT)) {
+                case "beginner" -> 1;
+                case "intermediate" -> 2;
+                case "advanced" -> 3;
+                case "expert" -> 4;
+                default -> 0;
+            };
+        }
+
+        /**
+         * Cleaned non-blank parts joined, null if there are none
+         */
+        private static String join(String separator, String... parts) {
+            List<String> present = new ArrayList<>();
+            for (String part : parts) {
+                String cleaned = PdfText.clean(part);
+                if (cleaned != null) {
+                    present.add(cleaned);
+                }
+            }
+            return present.isEmpty() ? null : String.join(separator, present);
+        }
+
+        private static <T> List<T> present(List<T> items) {
+            return items == null ? List.of() : items.stream().filter(Objects::nonNull).toList();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.sasindu.rdsumebuilder.pdf;
+
+import org.apache.pdfbox.pdmodel.font.PDFont;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Font, size, color and line height of a run of text
+ *
+ * @param leading     Line height in points
+ * @param charSpacing Extra space between characters (tracking)
+ */
+record TextStyle(PDFont font, float size, Color color, float leading, float charSpacing) {
+
+    TextStyle(PDFont font, float size, Color color) {
+        this(font, size, color, size * 1.45f, 0);
+    }
+
+    TextStyle withColor(Color color) {
+        return new TextStyle(font, size, color, leading, charSpacing);
+    }
+
+    TextStyle withSpacing(float charSpacing) {
+        return new TextStyle(font, size, color, leading, charSpacing);
+    }
+
+    /**
+     * Width of text already cleaned by PdfText
+     */
+    float width(String text) {
+        try {
+            return font.getStringWidth(text) / 1000 * size + charSpacing * text.length();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
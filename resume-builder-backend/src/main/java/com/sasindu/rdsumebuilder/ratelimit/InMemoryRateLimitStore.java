@@ -0,0 +1,125 @@
+package com.sasindu.rdsumebuilder.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Lock-striped, in-memory sliding-window rate limit store.
+ *
+ * Uses the sliding window counter approximation: each key keeps only the
+ * count of the current and previous fixed windows, and the previous count
+ * is weighted by how much of it still overlaps the sliding window. That is
+ * three numbers per key, and no allocation per request once the key exists.
+ *
+ * Keys are spread over independent stripes (one lock each). Every stripe is
+ * an LRU map with a fixed capacity, and idle keys are swept lazily, so memory
+ * stays bounded even when an attacker rotates IPs or emails.
+ */
+@Component
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final int STRIPES = 64;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public InMemoryRateLimitStore(@Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+        int perStripe = Math.max(16, maxKeys / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int limit, long windowMillis, long nowMillis) {
+        Stripe stripe = stripes[(key.hashCode() & 0x7fffffff) % STRIPES];
+        synchronized (stripe) {
+            stripe.sweepIdle(windowMillis, nowMillis);
+
+            Window window = stripe.windows.get(key);
+            if (window == null) {
+                window = new Window();
+                stripe.windows.put(key, window);
+            }
+            return window.tryAcquire(limit, windowMillis, nowMillis);
+        }
+    }
+
+    /**
+     * Current number of tracked keys (for monitoring)
+     *
+     * @return Key count across all stripes
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.windows.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * One lock + one bounded LRU map
+     */
+    private static final class Stripe {
+
+        private final Map<String, Window> windows;
+        private long lastSweepMillis;
+
+        Stripe(int capacity) {
+            this.windows = new LinkedHashMap<>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        /**
+         * Drop keys not seen for two windows (they no longer affect any decision).
+         * Runs at most once per window per stripe.
+         */
+        void sweepIdle(long windowMillis, long nowMillis) {
+            if (nowMillis - lastSweepMillis < windowMillis) {
+                return;
+            }
+            lastSweepMillis = nowMillis;
+            long idleBefore = nowMillis - 2 * windowMillis;
+            windows.values().removeIf(window -> window.lastSeenMillis < idleBefore);
+        }
+    }
+
+    /**
+     * Sliding window counter state for a single key
+     */
+    private static final class Window {
+
+        private long windowStartMillis;
+        private int currentCount;
+        private int previousCount;
+        private long lastSeenMillis;
+
+        boolean tryAcquire(int limit, long windowMillis, long nowMillis) {
+            lastSeenMillis = nowMillis;
+
+            long start = nowMillis - (nowMillis % windowMillis);
+            if (start != windowStartMillis) {
+                // Roll over: the current window becomes the previous one only if adjacent
+                previousCount = (start - windowStartMillis == windowMillis) ? currentCount : 0;
+                currentCount = 0;
+                windowStartMillis = start;
+            }
+
+            double previousWeight = 1.0 - (double) (nowMillis - start) / windowMillis;
+            if (previousCount * previousWeight + currentCount >= limit) {
+                return false;
+            }
+            currentCount++;
+            return true;
+        }
+    }
+}
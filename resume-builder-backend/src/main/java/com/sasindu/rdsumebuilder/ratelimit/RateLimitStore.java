@@ -0,0 +1,20 @@
+package com.sasindu.rdsumebuilder.ratelimit;
+
+/**
+ * Backing store for request rate limits.
+ * The in-memory implementation limits per node; a shared store (Redis, etc.)
+ * can implement the same contract to limit across nodes.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Record a request for a key if it is still within its limit
+     *
+     * @param key          Rate limit key (endpoint + IP or email)
+     * @param limit        Max requests per window
+     * @param windowMillis Sliding window length in milliseconds
+     * @param nowMillis    Current time in milliseconds
+     * @return true if the request is allowed, false if it must be rejected
+     */
+    boolean tryAcquire(String key, int limit, long windowMillis, long nowMillis);
+}
@@ -0,0 +1,48 @@
+package com.sasindu.rdsumebuilder.repository;
+
+import com.sasindu.rdsumebuilder.document.RefreshToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Refresh token repository for database operations.
+ */
+@Repository
+public interface RefreshTokenRepository extends MongoRepository<RefreshToken, String> {
+
+    /**
+     * Find a refresh token by its digest.
+     *
+     * @param tokenHash SHA-256 digest of the raw token
+     * @return Optional containing RefreshToken if found
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Mark a token used, only if nobody has used it yet (atomic).
+     *
+     * @param tokenHash SHA-256 digest of the raw token
+     * @param usedAt    Time of use
+     * @return Number of tokens marked (0 if it was already used)
+     */
+    @Update("{ '$set': { 'usedAt': ?1 } }")
+    long findAndSetUsedAtByTokenHashAndUsedAtIsNull(String tokenHash, LocalDateTime usedAt);
+
+    /**
+     * Revoke a whole rotation chain (reuse detected).
+     *
+     * @param familyId Rotation chain ID
+     */
+    void deleteByFamilyId(String familyId);
+
+    /**
+     * Revoke every refresh token of a user.
+     *
+     * @param email User's email
+     */
+    void deleteByEmail(String email);
+}
@@ -4,22 +4,40 @@ import com.sasindu.rdsumebuilder.document.Resume;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository // Marks this as a repository component
-public interface ResumeRepository extends MongoRepository<Resume, String> {
+public interface ResumeRepository extends MongoRepository<Resume, String>, ResumeRepositoryCustom {
 
     List<Resume> findByUserId(String userId);
 
+    /**
+     * A user's resumes from a cursor, newest first (PDF archive);
+     * close the stream when done
+     */
+    Stream<Resume> streamByUserIdOrderByUpdatedAtDesc(String userId);
+
     Optional<Resume> findByIdAndUserId(String id, String userId);
 
     long countByUserId(String userId);
 
     void deleteByUserId(String userId);
 
-    List<Resume> findByTemplate(String template);
+    long deleteByIdAndUserId(String id, String userId);
 
     List<Resume> findByUserIdAndTitleContaining(String userId, String title);
 
+    /**
+     * Title matches among a user's resumes changed after a point in time
+     * (range on the userId + updatedAt index)
+     */
+    List<Resume> findByUserIdAndUpdatedAtAfterAndTitleContaining(String userId, LocalDateTime updatedAfter,
+            String title);
+
+    List<Resume> findByIdInAndUserId(Collection<String> ids, String userId);
+
 }
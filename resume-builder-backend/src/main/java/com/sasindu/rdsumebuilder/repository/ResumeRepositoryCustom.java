@@ -0,0 +1,103 @@
+package com.sasindu.rdsumebuilder.repository;
+
+import com.sasindu.rdsumebuilder.document.Resume;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Partial resume updates.
+ * Each call is one findAndModify filtered on id and owner, so only the
+ * changed fields travel to MongoDB and the document is never rewritten.
+ */
+public interface ResumeRepositoryCustom {
+
+    /**
+     * Apply an update to a resume owned by the user, whatever its revision.
+     * The revision is still incremented so other sessions see the change.
+     *
+     * @param id            Resume ID
+     * @param userId        Owner (user's email)
+     * @param requiredPaths Paths that must exist (array elements addressed by index)
+     * @param update        $set/$unset operations
+     * @return Updated resume, or empty if not found, not owned or a required path is missing
+     */
+    Optional<Resume> updateOwned(String id, String userId, Collection<String> requiredPaths, Update update);
+
+    /**
+     * Apply an update only if the resume is still at the expected revision,
+     * and increment the revision in the same write
+     *
+     * @param id               Resume ID
+     * @param userId           Owner (user's email)
+     * @param expectedRevision Revision the client based its changes on
+     * @param requiredPaths    Paths that must exist (array elements addressed by index)
+     * @param update           $set/$unset operations
+     * @return Resume with only id, revision and updatedAt, or empty if nothing matched
+     */
+    Optional<Resume> updateRevision(String id, String userId, long expectedRevision,
+            Collection<String> requiredPaths, Update update);
+
+    /**
+     * Same as {@link #updateRevision} but returns the whole updated resume
+     *
+     * @return Updated resume, or empty if nothing matched
+     */
+    Optional<Resume> updateRevisionAndGet(String id, String userId, long expectedRevision,
+            Collection<String> requiredPaths, Update update);
+
+    /**
+     * Current revision of a resume owned by the user
+     *
+     * @param id     Resume ID
+     * @param userId Owner (user's email)
+     * @return Revision, or empty if not found or not owned
+     */
+    Optional<Long> findRevision(String id, String userId);
+
+    /**
+     * One page of a user's resumes for the dashboard, newest updatedAt first.
+     * Only card fields are loaded (projection), and paging is keyset based:
+     * the page starts after (afterUpdatedAt, afterId), so cost does not grow
+     * with the page number.
+     *
+     * @param userId         Owner (user's email)
+     * @param afterUpdatedAt updatedAt of the last item of the previous page, null for the first page
+     * @param afterId        id of the last item of the previous page, null for the first page
+     * @param limit          Max number of resumes
+     * @return Resumes with id, title, template, colorTheme, createdAt and updatedAt only
+     */
+    List<Resume> findSummaries(String userId, LocalDateTime afterUpdatedAt, String afterId, int limit);
+
+    /**
+     * Set or remove the share link slug of a resume owned by the user.
+     * Sharing is not an edit: revision and updatedAt stay as they are, so
+     * open editors keep saving without a conflict.
+     *
+     * @param id     Resume ID
+     * @param userId Owner (user's email)
+     * @param slug   New slug, only set if the resume has none yet; null removes the link
+     * @return Whether a resume matched
+     */
+    boolean updateShareSlug(String id, String userId, String slug);
+
+    /**
+     * Resume behind a public share link (unique shareSlug index, id only)
+     *
+     * @param shareSlug Slug from the link
+     * @return Resume ID, or empty if no resume is shared under this slug
+     */
+    Optional<String> findIdByShareSlug(String shareSlug);
+
+    /**
+     * Number of resumes per owner, for reconciling the users' resume
+     * counters. Reads the whole collection (covered by the userId index).
+     *
+     * @return Resume count by owner (user's email); users without resumes are absent
+     */
+    Map<String, Long> countPerUser();
+}
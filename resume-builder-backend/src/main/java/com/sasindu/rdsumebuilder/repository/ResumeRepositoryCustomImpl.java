@@ -0,0 +1,137 @@
+package com.sasindu.rdsumebuilder.repository;
+
+import com.sasindu.rdsumebuilder.document.Resume;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * MongoTemplate implementation of {@link ResumeRepositoryCustom}.
+ * Picked up by Spring Data as a fragment of {@link ResumeRepository}.
+ */
+@RequiredArgsConstructor
+public class ResumeRepositoryCustomImpl implements ResumeRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final FindAndModifyOptions RETURN_NEW = FindAndModifyOptions.options().returnNew(true);
+
+    @Override
+    public Optional<Resume> updateOwned(String id, String userId, Collection<String> requiredPaths, Update update) {
+        Criteria criteria = owned(id, userId, requiredPaths);
+        update.inc("revision", 1L).currentDate("updatedAt");
+        return Optional.ofNullable(mongoTemplate.findAndModify(Query.query(criteria), update, RETURN_NEW, Resume.class));
+    }
+
+    @Override
+    public Optional<Resume> updateRevision(String id, String userId, long expectedRevision,
+            Collection<String> requiredPaths, Update update) {
+        Query query = atRevision(id, userId, expectedRevision, requiredPaths);
+        // Only the new revision goes back over the wire, not the document
+        query.fields().include("revision", "updatedAt");
+        update.inc("revision", 1L).currentDate("updatedAt");
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETURN_NEW, Resume.class));
+    }
+
+    @Override
+    public Optional<Resume> updateRevisionAndGet(String id, String userId, long expectedRevision,
+            Collection<String> requiredPaths, Update update) {
+        Query query = atRevision(id, userId, expectedRevision, requiredPaths);
+        update.inc("revision", 1L).currentDate("updatedAt");
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETURN_NEW, Resume.class));
+    }
+
+    @Override
+    public Optional<Long> findRevision(String id, String userId) {
+        Query query = Query.query(Criteria.where("id").is(id).and("userId").is(userId));
+        query.fields().include("revision");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Resume.class))
+                .map(Resume::getRevisionOrDefault);
+    }
+
+    @Override
+    public List<Resume> findSummaries(String userId, LocalDateTime afterUpdatedAt, String afterId, int limit) {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (afterUpdatedAt != null && afterId != null) {
+            // Strictly after the cursor in (updatedAt desc, id desc) order;
+            // id breaks ties between resumes saved in the same millisecond
+            criteria = criteria.orOperator(
+                    Criteria.where("updatedAt").lt(afterUpdatedAt),
+                    Criteria.where("updatedAt").is(afterUpdatedAt).and("id").lt(afterId));
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "updatedAt", "id"))
+                .limit(limit);
+        query.fields().include("title", "template", "colorTheme", "createdAt", "updatedAt");
+        return mongoTemplate.find(query, Resume.class);
+    }
+
+    @Override
+    public boolean updateShareSlug(String id, String userId, String slug) {
+        Criteria criteria = Criteria.where("id").is(id).and("userId").is(userId);
+        // unset rather than null: the unique index is sparse, and nulls would collide
+        Update update = new Update();
+        if (slug != null) {
+            criteria = criteria.and("shareSlug").exists(false);
+            update.set("shareSlug", slug);
+        } else {
+            update.unset("shareSlug");
+        }
+        return mongoTemplate.updateFirst(Query.query(criteria), update, Resume.class).getMatchedCount() > 0;
+    }
+
+    @Override
+    public Optional<String> findIdByShareSlug(String shareSlug) {
+        Query query = Query.query(Criteria.where("shareSlug").is(shareSlug));
+        query.fields().include("id");
+        return Optional.ofNullable(mongoTemplate.findOne(query, Resume.class)).map(Resume::getId);
+    }
+
+    @Override
+    public Map<String, Long> countPerUser() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.sort(Sort.Direction.ASC, "userId"),
+                Aggregation.group("userId").count().as("count"))
+                .withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+        Map<String, Long> counts = new HashMap<>();
+        // Sorting on userId first lets the group walk the userId index
+        try (Stream<Document> rows = mongoTemplate.aggregateStream(aggregation, Resume.class, Document.class)) {
+            rows.forEach(row -> counts.put(row.getString("_id"), ((Number) row.get("count")).longValue()));
+        }
+        return counts;
+    }
+
+    private static Query atRevision(String id, String userId, long expectedRevision, Collection<String> requiredPaths) {
+        Criteria criteria = owned(id, userId, requiredPaths);
+        // Resumes saved before revisions existed have no field: treat as 0
+        criteria = expectedRevision == 0
+                ? criteria.and("revision").in(0L, null)
+                : criteria.and("revision").is(expectedRevision);
+        return Query.query(criteria);
+    }
+
+    private static Criteria owned(String id, String userId, Collection<String> requiredPaths) {
+        Criteria criteria = Criteria.where("id").is(id).and("userId").is(userId);
+        // $set on "experience.5.company" would pad a shorter array with nulls,
+        // so positional updates only match when the element exists
+        for (String path : requiredPaths) {
+            criteria = criteria.and(path).exists(true);
+        }
+        return criteria;
+    }
+}
@@ -0,0 +1,31 @@
+package com.sasindu.rdsumebuilder.repository;
+
+import com.sasindu.rdsumebuilder.document.RevokedToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+/**
+ * Revoked token repository for database operations.
+ */
+@Repository
+public interface RevokedTokenRepository extends MongoRepository<RevokedToken, String> {
+
+    /**
+     * Exact revocation check.
+     *
+     * @param jti JWT ID
+     * @return true if the token was revoked
+     */
+    boolean existsByJti(String jti);
+
+    /**
+     * Stream every revoked jti (projection, cursor-backed) to rebuild the Bloom filter.
+     *
+     * @return Stream of RevokedToken with only jti set; must be closed
+     */
+    @Query(value = "{}", fields = "{ 'jti': 1, '_id': 0 }")
+    Stream<RevokedToken> streamAllJtis();
+}
@@ -2,15 +2,17 @@ package com.sasindu.rdsumebuilder.repository;
 
 import com.sasindu.rdsumebuilder.document.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * User repository for database operations.
  */
 @Repository
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
 
     /**
      * Find user by email address.
@@ -43,4 +45,30 @@ public interface UserRepository extends MongoRepository<User, String> {
      * @return Optional containing User if found
      */
     Optional<User> findByPasswordResetToken(String passwordResetToken);
+
+    /**
+     * Load only the token version of a user (projection, no full document).
+     *
+     * @param email The user's email
+     * @return Optional containing a User with only id and tokenVersion set
+     */
+    @Query(value = "{ 'email': ?0 }", fields = "{ 'tokenVersion': 1 }")
+    Optional<User> findTokenVersionByEmail(String email);
+
+    /**
+     * Load only the resume counter of a user (projection, no full document).
+     *
+     * @param email The user's email
+     * @return Optional containing a User with only id and resumeCount set
+     */
+    @Query(value = "{ 'email': ?0 }", fields = "{ 'resumeCount': 1 }")
+    Optional<User> findResumeCountByEmail(String email);
+
+    /**
+     * Stream every user's resume counter (projection, cursor-backed) for the reconciler.
+     *
+     * @return Stream of User with only email, resumeCount and resumeCountUpdatedAt set; must be closed
+     */
+    @Query(value = "{}", fields = "{ 'email': 1, 'resumeCount': 1, 'resumeCountUpdatedAt': 1, '_id': 0 }")
+    Stream<User> streamResumeCounts();
 }
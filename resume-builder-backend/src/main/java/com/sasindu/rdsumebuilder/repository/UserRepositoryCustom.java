@@ -0,0 +1,123 @@
+package com.sasindu.rdsumebuilder.repository;
+
+import com.sasindu.rdsumebuilder.document.User;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Atomic account state transitions.
+ * Each method is one conditional update (or findAndModify) on the users
+ * collection, so concurrent requests cannot lose updates and the whole
+ * document is never rewritten.
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Count a failed login and lock the account when the threshold is reached.
+     * Already-locked accounts are not touched.
+     *
+     * @param email       User's email
+     * @param maxAttempts Failed attempts that lock the account
+     * @return Updated user, or empty if the user does not exist or is already locked
+     */
+    Optional<User> recordFailedLogin(String email, int maxAttempts);
+
+    /**
+     * Reset the failed login counter and optionally replace the password hash
+     *
+     * @param userId          User's ID
+     * @param newPasswordHash New hash (rehash on login), or null to keep the current one
+     */
+    void recordSuccessfulLogin(String userId, String newPasswordHash);
+
+    /**
+     * Mark the email verified if the token exists and has not expired
+     *
+     * @param token Verification token
+     * @param now   Current time
+     * @return Updated user, or empty if the token is invalid or expired
+     */
+    Optional<User> verifyEmail(String token, LocalDateTime now);
+
+    /**
+     * Store a password reset token
+     *
+     * @param email  User's email
+     * @param token  Reset token
+     * @param expiry Token expiry
+     * @return Updated user, or empty if no user has this email
+     */
+    Optional<User> setPasswordResetToken(String email, String token, LocalDateTime expiry);
+
+    /**
+     * Replace the password if the reset token exists and has not expired.
+     * Unlocks the account and bumps tokenVersion in the same update.
+     *
+     * @param token           Password reset token
+     * @param newPasswordHash New BCrypt hash
+     * @param now             Current time
+     * @return Updated user, or empty if the token is invalid or expired
+     */
+    Optional<User> resetPassword(String token, String newPasswordHash, LocalDateTime now);
+
+    /**
+     * Store a new verification token for a user whose email is not verified yet
+     *
+     * @param email  User's email
+     * @param token  Verification token
+     * @param expiry Token expiry
+     * @return Updated user, or empty if not found or already verified
+     */
+    Optional<User> setVerificationToken(String email, String token, LocalDateTime expiry);
+
+    /**
+     * Take resume slots: add amount to resumeCount if the user is premium
+     * (active subscription) or stays within the free limit. The check and
+     * the increment are one write, so concurrent creates cannot overshoot.
+     * Users without a counter yet never match.
+     *
+     * @param email     User's email
+     * @param amount    Slots to take
+     * @param freeLimit Resumes allowed without premium
+     * @param now       Current time (premium expiry check)
+     * @return User with only resumeCount set, or empty if not found, over the limit or not seeded
+     */
+    Optional<User> incrementResumeCount(String email, long amount, long freeLimit, LocalDateTime now);
+
+    /**
+     * Give back resume slots (never below zero)
+     *
+     * @param email  User's email
+     * @param amount Slots to give back
+     */
+    void decrementResumeCount(String email, long amount);
+
+    /**
+     * Seed the counter of a user who has none yet
+     *
+     * @param email User's email
+     * @param count Resumes the user owns
+     * @return true if the counter was set, false if another request seeded it first
+     */
+    boolean initializeResumeCount(String email, long count);
+
+    /**
+     * Set the counter to zero (all resumes deleted)
+     *
+     * @param email User's email
+     */
+    void resetResumeCount(String email);
+
+    /**
+     * Correct a drifted counter, only if it still holds the value the
+     * reconciler read and has not changed since the given time
+     *
+     * @param email         User's email
+     * @param expected      Counter value read by the reconciler (null if missing)
+     * @param actual        Resumes counted in the resumes collection
+     * @param changedBefore Counters changed after this are left alone
+     * @return true if the counter was corrected
+     */
+    boolean reconcileResumeCount(String email, Long expected, long actual, LocalDateTime changedBefore);
+}
@@ -0,0 +1,162 @@
+package com.sasindu.rdsumebuilder.repository;
+
+import com.sasindu.rdsumebuilder.document.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * MongoTemplate implementation of {@link UserRepositoryCustom}.
+ * Picked up by Spring Data as a fragment of {@link UserRepository}.
+ */
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final FindAndModifyOptions RETURN_NEW = FindAndModifyOptions.options().returnNew(true);
+
+    @Override
+    public Optional<User> recordFailedLogin(String email, int maxAttempts) {
+        Query query = Query.query(Criteria.where("email").is(email).and("isLocked").ne(true));
+
+        // Pipeline update: each stage sees the result of the previous one,
+        // so the lock decision uses the incremented counter atomically
+        ComparisonOperators.Gte reachedLimit = ComparisonOperators.valueOf("failedLoginAttempts")
+                .greaterThanEqualToValue(maxAttempts);
+        AggregationUpdate update = AggregationUpdate.update()
+                .set("failedLoginAttempts").toValue(
+                        ArithmeticOperators.valueOf(ConditionalOperators.ifNull("failedLoginAttempts").then(0))
+                                .add(1))
+                .set("isLocked").toValue(reachedLimit)
+                .set("tokenVersion").toValue(
+                        ArithmeticOperators.valueOf(ConditionalOperators.ifNull("tokenVersion").then(0L))
+                                .add(ConditionalOperators.when(reachedLimit).then(1L).otherwise(0L)))
+                .set("updatedAt").toValue("$$NOW");
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETURN_NEW, User.class));
+    }
+
+    @Override
+    public void recordSuccessfulLogin(String userId, String newPasswordHash) {
+        Update update = new Update()
+                .set("failedLoginAttempts", 0)
+                .currentDate("updatedAt");
+        if (newPasswordHash != null) {
+            update.set("password", newPasswordHash);
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(userId)), update, User.class);
+    }
+
+    @Override
+    public Optional<User> verifyEmail(String token, LocalDateTime now) {
+        Query query = Query.query(Criteria.where("verificationToken").is(token)
+                .and("verificationTokenExpiry").gt(now));
+        Update update = new Update()
+                .set("isEmailVerified", true)
+                .unset("verificationToken")
+                .unset("verificationTokenExpiry")
+                .currentDate("updatedAt");
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETURN_NEW, User.class));
+    }
+
+    @Override
+    public Optional<User> setPasswordResetToken(String email, String token, LocalDateTime expiry) {
+        Query query = Query.query(Criteria.where("email").is(email));
+        Update update = new Update()
+                .set("passwordResetToken", token)
+                .set("passwordResetTokenExpiry", expiry)
+                .currentDate("updatedAt");
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETURN_NEW, User.class));
+    }
+
+    @Override
+    public Optional<User> resetPassword(String token, String newPasswordHash, LocalDateTime now) {
+        Query query = Query.query(Criteria.where("passwordResetToken").is(token)
+                .and("passwordResetTokenExpiry").gt(now));
+        Update update = new Update()
+                .set("password", newPasswordHash)
+                .set("isLocked", false)
+                .set("failedLoginAttempts", 0)
+                .unset("passwordResetToken")
+                .unset("passwordResetTokenExpiry")
+                // Revoke every token issued with the old password
+                .inc("tokenVersion", 1L)
+                .currentDate("updatedAt");
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETURN_NEW, User.class));
+    }
+
+    @Override
+    public Optional<User> setVerificationToken(String email, String token, LocalDateTime expiry) {
+        Query query = Query.query(Criteria.where("email").is(email).and("isEmailVerified").ne(true));
+        Update update = new Update()
+                .set("verificationToken", token)
+                .set("verificationTokenExpiry", expiry)
+                .currentDate("updatedAt");
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETURN_NEW, User.class));
+    }
+
+    @Override
+    public Optional<User> incrementResumeCount(String email, long amount, long freeLimit, LocalDateTime now) {
+        Query query = Query.query(Criteria.where("email").is(email)
+                .and("resumeCount").ne(null)
+                .orOperator(
+                        Criteria.where("resumeCount").lte(freeLimit - amount),
+                        Criteria.where("isPremium").is(true).and("premiumExpiryDate").gt(now)));
+        query.fields().include("resumeCount");
+        Update update = new Update()
+                .inc("resumeCount", amount)
+                .currentDate("resumeCountUpdatedAt");
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, RETURN_NEW, User.class));
+    }
+
+    @Override
+    public void decrementResumeCount(String email, long amount) {
+        Query query = Query.query(Criteria.where("email").is(email).and("resumeCount").gte(amount));
+        Update update = new Update()
+                .inc("resumeCount", -amount)
+                .currentDate("resumeCountUpdatedAt");
+        mongoTemplate.updateFirst(query, update, User.class);
+    }
+
+    @Override
+    public boolean initializeResumeCount(String email, long count) {
+        // is(null) also matches documents without the field
+        Query query = Query.query(Criteria.where("email").is(email).and("resumeCount").is(null));
+        Update update = new Update()
+                .set("resumeCount", count)
+                .currentDate("resumeCountUpdatedAt");
+        return mongoTemplate.updateFirst(query, update, User.class).getModifiedCount() > 0;
+    }
+
+    @Override
+    public void resetResumeCount(String email) {
+        Update update = new Update()
+                .set("resumeCount", 0L)
+                .currentDate("resumeCountUpdatedAt");
+        mongoTemplate.updateFirst(Query.query(Criteria.where("email").is(email)), update, User.class);
+    }
+
+    @Override
+    public boolean reconcileResumeCount(String email, Long expected, long actual, LocalDateTime changedBefore) {
+        Query query = Query.query(Criteria.where("email").is(email)
+                .and("resumeCount").is(expected)
+                .orOperator(
+                        Criteria.where("resumeCountUpdatedAt").is(null),
+                        Criteria.where("resumeCountUpdatedAt").lt(changedBefore)));
+        Update update = new Update()
+                .set("resumeCount", actual)
+                .currentDate("resumeCountUpdatedAt");
+        return mongoTemplate.updateFirst(query, update, User.class).getModifiedCount() > 0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.sasindu.rdsumebuilder.search;
+
+import java.util.Arrays;
+
+/**
+ * Set of doc slots that picks its representation by density.
+ *
+ * Rare values (most skills, every small town) are a sorted int array: 4
+ * bytes per doc. Once a value covers more than 1/32 of the slots a bitset
+ * is smaller, so the set switches to long words; it switches back below
+ * 1/64 to avoid flapping. Not thread-safe (guarded by TalentIndex's lock).
+ */
+final class DocSet {
+
+    private static final int MIN_DENSE_CARDINALITY = 4096;
+
+    private int[] docs = new int[2];
+    private long[] words;
+    private int cardinality;
+
+    int cardinality() {
+        return cardinality;
+    }
+
+    boolean isDense() {
+        return words != null;
+    }
+
+    /**
+     * Bitset words (dense sets only, may be shorter than the slot range)
+     */
+    long[] words() {
+        return words;
+    }
+
+    /**
+     * Sorted slots (sparse sets only, first cardinality() entries)
+     */
+    int[] docs() {
+        return docs;
+    }
+
+    boolean contains(int doc) {
+        if (words != null) {
+            int word = doc >>> 6;
+            return word < words.length && (words[word] & (1L << doc)) != 0;
+        }
+        return Arrays.binarySearch(docs, 0, cardinality, doc) >= 0;
+    }
+
+    /**
+     * @param doc      Slot to add
+     * @param maxSlots Current number of slots (for the density decision)
+     */
+    void add(int doc, int maxSlots) {
+        if (words != null) {
+            int word = doc >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+            }
+            if ((words[word] & (1L << doc)) == 0) {
+                words[word] |= 1L << doc;
+                cardinality++;
+            }
+            return;
+        }
+        int index = Arrays.binarySearch(docs, 0, cardinality, doc);
+        if (index >= 0) {
+            return;
+        }
+        index = -(index + 1);
+        if (cardinality == docs.length) {
+            docs = Arrays.copyOf(docs, cardinality + (cardinality >> 1) + 1);
+        }
+        System.arraycopy(docs, index, docs, index + 1, cardinality - index);
+        docs[index] = doc;
+        cardinality++;
+        if (cardinality >= MIN_DENSE_CARDINALITY && cardinality > maxSlots / 32) {
+            toDense(maxSlots);
+        }
+    }
+
+    /**
+     * @param doc      Slot to remove
+     * @param maxSlots Current number of slots (for the density decision)
+     */
+    void remove(int doc, int maxSlots) {
+        if (words != null) {
+            int word = doc >>> 6;
+            if (word < words.length && (words[word] & (1L << doc)) != 0) {
+                words[word] &= ~(1L << doc);
+                cardinality--;
+                if (cardinality < maxSlots / 64) {
+                    toSparse();
+                }
+            }
+            return;
+        }
+        int index = Arrays.binarySearch(docs, 0, cardinality, doc);
+        if (index >= 0) {
+            System.arraycopy(docs, index + 1, docs, index, cardinality - index - 1);
+            cardinality--;
+        }
+    }
+
+    private void toDense(int maxSlots) {
+        long[] dense = new long[(Math.max(maxSlots, docs[cardinality - 1] + 1) + 63) >>> 6];
+        for (int i = 0; i < cardinality; i++) {
+            dense[docs[i] >>> 6] |= 1L << docs[i];
+        }
+        words = dense;
+        docs = null;
+    }
+
+    private void toSparse() {
+        int[] sparse = new int[Math.max(2, cardinality)];
+        int n = 0;
+        for (int word = 0; word < words.length; word++) {
+            long bits = words[word];
+            while (bits != 0) {
+                sparse[n++] = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        docs = sparse;
+        words = null;
+    }
+}
@@ -0,0 +1,440 @@
+package com.sasindu.rdsumebuilder.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over resumes, ranked with BM25.
+ *
+ * Every resume gets an int document id. Each term maps to a posting list of
+ * (doc id, term frequency) stored in two int arrays, in ascending doc id
+ * order. An updated resume is re-added under a new doc id and the old one is
+ * marked deleted; once a quarter of the ids are deleted, the index is
+ * compacted (ids renumbered, dead postings dropped).
+ *
+ * Searches are always scoped to one owner. The owner's doc ids (usually a
+ * handful) are intersected with each term's posting list by galloping
+ * search, so a query costs O(owner docs * log(postings)) per term no matter
+ * how large the corpus is. All query terms must match (AND); a prefix term
+ * scores with its best-matching expansion.
+ *
+ * Thread safety: one read-write lock; writes are short (one document).
+ */
+public class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /**
+     * Upper bound on the terms a prefix expands to
+     */
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final int MIN_COMPACTION_DELETES = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Sorted, for prefix expansion
+     */
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+
+    private final Map<String, Integer> docByResumeId = new HashMap<>();
+    private final Map<String, IntList> docsByOwner = new HashMap<>();
+
+    private String[] resumeIds = new String[1024];
+    private String[] owners = new String[1024];
+    private long[] revisions = new long[1024];
+    private int[] lengths = new int[1024];
+    private BitSet deleted = new BitSet();
+
+    private int maxDoc;
+    private int liveDocs;
+    private int deletedDocs;
+    private long totalLength;
+
+    /**
+     * A ranked match
+     *
+     * @param resumeId Resume ID
+     * @param score    BM25 score
+     */
+    public record Hit(String resumeId, float score) {
+    }
+
+    /**
+     * A resume ready to be added
+     *
+     * @param resumeId Resume ID
+     * @param owner    Owner (user's email)
+     * @param revision Resume revision; older revisions never replace newer ones
+     * @param terms    Tokenized content
+     */
+    public record IndexedResume(String resumeId, String owner, long revision, ResumeTokenizer.DocumentTerms terms) {
+    }
+
+    /**
+     * Add or replace a resume
+     *
+     * @param resume Tokenized resume
+     */
+    public void add(IndexedResume resume) {
+        addAll(List.of(resume));
+    }
+
+    /**
+     * Add or replace resumes under one lock acquisition (bulk loading)
+     *
+     * @param batch Tokenized resumes
+     */
+    public void addAll(List<IndexedResume> batch) {
+        lock.writeLock().lock();
+        try {
+            for (IndexedResume resume : batch) {
+                Integer existing = docByResumeId.get(resume.resumeId());
+                if (existing != null) {
+                    if (revisions[existing] > resume.revision()) {
+                        continue;
+                    }
+                    delete(existing);
+                }
+                insert(resume);
+            }
+            maybeCompact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a resume
+     *
+     * @param resumeId Resume ID
+     */
+    public void remove(String resumeId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByResumeId.get(resumeId);
+            if (doc != null) {
+                delete(doc);
+                maybeCompact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every resume of an owner
+     *
+     * @param owner Owner (user's email)
+     */
+    public void removeOwner(String owner) {
+        lock.writeLock().lock();
+        try {
+            IntList docs = docsByOwner.get(owner);
+            if (docs == null) {
+                return;
+            }
+            for (int doc : docs.toArray()) {
+                delete(doc);
+            }
+            maybeCompact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rank an owner's resumes against a query
+     *
+     * @param owner Owner (user's email)
+     * @param query Parsed query terms
+     * @param limit Max hits
+     * @return Hits, best first
+     */
+    public List<Hit> search(String owner, List<ResumeTokenizer.QueryTerm> query, int limit) {
+        lock.readLock().lock();
+        try {
+            IntList ownerDocs = docsByOwner.get(owner);
+            if (ownerDocs == null || ownerDocs.size == 0 || query.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+            int[] docs = ownerDocs.values;
+            int count = ownerDocs.size;
+            float[] scores = new float[count];
+            float[] best = new float[count];
+            float avgLength = (float) totalLength / liveDocs;
+
+            for (ResumeTokenizer.QueryTerm term : query) {
+                Arrays.fill(best, 0f);
+                for (Postings postings : expand(term)) {
+                    scoreTerm(postings, docs, count, scores, best, avgLength);
+                }
+                // AND: a resume missing this term is out (score stays negative)
+                for (int i = 0; i < count; i++) {
+                    scores[i] = best[i] > 0f && scores[i] >= 0f ? scores[i] + best[i] : -1f;
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                if (scores[i] > 0f) {
+                    hits.add(new Hit(resumeIds[docs[i]], scores[i]));
+                }
+            }
+            hits.sort((a, b) -> Float.compare(b.score(), a.score()));
+            return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed (live) resumes
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of distinct terms
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best BM25 contribution of one posting list for each candidate doc
+     */
+    private void scoreTerm(Postings postings, int[] docs, int count, float[] scores, float[] best, float avgLength) {
+        // Deleted postings count towards df until the next compaction
+        int df = Math.min(postings.size, liveDocs);
+        float idf = (float) Math.log(1 + (liveDocs - df + 0.5) / (df + 0.5));
+        int position = 0;
+        for (int i = 0; i < count && position < postings.size; i++) {
+            if (scores[i] < 0f) {
+                continue;
+            }
+            position = advance(postings.docs, position, postings.size, docs[i]);
+            if (position < postings.size && postings.docs[position] == docs[i]) {
+                int tf = postings.freqs[position];
+                float norm = K1 * (1 - B + B * lengths[docs[i]] / avgLength);
+                float score = idf * tf * (K1 + 1) / (tf + norm);
+                if (score > best[i]) {
+                    best[i] = score;
+                }
+            }
+        }
+    }
+
+    /**
+     * First index >= from whose doc id is >= target (galloping search)
+     */
+    static int advance(int[] docs, int from, int size, int target) {
+        int low = from;
+        int high = from;
+        int step = 1;
+        while (high < size && docs[high] < target) {
+            low = high + 1;
+            high = from + step;
+            step <<= 1;
+        }
+        high = Math.min(high + 1, size);
+        int found = Arrays.binarySearch(docs, low, high, target);
+        return found >= 0 ? found : -(found + 1);
+    }
+
+    private List<Postings> expand(ResumeTokenizer.QueryTerm term) {
+        if (!term.prefix()) {
+            Postings postings = terms.get(term.text());
+            return postings != null ? List.of(postings) : List.of();
+        }
+        NavigableMap<String, Postings> matches = terms.subMap(term.text(), true, term.text() + Character.MAX_VALUE, false);
+        List<Postings> result = new ArrayList<>(Math.min(matches.size(), MAX_PREFIX_EXPANSIONS));
+        for (Postings postings : matches.values()) {
+            if (result.size() == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            result.add(postings);
+        }
+        return result;
+    }
+
+    private void insert(IndexedResume resume) {
+        int doc = maxDoc++;
+        if (doc == resumeIds.length) {
+            int capacity = resumeIds.length * 2;
+            resumeIds = Arrays.copyOf(resumeIds, capacity);
+            owners = Arrays.copyOf(owners, capacity);
+            revisions = Arrays.copyOf(revisions, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        resumeIds[doc] = resume.resumeId();
+        owners[doc] = resume.owner();
+        revisions[doc] = resume.revision();
+        lengths[doc] = resume.terms().length();
+        docByResumeId.put(resume.resumeId(), doc);
+        docsByOwner.computeIfAbsent(resume.owner(), key -> new IntList()).add(doc);
+        liveDocs++;
+        totalLength += resume.terms().length();
+
+        String[] docTerms = resume.terms().terms();
+        int[] freqs = resume.terms().freqs();
+        for (int i = 0; i < docTerms.length; i++) {
+            terms.computeIfAbsent(docTerms[i], key -> new Postings()).add(doc, freqs[i]);
+        }
+    }
+
+    /**
+     * Mark a doc deleted; its postings stay until the next compaction
+     */
+    private void delete(int doc) {
+        deleted.set(doc);
+        docByResumeId.remove(resumeIds[doc]);
+        IntList ownerDocs = docsByOwner.get(owners[doc]);
+        ownerDocs.remove(doc);
+        if (ownerDocs.size == 0) {
+            docsByOwner.remove(owners[doc]);
+        }
+        liveDocs--;
+        deletedDocs++;
+        totalLength -= lengths[doc];
+        resumeIds[doc] = null;
+        owners[doc] = null;
+    }
+
+    private void maybeCompact() {
+        if (deletedDocs >= MIN_COMPACTION_DELETES && deletedDocs * 4 >= maxDoc) {
+            compact();
+        }
+    }
+
+    /**
+     * Renumber live docs densely (order preserved, so posting lists stay sorted)
+     * and drop postings of deleted docs
+     */
+    void compact() {
+        int[] newIds = new int[maxDoc];
+        int next = 0;
+        for (int doc = 0; doc < maxDoc; doc++) {
+            if (deleted.get(doc)) {
+                newIds[doc] = -1;
+            } else {
+                newIds[doc] = next;
+                resumeIds[next] = resumeIds[doc];
+                owners[next] = owners[doc];
+                revisions[next] = revisions[doc];
+                lengths[next] = lengths[doc];
+                next++;
+            }
+        }
+        Arrays.fill(resumeIds, next, maxDoc, null);
+        Arrays.fill(owners, next, maxDoc, null);
+
+        Iterator<Postings> postingsIterator = terms.values().iterator();
+        while (postingsIterator.hasNext()) {
+            Postings postings = postingsIterator.next();
+            postings.remap(newIds);
+            if (postings.size == 0) {
+                postingsIterator.remove();
+            }
+        }
+        for (IntList docs : docsByOwner.values()) {
+            for (int i = 0; i < docs.size; i++) {
+                docs.values[i] = newIds[docs.values[i]];
+            }
+        }
+        docByResumeId.clear();
+        for (int doc = 0; doc < next; doc++) {
+            docByResumeId.put(resumeIds[doc], doc);
+        }
+        deleted = new BitSet();
+        deletedDocs = 0;
+        maxDoc = next;
+    }
+
+    /**
+     * Posting list: parallel doc id / frequency arrays, ascending doc ids
+     */
+    private static final class Postings {
+
+        int[] docs = new int[2];
+        int[] freqs = new int[2];
+        int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                int capacity = size + (size >> 1) + 1;
+                docs = Arrays.copyOf(docs, capacity);
+                freqs = Arrays.copyOf(freqs, capacity);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        void remap(int[] newIds) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = newIds[docs[i]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (size > 0 && size < docs.length / 4) {
+                docs = Arrays.copyOf(docs, size);
+                freqs = Arrays.copyOf(freqs, size);
+            }
+        }
+    }
+
+    /**
+     * Growable sorted int list (an owner's doc ids)
+     */
+    private static final class IntList {
+
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void remove(int value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.sasindu.rdsumebuilder.search;
+
+import com.sasindu.rdsumebuilder.document.Resume;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns resumes and search queries into index terms.
+ *
+ * Terms are lowercased runs of letters and digits; '+' and '#' are kept
+ * inside a term so "C++" and "C#" stay searchable. A few English stop words
+ * are dropped to keep the biggest posting lists out of the index. Title,
+ * skill names and job titles count twice, so they rank above a passing
+ * mention in a description.
+ */
+public final class ResumeTokenizer {
+
+    static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is",
+            "of", "on", "or", "the", "to", "was", "with");
+
+    private ResumeTokenizer() {
+    }
+
+    /**
+     * Term frequencies of one resume
+     *
+     * @param terms  Distinct terms
+     * @param freqs  Occurrences of each term (same order)
+     * @param length Total (weighted) number of terms, for BM25 length normalization
+     */
+    public record DocumentTerms(String[] terms, int[] freqs, int length) {
+    }
+
+    /**
+     * A query term
+     *
+     * @param text   Lowercased term
+     * @param prefix Match every term starting with text
+     */
+    public record QueryTerm(String text, boolean prefix) {
+    }
+
+    /**
+     * Tokenize the searchable sections of a resume
+     *
+     * @param resume Resume (contact details other than name and location are not indexed)
+     * @return Term frequencies
+     */
+    public static DocumentTerms tokenize(Resume resume) {
+        Map<String, int[]> counts = new HashMap<>();
+        int[] length = new int[1];
+
+        add(counts, length, resume.getTitle(), 2);
+        add(counts, length, resume.getSummary(), 1);
+        if (resume.getPersonalInfo() != null) {
+            add(counts, length, resume.getPersonalInfo().getFullName(), 1);
+            add(counts, length, resume.getPersonalInfo().getLocation(), 1);
+        }
+        if (resume.getExperience() != null) {
+            for (Resume.Experience experience : resume.getExperience()) {
+                add(counts, length, experience.getJobTitle(), 2);
+                add(counts, length, experience.getCompany(), 1);
+                add(counts, length, experience.getLocation(), 1);
+                add(counts, length, experience.getDescription(), 1);
+                add(counts, length, experience.getResponsibilities(), 1);
+                addAll(counts, length, experience.getTechnologies(), 1);
+                addAll(counts, length, experience.getAchievements(), 1);
+            }
+        }
+        if (resume.getSkills() != null) {
+            for (Resume.Skill skill : resume.getSkills()) {
+                add(counts, length, skill.getName(), 2);
+                add(counts, length, skill.getCategory(), 1);
+            }
+        }
+        if (resume.getProjects() != null) {
+            for (Resume.Project project : resume.getProjects()) {
+                add(counts, length, project.getName(), 1);
+                add(counts, length, project.getDescription(), 1);
+                addAll(counts, length, project.getTechnologies(), 1);
+                addAll(counts, length, project.getHighlights(), 1);
+            }
+        }
+        if (resume.getEducation() != null) {
+            for (Resume.Education education : resume.getEducation()) {
+                add(counts, length, education.getDegree(), 1);
+                add(counts, length, education.getFieldOfStudy(), 1);
+                add(counts, length, education.getInstitution(), 1);
+                add(counts, length, education.getDescription(), 1);
+            }
+        }
+        if (resume.getCertifications() != null) {
+            for (Resume.Certification certification : resume.getCertifications()) {
+                add(counts, length, certification.getName(), 1);
+                add(counts, length, certification.getIssuer(), 1);
+            }
+        }
+        if (resume.getLanguages() != null) {
+            for (Resume.Language language : resume.getLanguages()) {
+                add(counts, length, language.getName(), 1);
+            }
+        }
+        // Legacy resumes only have the editor's JSON blob
+        if (resume.getSummary() == null && resume.getExperience() == null && resume.getSkills() == null) {
+            add(counts, length, resume.getContent(), 1);
+        }
+
+        String[] terms = new String[counts.size()];
+        int[] freqs = new int[counts.size()];
+        int i = 0;
+        for (Map.Entry<String, int[]> entry : counts.entrySet()) {
+            terms[i] = entry.getKey();
+            freqs[i] = entry.getValue()[0];
+            i++;
+        }
+        return new DocumentTerms(terms, freqs, length[0]);
+    }
+
+    /**
+     * Parse a search box query. The last term is a prefix (search as you
+     * type) unless the query ends with a space; "term*" is always a prefix.
+     *
+     * @param query Raw query
+     * @return Query terms, empty if nothing searchable
+     */
+    public static List<QueryTerm> parseQuery(String query) {
+        List<QueryTerm> result = new ArrayList<>();
+        if (query == null) {
+            return result;
+        }
+        List<String> tokens = new ArrayList<>();
+        List<Boolean> starred = new ArrayList<>();
+        forEachToken(query, (token, end) -> {
+            tokens.add(token);
+            starred.add(end < query.length() && query.charAt(end) == '*');
+        });
+
+        boolean lastIsPrefix = !query.isEmpty() && !Character.isWhitespace(query.charAt(query.length() - 1));
+        for (int i = 0; i < tokens.size(); i++) {
+            boolean prefix = starred.get(i) || (lastIsPrefix && i == tokens.size() - 1);
+            if (!prefix && STOP_WORDS.contains(tokens.get(i))) {
+                continue;
+            }
+            result.add(new QueryTerm(tokens.get(i), prefix));
+        }
+        return result;
+    }
+
+    /**
+     * Distinct terms of a text in order of appearance, stop words dropped
+     *
+     * @param text Text (null allowed)
+     * @return Terms
+     */
+    public static List<String> terms(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        Set<String> result = new LinkedHashSet<>();
+        forEachToken(text, (token, end) -> {
+            if (!STOP_WORDS.contains(token)) {
+                result.add(token);
+            }
+        });
+        return List.copyOf(result);
+    }
+
+    private static void addAll(Map<String, int[]> counts, int[] length, List<String> values, int weight) {
+        if (values != null) {
+            for (String value : values) {
+                add(counts, length, value, weight);
+            }
+        }
+    }
+
+    private static void add(Map<String, int[]> counts, int[] length, String text, int weight) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        forEachToken(text, (token, end) -> {
+            if (!STOP_WORDS.contains(token)) {
+                counts.computeIfAbsent(token, key -> new int[1])[0] += weight;
+                length[0] += weight;
+            }
+        });
+    }
+
+    private interface TokenConsumer {
+        void accept(String token, int end);
+    }
+
+    /**
+     * Split text into lowercased terms; end is the index after the term
+     */
+    private static void forEachToken(String text, TokenConsumer consumer) {
+        StringBuilder token = new StringBuilder();
+        int length = text.length();
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if ((c == '+' || c == '#') && !token.isEmpty()) {
+                token.append(c);
+            } else if (!token.isEmpty()) {
+                if (token.length() <= MAX_TERM_LENGTH) {
+                    consumer.accept(token.toString(), i);
+                }
+                token.setLength(0);
+            }
+        }
+    }
+}
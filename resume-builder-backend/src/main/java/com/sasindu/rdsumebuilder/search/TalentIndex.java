@@ -0,0 +1,761 @@
+package com.sasindu.rdsumebuilder.search;
+
+import com.sasindu.rdsumebuilder.document.Resume;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Recruiter-side index over discoverable resumes.
+ *
+ * Columnar: every resume owns a slot, and each field is an array indexed by
+ * slot (title, name, location id, skill ids, title term ids, last update
+ * day). Facet values are dictionary-encoded, and every value keeps the set
+ * of slots that have it (see DocSet), so filters are set intersections.
+ * Everything a result card shows is stored here; queries never touch MongoDB.
+ *
+ * A query intersects its skill, location and keyword sets (smallest first),
+ * then scans the matches on a fork-join pool: each task keeps its own top-k
+ * heap and facet counters, merged on join. Ranking is BM25 over title
+ * keywords plus a freshness boost, so with no keywords the most recently
+ * updated resumes come first.
+ *
+ * Thread safety: one read-write lock; a search holds the read lock while
+ * its tasks run.
+ */
+public class TalentIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    /**
+     * Score of a resume updated today; halves roughly every four months
+     */
+    private static final float FRESHNESS_WEIGHT = 1.0f;
+    private static final float[] FRESHNESS = new float[3651];
+
+    static {
+        for (int age = 0; age < FRESHNESS.length; age++) {
+            FRESHNESS[age] = (float) (FRESHNESS_WEIGHT * Math.exp(-age / 180.0));
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Dictionary skills = new Dictionary();
+    private final Dictionary locations = new Dictionary();
+    private final Dictionary terms = new Dictionary();
+
+    private final Map<String, Integer> slotByResumeId = new HashMap<>();
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int maxSlots;
+
+    private long[] live = new long[16];
+    private int liveCount;
+    private long totalTitleLength;
+
+    private String[] resumeIds = new String[1024];
+    private String[] owners = new String[1024];
+    private String[] titles = new String[1024];
+    private String[] names = new String[1024];
+    private int[] locationIds = new int[1024];
+    private int[] days = new int[1024];
+    private int[][] skillIds = new int[1024][];
+    private int[][] termIds = new int[1024][];
+
+    /**
+     * Searchable projection of a resume
+     *
+     * @param resumeId   Resume ID
+     * @param owner      Owner (user's email)
+     * @param title      Resume title (shown)
+     * @param fullName   Candidate name (shown)
+     * @param location   Location facet
+     * @param skills     Skill facets (Skill names and project technologies)
+     * @param titleTerms Keyword terms (resume title and job titles)
+     * @param updatedDay Last update, epoch day
+     */
+    public record TalentDocument(String resumeId, String owner, String title, String fullName, String location,
+                                 List<String> skills, List<String> titleTerms, int updatedDay) {
+    }
+
+    /**
+     * @param skills   Required skills (all must match, case-insensitive)
+     * @param location Required location (exact, case-insensitive), null for any
+     * @param keywords Title keywords (all must match), null for none
+     */
+    public record TalentQuery(List<String> skills, String location, String keywords) {
+    }
+
+    public record Profile(String resumeId, String title, String fullName, String location,
+                          List<String> skills, LocalDate updatedOn, float score) {
+    }
+
+    public record FacetCount(String value, int count) {
+    }
+
+    /**
+     * @param total     Number of matching resumes
+     * @param hits      Requested page, best first
+     * @param skills    Most frequent skills among all matches
+     * @param locations Most frequent locations among all matches
+     */
+    public record Result(int total, List<Profile> hits, List<FacetCount> skills, List<FacetCount> locations) {
+
+        static Result empty() {
+            return new Result(0, List.of(), List.of(), List.of());
+        }
+    }
+
+    /**
+     * Project a resume to its searchable fields
+     *
+     * @param resume Resume (must have id and userId)
+     * @return Talent document
+     */
+    public static TalentDocument document(Resume resume) {
+        Set<String> skillNames = new LinkedHashSet<>();
+        if (resume.getSkills() != null) {
+            for (Resume.Skill skill : resume.getSkills()) {
+                addFacet(skillNames, skill.getName());
+            }
+        }
+        if (resume.getProjects() != null) {
+            for (Resume.Project project : resume.getProjects()) {
+                if (project.getTechnologies() != null) {
+                    project.getTechnologies().forEach(technology -> addFacet(skillNames, technology));
+                }
+            }
+        }
+
+        Set<String> titleTerms = new LinkedHashSet<>(ResumeTokenizer.terms(resume.getTitle()));
+        if (resume.getExperience() != null) {
+            for (Resume.Experience experience : resume.getExperience()) {
+                titleTerms.addAll(ResumeTokenizer.terms(experience.getJobTitle()));
+            }
+        }
+
+        LocalDateTime updated = resume.getUpdatedAt() != null ? resume.getUpdatedAt() : resume.getCreatedAt();
+        int day = (int) (updated != null ? updated.toLocalDate() : LocalDate.now()).toEpochDay();
+        Resume.PersonalInfo info = resume.getPersonalInfo();
+        return new TalentDocument(resume.getId(), resume.getUserId(), resume.getTitle(),
+                info != null ? info.getFullName() : null,
+                info != null && info.getLocation() != null && !info.getLocation().isBlank() ? info.getLocation().trim() : null,
+                List.copyOf(skillNames), List.copyOf(titleTerms), day);
+    }
+
+    /**
+     * Add or replace a resume
+     */
+    public void put(TalentDocument document) {
+        putAll(List.of(document));
+    }
+
+    /**
+     * Add or replace resumes under one lock acquisition (bulk loading)
+     */
+    public void putAll(List<TalentDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (TalentDocument document : documents) {
+                Integer existing = slotByResumeId.get(document.resumeId());
+                int slot;
+                if (existing != null) {
+                    slot = existing;
+                    unlink(slot);
+                } else {
+                    slot = allocate();
+                    slotByResumeId.put(document.resumeId(), slot);
+                }
+                link(slot, document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a resume (deleted or no longer discoverable)
+     */
+    public void remove(String resumeId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotByResumeId.remove(resumeId);
+            if (slot != null) {
+                unlink(slot);
+                release(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove every resume of an owner (linear scan, account deletion only)
+     */
+    public void removeOwner(String owner) {
+        lock.writeLock().lock();
+        try {
+            for (int slot = 0; slot < maxSlots; slot++) {
+                if (owner.equals(owners[slot])) {
+                    slotByResumeId.remove(resumeIds[slot]);
+                    unlink(slot);
+                    release(slot);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Run a query
+     *
+     * @param query     Filters and keywords
+     * @param offset    Hits to skip (page * size)
+     * @param limit     Page size
+     * @param facetSize Facet values to return per field (0 = no facet counts)
+     * @param pool      Pool for the parallel scan
+     * @return Total, page and facet counts
+     */
+    public Result search(TalentQuery query, int offset, int limit, int facetSize, ForkJoinPool pool) {
+        lock.readLock().lock();
+        try {
+            List<DocSet> required = new ArrayList<>();
+            if (query.skills() != null) {
+                for (String skill : query.skills()) {
+                    if (!skill.isBlank() && !addRequired(required, skills, normalize(skill))) {
+                        return Result.empty();
+                    }
+                }
+            }
+            if (query.location() != null && !query.location().isBlank()
+                    && !addRequired(required, locations, normalize(query.location()))) {
+                return Result.empty();
+            }
+            List<String> keywords = ResumeTokenizer.terms(query.keywords());
+            for (String keyword : keywords) {
+                if (!addRequired(required, terms, keyword)) {
+                    return Result.empty();
+                }
+            }
+
+            float[] idfs = new float[keywords.size()];
+            for (int i = 0; i < idfs.length; i++) {
+                int df = terms.sets.get(terms.idOf(keywords.get(i))).cardinality();
+                idfs[i] = (float) Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+            }
+            // Unfiltered: the facet counts are the value set sizes, no need to count per resume
+            Scan scan = new Scan(idfs, liveCount > 0 ? (float) totalTitleLength / liveCount : 1f,
+                    (int) LocalDate.now().toEpochDay(), offset + limit, facetSize > 0 && !required.isEmpty(),
+                    pool.getParallelism());
+
+            Partial partial;
+            if (required.isEmpty()) {
+                partial = pool.invoke(scan.words(Arrays.copyOf(live, (maxSlots + 63) >>> 6)));
+                if (facetSize > 0) {
+                    partial.skillCounts = skills.cardinalities();
+                    partial.locationCounts = locations.cardinalities();
+                }
+            } else {
+                required.sort(Comparator.comparingInt(DocSet::cardinality));
+                DocSet smallest = required.get(0);
+                List<DocSet> others = required.subList(1, required.size());
+                partial = smallest.isDense() && others.stream().allMatch(DocSet::isDense)
+                        ? pool.invoke(scan.words(intersect(required)))
+                        : pool.invoke(scan.slots(filter(smallest, others)));
+            }
+
+            List<Profile> hits = new ArrayList<>();
+            TopK top = partial.top;
+            int[] ranked = top.ranked();
+            for (int i = offset; i < ranked.length; i++) {
+                hits.add(profile(top.slots[ranked[i]], top.scores[ranked[i]]));
+            }
+            return new Result(partial.total, hits,
+                    topFacets(partial.skillCounts, skills, facetSize),
+                    topFacets(partial.locationCounts, locations, facetSize));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean addRequired(List<DocSet> required, Dictionary dictionary, String key) {
+        int id = dictionary.idOf(key);
+        if (id < 0 || dictionary.sets.get(id).cardinality() == 0) {
+            return false;
+        }
+        required.add(dictionary.sets.get(id));
+        return true;
+    }
+
+    /**
+     * AND of dense sets
+     */
+    private static long[] intersect(List<DocSet> sets) {
+        int length = sets.stream().mapToInt(set -> set.words().length).min().orElse(0);
+        long[] result = Arrays.copyOf(sets.get(0).words(), length);
+        for (int i = 1; i < sets.size(); i++) {
+            long[] words = sets.get(i).words();
+            for (int w = 0; w < length; w++) {
+                result[w] &= words[w];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Slots of the smallest (sparse) set that are in every other set
+     */
+    private static int[] filter(DocSet smallest, List<DocSet> others) {
+        int[] result = new int[smallest.cardinality()];
+        int count = 0;
+        if (smallest.isDense()) {
+            long[] words = smallest.words();
+            for (int w = 0; w < words.length; w++) {
+                for (long bits = words[w]; bits != 0; bits &= bits - 1) {
+                    int slot = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    if (inAll(others, slot)) {
+                        result[count++] = slot;
+                    }
+                }
+            }
+        } else {
+            int[] docs = smallest.docs();
+            for (int i = 0; i < smallest.cardinality(); i++) {
+                if (inAll(others, docs[i])) {
+                    result[count++] = docs[i];
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static boolean inAll(List<DocSet> sets, int slot) {
+        for (DocSet set : sets) {
+            if (!set.contains(slot)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Per-query scoring state shared by the scan tasks (read-only)
+     */
+    private final class Scan {
+
+        final float[] idfs;
+        final float avgTitleLength;
+        final int today;
+        final int k;
+        final boolean facets;
+        final int parallelism;
+
+        Scan(float[] idfs, float avgTitleLength, int today, int k, boolean facets, int parallelism) {
+            this.idfs = idfs;
+            this.avgTitleLength = avgTitleLength;
+            this.today = today;
+            this.k = k;
+            this.facets = facets;
+            this.parallelism = parallelism;
+        }
+
+        ScanTask words(long[] words) {
+            return new ScanTask(this, null, words, 0, words.length,
+                    Math.max(256, words.length / (parallelism * 4 + 1)));
+        }
+
+        ScanTask slots(int[] slots) {
+            return new ScanTask(this, slots, null, 0, slots.length,
+                    Math.max(4096, slots.length / (parallelism * 4 + 1)));
+        }
+
+        float score(int slot) {
+            float score = 0f;
+            if (idfs.length > 0) {
+                // Title terms rarely repeat, so tf is taken as 1
+                float norm = (K1 + 1) / (1 + K1 * (1 - B + B * termIds[slot].length / avgTitleLength));
+                for (float idf : idfs) {
+                    score += idf * norm;
+                }
+            }
+            int age = Math.max(0, today - days[slot]);
+            return score + (age < FRESHNESS.length ? FRESHNESS[age] : 0f);
+        }
+
+        void collect(int slot, Partial partial) {
+            partial.total++;
+            partial.top.offer(slot, score(slot));
+            if (facets) {
+                for (int skill : skillIds[slot]) {
+                    partial.skillCounts[skill]++;
+                }
+                if (locationIds[slot] >= 0) {
+                    partial.locationCounts[locationIds[slot]]++;
+                }
+            }
+        }
+
+        Partial newPartial() {
+            return new Partial(new TopK(k),
+                    facets ? new int[skills.size()] : null,
+                    facets ? new int[locations.size()] : null);
+        }
+    }
+
+    /**
+     * Scans a range of candidate slots (explicit list) or bitset words
+     */
+    private static final class ScanTask extends RecursiveTask<Partial> {
+
+        private final Scan scan;
+        private final int[] slots;
+        private final long[] words;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        ScanTask(Scan scan, int[] slots, long[] words, int from, int to, int grain) {
+            this.scan = scan;
+            this.slots = slots;
+            this.words = words;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (to - from > grain) {
+                int middle = (from + to) >>> 1;
+                ScanTask left = new ScanTask(scan, slots, words, from, middle, grain);
+                ScanTask right = new ScanTask(scan, slots, words, middle, to, grain);
+                left.fork();
+                Partial result = right.compute();
+                result.merge(left.join());
+                return result;
+            }
+            Partial partial = scan.newPartial();
+            if (slots != null) {
+                for (int i = from; i < to; i++) {
+                    scan.collect(slots[i], partial);
+                }
+            } else {
+                for (int w = from; w < to; w++) {
+                    for (long bits = words[w]; bits != 0; bits &= bits - 1) {
+                        scan.collect((w << 6) + Long.numberOfTrailingZeros(bits), partial);
+                    }
+                }
+            }
+            return partial;
+        }
+    }
+
+    private static final class Partial {
+
+        int total;
+        final TopK top;
+        int[] skillCounts;
+        int[] locationCounts;
+
+        Partial(TopK top, int[] skillCounts, int[] locationCounts) {
+            this.top = top;
+            this.skillCounts = skillCounts;
+            this.locationCounts = locationCounts;
+        }
+
+        void merge(Partial other) {
+            total += other.total;
+            top.merge(other.top);
+            if (skillCounts != null) {
+                for (int i = 0; i < skillCounts.length; i++) {
+                    skillCounts[i] += other.skillCounts[i];
+                }
+                for (int i = 0; i < locationCounts.length; i++) {
+                    locationCounts[i] += other.locationCounts[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Bounded min-heap of (score, slot); ties go to the lower slot
+     */
+    static final class TopK {
+
+        private final int k;
+        private final float[] scores;
+        private final int[] slots;
+        private int size;
+
+        TopK(int k) {
+            this.k = k;
+            this.scores = new float[Math.max(k, 0)];
+            this.slots = new int[Math.max(k, 0)];
+        }
+
+        void offer(int slot, float score) {
+            if (size < k) {
+                scores[size] = score;
+                slots[size] = slot;
+                siftUp(size++);
+            } else if (k > 0 && better(score, slot, scores[0], slots[0])) {
+                scores[0] = score;
+                slots[0] = slot;
+                siftDown(0);
+            }
+        }
+
+        void merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.slots[i], other.scores[i]);
+            }
+        }
+
+        /**
+         * Heap positions, best first
+         */
+        int[] ranked() {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> a.equals(b) ? 0
+                    : better(scores[a], slots[a], scores[b], slots[b]) ? -1 : 1);
+            int[] result = new int[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = order[i];
+            }
+            return result;
+        }
+
+        private static boolean better(float score, int slot, float otherScore, int otherSlot) {
+            return score > otherScore || (score == otherScore && slot < otherSlot);
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(scores[parent], slots[parent], scores[i], slots[i])) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int right = left + 1;
+                int worst = i;
+                if (left < size && better(scores[worst], slots[worst], scores[left], slots[left])) {
+                    worst = left;
+                }
+                if (right < size && better(scores[worst], slots[worst], scores[right], slots[right])) {
+                    worst = right;
+                }
+                if (worst == i) {
+                    return;
+                }
+                swap(i, worst);
+                i = worst;
+            }
+        }
+
+        private void swap(int a, int b) {
+            float score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            int slot = slots[a];
+            slots[a] = slots[b];
+            slots[b] = slot;
+        }
+    }
+
+    private Profile profile(int slot, float score) {
+        List<String> skillNames = new ArrayList<>(skillIds[slot].length);
+        for (int skill : skillIds[slot]) {
+            skillNames.add(skills.values.get(skill));
+        }
+        return new Profile(resumeIds[slot], titles[slot], names[slot],
+                locationIds[slot] >= 0 ? locations.values.get(locationIds[slot]) : null,
+                skillNames, LocalDate.ofEpochDay(days[slot]), score);
+    }
+
+    private static List<FacetCount> topFacets(int[] counts, Dictionary dictionary, int size) {
+        if (counts == null || size <= 0) {
+            return List.of();
+        }
+        TopK top = new TopK(size);
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] > 0) {
+                top.offer(id, counts[id]);
+            }
+        }
+        List<FacetCount> result = new ArrayList<>();
+        for (int position : top.ranked()) {
+            int id = top.slots[position];
+            result.add(new FacetCount(dictionary.values.get(id), counts[id]));
+        }
+        return result;
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        int slot = maxSlots++;
+        if (slot == resumeIds.length) {
+            int capacity = resumeIds.length * 2;
+            resumeIds = Arrays.copyOf(resumeIds, capacity);
+            owners = Arrays.copyOf(owners, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            names = Arrays.copyOf(names, capacity);
+            locationIds = Arrays.copyOf(locationIds, capacity);
+            days = Arrays.copyOf(days, capacity);
+            skillIds = Arrays.copyOf(skillIds, capacity);
+            termIds = Arrays.copyOf(termIds, capacity);
+        }
+        if ((slot >>> 6) >= live.length) {
+            live = Arrays.copyOf(live, live.length * 2);
+        }
+        return slot;
+    }
+
+    private void release(int slot) {
+        resumeIds[slot] = null;
+        owners[slot] = null;
+        titles[slot] = null;
+        names[slot] = null;
+        skillIds[slot] = null;
+        termIds[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void link(int slot, TalentDocument document) {
+        resumeIds[slot] = document.resumeId();
+        owners[slot] = document.owner();
+        titles[slot] = document.title();
+        names[slot] = document.fullName();
+        days[slot] = document.updatedDay();
+        locationIds[slot] = document.location() != null
+                ? locations.add(normalize(document.location()), document.location(), slot, maxSlots)
+                : -1;
+        skillIds[slot] = addAll(skills, document.skills(), slot, true);
+        termIds[slot] = addAll(terms, document.titleTerms(), slot, false);
+        totalTitleLength += termIds[slot].length;
+        live[slot >>> 6] |= 1L << slot;
+        liveCount++;
+    }
+
+    private void unlink(int slot) {
+        if (locationIds[slot] >= 0) {
+            locations.sets.get(locationIds[slot]).remove(slot, maxSlots);
+        }
+        for (int skill : skillIds[slot]) {
+            skills.sets.get(skill).remove(slot, maxSlots);
+        }
+        for (int term : termIds[slot]) {
+            terms.sets.get(term).remove(slot, maxSlots);
+        }
+        totalTitleLength -= termIds[slot].length;
+        live[slot >>> 6] &= ~(1L << slot);
+        liveCount--;
+    }
+
+    private int[] addAll(Dictionary dictionary, List<String> values, int slot, boolean normalize) {
+        int[] ids = new int[values.size()];
+        int count = 0;
+        for (String value : values) {
+            int id = dictionary.add(normalize ? normalize(value) : value, value, slot, maxSlots);
+            if (Arrays.stream(ids, 0, count).noneMatch(existing -> existing == id)) {
+                ids[count++] = id;
+            }
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    private static void addFacet(Set<String> values, String value) {
+        if (value != null && !value.isBlank()) {
+            values.add(value.trim());
+        }
+    }
+
+    /**
+     * Facet key: lowercased, single spaces
+     */
+    static String normalize(String value) {
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Value <-> id, with the slot set of every value. Ids are never reused,
+     * so a value whose last resume is gone keeps an empty set.
+     */
+    private static final class Dictionary {
+
+        final Map<String, Integer> ids = new HashMap<>();
+        final List<String> values = new ArrayList<>();
+        final List<DocSet> sets = new ArrayList<>();
+
+        int idOf(String key) {
+            Integer id = ids.get(key);
+            return id != null ? id : -1;
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        int[] cardinalities() {
+            int[] counts = new int[sets.size()];
+            for (int id = 0; id < counts.length; id++) {
+                counts[id] = sets.get(id).cardinality();
+            }
+            return counts;
+        }
+
+        /**
+         * @param key     Normalized value
+         * @param display Value as shown (first spelling seen)
+         */
+        int add(String key, String display, int slot, int maxSlots) {
+            Integer id = ids.get(key);
+            if (id == null) {
+                id = values.size();
+                ids.put(key, id);
+                values.add(display);
+                sets.add(new DocSet());
+            }
+            sets.get(id).add(slot, maxSlots);
+            return id;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.dto.response.ProfileExport;
+import com.sasindu.rdsumebuilder.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Data portability export of an account: the profile and every resume.
+ *
+ * Resumes are read with a MongoDB cursor (batch-size documents per round
+ * trip) and each one is serialized straight to the response stream, so
+ * memory use does not depend on how many resumes the account has.
+ *
+ * Formats:
+ * - NDJSON: one {"type": ..., "data": ...} object per line, the profile
+ *   first, then one line per resume
+ * - ZIP: profile.json and resumes/{id}.json, pretty printed
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountExportService {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final MongoTemplate mongoTemplate;
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Resumes fetched per cursor round trip, and lines written between flushes
+     */
+    @Value("${app.export.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * One NDJSON line
+     *
+     * @param type "profile" or "resume"
+     * @param data Exported object
+     */
+    public record ExportLine(String type, Object data) {
+    }
+
+    /**
+     * Export as NDJSON. The profile is loaded now (unknown users fail before
+     * the response starts); resumes are read while the body is written.
+     *
+     * @param email User's email (also the resumes' userId)
+     * @return Response body writer
+     */
+    public StreamingResponseBody ndjson(String email) {
+        ProfileExport profile = profile(email);
+        return out -> writeNdjson(profile, email, out);
+    }
+
+    /**
+     * Export as a zip of JSON files
+     *
+     * @param email User's email (also the resumes' userId)
+     * @return Response body writer
+     */
+    public StreamingResponseBody zip(String email) {
+        ProfileExport profile = profile(email);
+        return out -> writeZip(profile, email, out);
+    }
+
+    private ProfileExport profile(String email) {
+        return ProfileExport.from(userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found with email: " + email)));
+    }
+
+    private void writeNdjson(ProfileExport profile, String email, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // The response stream belongs to the container
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            writer.writeValue(generator, new ExportLine("profile", profile));
+            generator.writeRaw('\n');
+            try (Stream<Resume> resumes = streamResumes(email)) {
+                int written = 0;
+                for (Iterator<Resume> iterator = resumes.iterator(); iterator.hasNext(); ) {
+                    writer.writeValue(generator, new ExportLine("resume", iterator.next()));
+                    generator.writeRaw('\n');
+                    if (++written % batchSize == 0) {
+                        generator.flush();
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeZip(ProfileExport profile, String email, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerWithDefaultPrettyPrinter()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.putNextEntry(new ZipEntry("profile.json"));
+        writer.writeValue(zip, profile);
+        zip.closeEntry();
+        try (Stream<Resume> resumes = streamResumes(email)) {
+            for (Iterator<Resume> iterator = resumes.iterator(); iterator.hasNext(); ) {
+                Resume resume = iterator.next();
+                zip.putNextEntry(new ZipEntry("resumes/" + resume.getId() + ".json"));
+                writer.writeValue(zip, resume);
+                zip.closeEntry();
+            }
+        }
+        // Write the central directory but leave the response stream open
+        zip.finish();
+    }
+
+    private Stream<Resume> streamResumes(String email) {
+        Query query = Query.query(Criteria.where("userId").is(email)).cursorBatchSize(batchSize);
+        return mongoTemplate.stream(query, Resume.class);
+    }
+}
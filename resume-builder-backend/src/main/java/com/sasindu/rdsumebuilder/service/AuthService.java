@@ -1,14 +1,18 @@
 package com.sasindu.rdsumebuilder.service;
 
 import com.sasindu.rdsumebuilder.document.User;
+import com.sasindu.rdsumebuilder.document.RefreshToken;
 import com.sasindu.rdsumebuilder.dto.request.LoginRequest;
 import com.sasindu.rdsumebuilder.dto.request.RegisterRequest;
 import com.sasindu.rdsumebuilder.dto.response.AuthResponse;
+import com.sasindu.rdsumebuilder.exception.ServiceBusyException;
 import com.sasindu.rdsumebuilder.repository.UserRepository;
+import com.sasindu.rdsumebuilder.util.CachedTokenVerifier;
 import com.sasindu.rdsumebuilder.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -22,10 +26,16 @@ import java.util.UUID;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserService userService;
     private final JwtUtil jwtUtil;
     private final EmailService emailService;
+    private final CustomUserDetailsService userDetailsService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final CachedTokenVerifier tokenVerifier;
+
+    private static final int MAX_FAILED_LOGIN_ATTEMPTS = 5;
 
     /**
      * Register a new user account.
@@ -39,7 +49,7 @@ public class AuthService {
             throw new RuntimeException("Email already registered: " + request.getEmail());
         }
 
-        String hashedPassword = passwordEncoder.encode(request.getPassword());
+        String hashedPassword = passwordHashingService.encode(request.getPassword());
         String verificationToken = UUID.randomUUID().toString();
         LocalDateTime tokenExpiry = LocalDateTime.now().plusHours(24);
 
@@ -56,6 +66,7 @@ public class AuthService {
                 .isActive(true)
                 .isLocked(false)
                 .failedLoginAttempts(0)
+                .resumeCount(0L)
                 .build();
 
         User savedUser = userRepository.save(user);
@@ -87,7 +98,7 @@ public class AuthService {
             throw new RuntimeException("Account is deactivated");
         }
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             handleFailedLogin(user);
             throw new RuntimeException("Invalid email or password");
         }
@@ -96,33 +107,89 @@ public class AuthService {
             throw new RuntimeException("Please verify your email first");
         }
 
-        if (user.getFailedLoginAttempts() > 0) {
+        // Transparently move old hashes to the configured BCrypt strength
+        String rehashedPassword = null;
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            try {
+                rehashedPassword = passwordHashingService.encode(request.getPassword());
+            } catch (ServiceBusyException e) {
+                // Login already succeeded, the rehash is retried on the next login
+            }
+        }
+
+        if (user.getFailedLoginAttempts() > 0 || rehashedPassword != null) {
+            userRepository.recordSuccessfulLogin(user.getId(), rehashedPassword);
             user.setFailedLoginAttempts(0);
-            userRepository.save(user);
+            if (rehashedPassword != null) {
+                user.setPassword(rehashedPassword);
+                userDetailsService.evictUser(user.getEmail());
+            }
         }
 
-        String jwtToken = jwtUtil.generateToken(user.getEmail());
+        String jwtToken = jwtUtil.generateToken(user);
 
         return AuthResponse.builder()
                 .token(jwtToken)
+                .refreshToken(refreshTokenService.issue(user))
                 .tokenType("Bearer")
                 .user(userService.convertToUserInfo(user))
                 .build();
     }
 
     /**
-     * Handle failed login attempt - increments counter and locks after 5 failures.
+     * Exchange a refresh token for a new access token and a new refresh token.
+     * Costs one indexed lookup per collection and an HMAC signature, no BCrypt.
+     *
+     * @param refreshToken Refresh token from the last login or refresh
+     * @return AuthResponse with rotated tokens
+     * @throws ResponseStatusException 401 if the refresh token is invalid, reused or revoked
      */
-    private void handleFailedLogin(User user) {
-        int attempts = user.getFailedLoginAttempts() + 1;
-        user.setFailedLoginAttempts(attempts);
+    public AuthResponse refresh(String refreshToken) {
+        RefreshToken consumed = refreshTokenService.consume(refreshToken);
+
+        User user = userRepository.findByEmail(consumed.getEmail())
+                .filter(u -> !u.getIsLocked() && u.getIsActive() && u.getIsEmailVerified())
+                // Password reset or lock bumped the version: token family is revoked
+                .filter(u -> u.getTokenVersionOrDefault() == consumed.getTokenVersion())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED,
+                        "Invalid or expired refresh token"));
+
+        return AuthResponse.builder()
+                .token(jwtUtil.generateToken(user))
+                .refreshToken(refreshTokenService.issue(user, consumed.getFamilyId()))
+                .tokenType("Bearer")
+                .user(userService.convertToUserInfo(user))
+                .build();
+    }
 
-        if (attempts >= 5) {
-            user.setIsLocked(true);
-            System.out.println("Account locked for: " + user.getEmail());
+    /**
+     * Log out: revoke the access token until it expires and, if given, the
+     * refresh token family. Invalid or already-expired tokens are ignored.
+     *
+     * @param accessToken  Access token from the Authorization header (nullable)
+     * @param refreshToken Refresh token from the request body (nullable)
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            tokenVerifier.verify(accessToken).ifPresent(tokenRevocationService::revoke);
         }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revokeFamily(refreshToken);
+        }
+    }
 
-        userRepository.save(user);
+    /**
+     * Handle failed login attempt - increments counter and locks after 5 failures.
+     * One atomic update: concurrent failures each count, and exactly one of
+     * them locks the account.
+     */
+    private void handleFailedLogin(User user) {
+        userRepository.recordFailedLogin(user.getEmail(), MAX_FAILED_LOGIN_ATTEMPTS)
+                .filter(User::getIsLocked)
+                .ifPresent(locked -> {
+                    System.out.println("Account locked for: " + locked.getEmail());
+                    userDetailsService.evictUser(locked.getEmail());
+                });
     }
 
     /**
@@ -133,17 +200,12 @@ public class AuthService {
      * @throws RuntimeException if token invalid or expired
      */
     public String verifyEmail(String token) {
-        User user = userRepository.findByVerificationToken(token)
-                .orElseThrow(() -> new RuntimeException("Invalid verification token"));
+        User user = userRepository.verifyEmail(token, LocalDateTime.now())
+                .orElseThrow(() -> userRepository.findByVerificationToken(token).isPresent()
+                        ? new RuntimeException("Verification token has expired. Please request a new one.")
+                        : new RuntimeException("Invalid verification token"));
 
-        if (!user.isVerificationTokenValid()) {
-            throw new RuntimeException("Verification token has expired. Please request a new one.");
-        }
-
-        user.setIsEmailVerified(true);
-        user.setVerificationToken(null);
-        user.setVerificationTokenExpiry(null);
-        userRepository.save(user);
+        userDetailsService.evictUser(user.getEmail());
 
         emailService.sendWelcomeEmail(
                 user.getEmail(),
@@ -159,21 +221,14 @@ public class AuthService {
      * @return Success message
      */
     public String forgotPassword(String email) {
-        User user = userRepository.findByEmail(email).orElse(null);
-
-        if (user != null) {
-            String resetToken = UUID.randomUUID().toString();
-            LocalDateTime tokenExpiry = LocalDateTime.now().plusHours(1);
+        String resetToken = UUID.randomUUID().toString();
+        LocalDateTime tokenExpiry = LocalDateTime.now().plusHours(1);
 
-            user.setPasswordResetToken(resetToken);
-            user.setPasswordResetTokenExpiry(tokenExpiry);
-            userRepository.save(user);
-
-            emailService.sendPasswordResetEmail(
-                    user.getEmail(),
-                    user.getFirstName(),
-                    resetToken);
-        }
+        userRepository.setPasswordResetToken(email, resetToken, tokenExpiry)
+                .ifPresent(user -> emailService.sendPasswordResetEmail(
+                        user.getEmail(),
+                        user.getFirstName(),
+                        resetToken));
 
         return "If your email exists in our system, you will receive a password reset link.";
     }
@@ -187,24 +242,23 @@ public class AuthService {
      * @throws RuntimeException if token invalid or expired
      */
     public String resetPassword(String token, String newPassword) {
-        User user = userRepository.findByPasswordResetToken(token)
+        // Check the token before hashing: made-up tokens must not cost a
+        // BCrypt round on the shared hashing pool
+        User pending = userRepository.findByPasswordResetToken(token)
                 .orElseThrow(() -> new RuntimeException("Invalid password reset token"));
-
-        if (!user.isPasswordResetTokenValid()) {
+        if (!pending.isPasswordResetTokenValid()) {
             throw new RuntimeException("Password reset token has expired. Please request a new one.");
         }
 
-        String hashedPassword = passwordEncoder.encode(newPassword);
-        user.setPassword(hashedPassword);
-        user.setPasswordResetToken(null);
-        user.setPasswordResetTokenExpiry(null);
+        String hashedPassword = passwordHashingService.encode(newPassword);
 
-        if (user.getIsLocked()) {
-            user.setIsLocked(false);
-            user.setFailedLoginAttempts(0);
-        }
+        // Sets the password, clears the token, unlocks the account and
+        // bumps tokenVersion (revoking old tokens) in one update; fails if
+        // the token was used or expired while hashing
+        User user = userRepository.resetPassword(token, hashedPassword, LocalDateTime.now())
+                .orElseThrow(() -> new RuntimeException("Invalid password reset token"));
 
-        userRepository.save(user);
+        userDetailsService.evictUser(user.getEmail());
 
         return "Password reset successfully! You can now login with your new password.";
     }
@@ -217,19 +271,13 @@ public class AuthService {
      * @throws RuntimeException if user not found or already verified
      */
     public String resendVerificationEmail(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        if (user.getIsEmailVerified()) {
-            throw new RuntimeException("Email is already verified");
-        }
-
         String verificationToken = UUID.randomUUID().toString();
         LocalDateTime tokenExpiry = LocalDateTime.now().plusHours(24);
 
-        user.setVerificationToken(verificationToken);
-        user.setVerificationTokenExpiry(tokenExpiry);
-        userRepository.save(user);
+        userRepository.setVerificationToken(email, verificationToken, tokenExpiry)
+                .orElseThrow(() -> userRepository.existsByEmail(email)
+                        ? new RuntimeException("Email is already verified")
+                        : new RuntimeException("User not found"));
 
         System.out.println("New verification link: http://localhost:3000/verify-email?token=" + verificationToken);
 
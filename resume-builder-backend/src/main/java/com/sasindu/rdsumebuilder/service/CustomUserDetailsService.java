@@ -1,6 +1,8 @@
 package com.sasindu.rdsumebuilder.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.sasindu.rdsumebuilder.repository.UserRepository;
+import com.sasindu.rdsumebuilder.util.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -8,15 +10,71 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
         private final UserRepository userRepository;
 
+        /**
+         * Bounded TTL cache of resolved principals (see CacheConfig)
+         */
+        private final Cache<String, UserDetails> principalCache;
+
+        /**
+         * Token version checks for the stateless mode
+         */
+        private final TokenVersionService tokenVersionService;
+
         @Override
         public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
+                // Served from memory on a hit, MongoDB only on a miss.
+                // A copy is returned so credential erasure never touches the cached entry.
+                UserDetails cached = principalCache.get(email, this::loadFromDatabase);
+                return User.withUserDetails(cached).build();
+        }
+
+        /**
+         * Build the principal straight from verified token claims (stateless mode).
+         * No user document is read; only the token version is checked, and that
+         * check is served from the token version cache.
+         *
+         * @param token Verified token with embedded authorities
+         * @return UserDetails, or empty if the token was revoked or the user is gone
+         */
+        public Optional<UserDetails> loadUserFromToken(VerifiedToken token) {
+                if (!token.hasEmbeddedAuthorities()
+                                || !tokenVersionService.isCurrent(token.subject(), token.tokenVersion())) {
+                        return Optional.empty();
+                }
+
+                return Optional.of(User.withUsername(token.subject())
+                                // No password: the principal is never used for password checks
+                                .password("")
+                                .authorities(token.roles().toArray(String[]::new))
+                                .accountLocked(token.locked())
+                                .disabled(!token.verified())
+                                .build());
+        }
+
+        /**
+         * Drop the cached principal and token version for a user.
+         * Must be called whenever lock, verification, password or email changes.
+         *
+         * @param email User's email
+         */
+        public void evictUser(String email) {
+                if (email != null) {
+                        principalCache.invalidate(email);
+                        tokenVersionService.evict(email);
+                }
+        }
+
+        private UserDetails loadFromDatabase(String email) {
+
                 // Step 1: Query MongoDB for user by email
                 // findByEmail returns Optional<User> (might be empty if user doesn't exist)
                 com.sasindu.rdsumebuilder.document.User user = userRepository.findByEmail(email)
@@ -35,10 +93,9 @@ public class CustomUserDetailsService implements UserDetailsService {
                                 .password(user.getPassword())
 
                                 // Authorities (roles/permissions)
-                                // For now, all users have "ROLE_USER"
-                                // Premium users get "ROLE_PREMIUM" (we can add this later)
+                                // Every user has "ROLE_USER", recruiters also "ROLE_RECRUITER"
                                 // Spring Security requires "ROLE_" prefix
-                                .authorities("ROLE_USER")
+                                .authorities(user.authorities().toArray(String[]::new))
 
                                 // Account status flags
                                 // accountExpired(false) - Account never expires
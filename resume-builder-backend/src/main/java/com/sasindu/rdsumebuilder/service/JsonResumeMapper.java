@@ -0,0 +1,187 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sasindu.rdsumebuilder.document.Resume;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Maps a JSON Resume (https://jsonresume.org/schema) document to a Resume.
+ *
+ * - basics          -> personalInfo, summary, title (label or name)
+ * - work            -> experience (highlights become achievements)
+ * - education       -> education (courses are listed in the description)
+ * - skills          -> one skill per keyword, the group name as category
+ * - projects        -> projects (keywords become technologies)
+ * - certificates    -> certifications
+ * - languages       -> languages
+ *
+ * Sections without a Resume counterpart (awards, publications, interests,
+ * references, volunteer) are ignored.
+ */
+@Component
+public class JsonResumeMapper {
+
+    /**
+     * Whether a record looks like a JSON Resume rather than a Resume
+     */
+    public boolean matches(JsonNode node) {
+        return node.has("basics") || node.has("work");
+    }
+
+    public Resume toResume(JsonNode node) {
+        JsonNode basics = node.path("basics");
+        Resume.PersonalInfo personalInfo = Resume.PersonalInfo.builder()
+                .fullName(text(basics, "name"))
+                .email(text(basics, "email"))
+                .phone(text(basics, "phone"))
+                .website(text(basics, "url"))
+                .location(location(basics.path("location")))
+                .profileImage(text(basics, "image"))
+                .build();
+        for (JsonNode profile : basics.path("profiles")) {
+            String network = text(profile, "network");
+            String url = text(profile, "url");
+            if (network == null || url == null) {
+                continue;
+            }
+            switch (network.toLowerCase(Locale.ROOT)) {
+                case "linkedin" -> personalInfo.setLinkedIn(url);
+                case "github" -> personalInfo.setGithub(url);
+                default -> {
+                    if (personalInfo.getPortfolio() == null) {
+                        personalInfo.setPortfolio(url);
+                    }
+                }
+            }
+        }
+
+        String title = text(basics, "label");
+        if (title == null) {
+            title = personalInfo.getFullName() != null ? personalInfo.getFullName() + " Resume" : "Imported Resume";
+        }
+
+        List<Resume.Skill> skills = new ArrayList<>();
+        for (JsonNode skill : node.path("skills")) {
+            String name = text(skill, "name");
+            String level = text(skill, "level");
+            List<String> keywords = strings(skill.path("keywords"));
+            if (keywords == null) {
+                skills.add(Resume.Skill.builder().name(name).level(level).build());
+            } else {
+                keywords.forEach(keyword ->
+                        skills.add(Resume.Skill.builder().name(keyword).category(name).level(level).build()));
+            }
+        }
+
+        return Resume.builder()
+                .title(title)
+                .personalInfo(personalInfo)
+                .summary(text(basics, "summary"))
+                .experience(list(node.path("work"), JsonResumeMapper::experience))
+                .education(list(node.path("education"), JsonResumeMapper::education))
+                .skills(skills.isEmpty() ? null : skills)
+                .projects(list(node.path("projects"), JsonResumeMapper::project))
+                .certifications(list(node.path("certificates"), JsonResumeMapper::certification))
+                .languages(list(node.path("languages"), JsonResumeMapper::language))
+                .build();
+    }
+
+    private static Resume.Experience experience(JsonNode work) {
+        String company = text(work, "name");
+        String endDate = text(work, "endDate");
+        String startDate = text(work, "startDate");
+        return Resume.Experience.builder()
+                // "company" is the pre-1.0 schema name
+                .company(company != null ? company : text(work, "company"))
+                .jobTitle(text(work, "position"))
+                .location(text(work, "location"))
+                .startDate(startDate)
+                .endDate(endDate)
+                .isCurrentJob(startDate != null && endDate == null)
+                .description(text(work, "summary"))
+                .achievements(strings(work.path("highlights")))
+                .build();
+    }
+
+    private static Resume.Education education(JsonNode education) {
+        List<String> courses = strings(education.path("courses"));
+        return Resume.Education.builder()
+                .institution(text(education, "institution"))
+                .fieldOfStudy(text(education, "area"))
+                .degree(text(education, "studyType"))
+                .startDate(text(education, "startDate"))
+                .endDate(text(education, "endDate"))
+                .grade(text(education, "score"))
+                .description(courses != null ? "Courses: " + String.join(", ", courses) : null)
+                .build();
+    }
+
+    private static Resume.Project project(JsonNode project) {
+        return Resume.Project.builder()
+                .name(text(project, "name"))
+                .description(text(project, "description"))
+                .startDate(text(project, "startDate"))
+                .endDate(text(project, "endDate"))
+                .url(text(project, "url"))
+                .technologies(strings(project.path("keywords")))
+                .highlights(strings(project.path("highlights")))
+                .build();
+    }
+
+    private static Resume.Certification certification(JsonNode certificate) {
+        return Resume.Certification.builder()
+                .name(text(certificate, "name"))
+                .issuer(text(certificate, "issuer"))
+                .issueDate(text(certificate, "date"))
+                .credentialUrl(text(certificate, "url"))
+                .build();
+    }
+
+    private static Resume.Language language(JsonNode language) {
+        return Resume.Language.builder()
+                .name(text(language, "language"))
+                .proficiency(text(language, "fluency"))
+                .build();
+    }
+
+    private static String location(JsonNode location) {
+        List<String> parts = new ArrayList<>();
+        for (String field : List.of("city", "region", "countryCode")) {
+            String part = text(location, field);
+            if (part != null) {
+                parts.add(part);
+            }
+        }
+        return parts.isEmpty() ? null : String.join(", ", parts);
+    }
+
+    private static <T> List<T> list(JsonNode array, Function<JsonNode, T> mapper) {
+        if (!array.isArray() || array.isEmpty()) {
+            return null;
+        }
+        List<T> items = new ArrayList<>(array.size());
+        array.forEach(item -> items.add(mapper.apply(item)));
+        return items;
+    }
+
+    private static List<String> strings(JsonNode array) {
+        return list(array, item -> item.isValueNode() ? item.asText() : item.toString());
+    }
+
+    /**
+     * Text value, null if missing or blank
+     */
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        if (!value.isValueNode() || value.isNull()) {
+            return null;
+        }
+        String text = value.asText().trim();
+        return text.isEmpty() ? null : text;
+    }
+}
@@ -0,0 +1,112 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sasindu.rdsumebuilder.document.Resume;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Resumes saved by the old editor keep everything in the content JSON
+ * blob (until their next save). Renderers (PDF, public HTML page) read
+ * them from the blob, mapped the way the editor loads it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyContentMapper {
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The resume with its sections taken from the content blob if it only
+     * has the blob; resumes with sections are returned as is
+     *
+     * @param resume Stored resume
+     * @return Resume to render
+     */
+    public Resume withLegacyContent(Resume resume) {
+        if (resume.getContent() == null || hasSections(resume)) {
+            return resume;
+        }
+        JsonNode data;
+        try {
+            data = objectMapper.readTree(resume.getContent());
+        } catch (JsonProcessingException e) {
+            log.warn("Unreadable content of resume {}, rendering sections only", resume.getId());
+            return resume;
+        }
+        JsonNode info = data.path("personalInfo");
+        return Resume.builder()
+                .id(resume.getId())
+                .title(resume.getTitle())
+                .template(resume.getTemplate())
+                .colorTheme(resume.getColorTheme())
+                .personalInfo(Resume.PersonalInfo.builder()
+                        .fullName(text(info, "fullName"))
+                        .email(text(info, "email"))
+                        .phone(text(info, "phone"))
+                        .location(text(info, "location"))
+                        .build())
+                .summary(text(info, "summary"))
+                .education(list(data.path("education"), education -> Resume.Education.builder()
+                        .degree(text(education, "degree"))
+                        .institution(text(education, "institution"))
+                        .fieldOfStudy(text(education, "fieldOfStudy"))
+                        .startDate(text(education, "startDate"))
+                        .endDate(text(education, "endDate"))
+                        .grade(text(education, "gpa"))
+                        .build()))
+                .experience(list(data.path("experience"), experience -> Resume.Experience.builder()
+                        .jobTitle(text(experience, "jobTitle"))
+                        .company(text(experience, "company"))
+                        .startDate(text(experience, "startDate"))
+                        .endDate(text(experience, "endDate"))
+                        .description(text(experience, "description"))
+                        .responsibilities(text(experience, "responsibilities"))
+                        .technologies(split(text(experience, "technologies"), ","))
+                        .achievements(split(text(experience, "achievements"), "\n"))
+                        .build()))
+                .skills(list(data.path("skills"), skill -> Resume.Skill.builder()
+                        .name(text(skill, "name"))
+                        .level(text(skill, "proficiency"))
+                        .build()))
+                .build();
+    }
+
+    private static boolean hasSections(Resume resume) {
+        return resume.getPersonalInfo() != null
+                || resume.getSummary() != null
+                || resume.getExperience() != null
+                || resume.getEducation() != null
+                || resume.getSkills() != null;
+    }
+
+    private static <T> List<T> list(JsonNode array, Function<JsonNode, T> mapper) {
+        List<T> items = new ArrayList<>();
+        array.forEach(item -> items.add(mapper.apply(item)));
+        return items;
+    }
+
+    private static List<String> split(String value, String separator) {
+        if (value == null) {
+            return null;
+        }
+        return Arrays.stream(value.split(separator))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .toList();
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return value.isValueNode() && !value.isNull() ? value.asText() : null;
+    }
+}
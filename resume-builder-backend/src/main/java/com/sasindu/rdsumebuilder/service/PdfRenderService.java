@@ -0,0 +1,198 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.sasindu.rdsumebuilder.artifact.RenderedArtifact;
+import com.sasindu.rdsumebuilder.artifact.RenderedArtifactCache;
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.exception.ServiceBusyException;
+import com.sasindu.rdsumebuilder.pdf.PdfPageLimitException;
+import com.sasindu.rdsumebuilder.pdf.ResumePdfRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders resumes to PDF on a dedicated, bounded executor.
+ *
+ * Layout and PDF serialization are CPU-bound, like BCrypt in
+ * PasswordHashingService, so the same rules apply: at most pool-size
+ * renders run at once, at most queue-capacity wait, and anything beyond
+ * that gets 503 + Retry-After instead of tying up request threads.
+ * Each render buffers at most max-memory of heap and may take at most
+ * max-pages pages (422 beyond that). A render that exceeds the timeout is
+ * cancelled: its thread is interrupted and the layout stops at the next
+ * entry or page, so abandoned renders do not keep the pool busy.
+ *
+ * Rendered PDFs go through RenderedArtifactCache, so downloading an
+ * unchanged resume again costs a disk read instead of a render.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PdfRenderService {
+
+    private final LegacyContentMapper legacyContentMapper;
+    private final MeterRegistry meterRegistry;
+    private final RenderedArtifactCache artifactCache;
+
+    /**
+     * Worker threads, 0 = number of CPU cores
+     */
+    @Value("${app.pdf.pool-size:0}")
+    private int poolSize;
+
+    @Value("${app.pdf.queue-capacity:32}")
+    private int queueCapacity;
+
+    /**
+     * Max time a request waits for its PDF (queueing + rendering)
+     */
+    @Value("${app.pdf.timeout:10s}")
+    private Duration timeout;
+
+    @Value("${app.pdf.max-pages:10}")
+    private int maxPages;
+
+    /**
+     * Heap buffer per render before content spills to a temp file
+     */
+    @Value("${app.pdf.max-memory:4MB}")
+    private DataSize maxMemory;
+
+    private ExecutorService executor;
+    private ResumePdfRenderer renderer;
+    private Counter pagesRendered;
+
+    @PostConstruct
+    void init() {
+        renderer = new ResumePdfRenderer(maxPages, maxMemory.toBytes());
+        pagesRendered = meterRegistry.counter("pdf.render.pages");
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "pdf-render-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "pdf-render");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Render a resume in its template and color theme, or take it from the
+     * artifact cache if this content was rendered before
+     *
+     * @param resume Resume to render (already authorized)
+     * @return The PDF
+     * @throws ServiceBusyException    if the render pool is saturated
+     * @throws ResponseStatusException 422 if the resume exceeds max-pages
+     */
+    public RenderedArtifact render(Resume resume) {
+        Resume structured = legacyContentMapper.withLegacyContent(resume);
+        String key = cacheKey(structured);
+        Optional<RenderedArtifact> cached = artifactCache.get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        byte[] pdf = submit(() -> renderBytes(structured));
+        return artifactCache.put(key, pdf);
+    }
+
+    /**
+     * Start rendering a resume on the pool without waiting, for callers
+     * that keep several renders in flight (ResumeArchiveService). Cache
+     * hits complete immediately.
+     *
+     * @param resume Resume to render (already authorized)
+     * @return The PDF; fails with PdfPageLimitException if the resume exceeds max-pages
+     * @throws RejectedExecutionException if the pool is saturated, so the caller can wait and retry
+     */
+    public CompletableFuture<RenderedArtifact> renderAsync(Resume resume) {
+        Resume structured = legacyContentMapper.withLegacyContent(resume);
+        String key = cacheKey(structured);
+        Optional<RenderedArtifact> cached = artifactCache.get(key);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+        return CompletableFuture.supplyAsync(() -> artifactCache.put(key, renderBytes(structured)), executor);
+    }
+
+    private String cacheKey(Resume resume) {
+        return artifactCache.key(resume, "pdf-" + ResumePdfRenderer.VERSION);
+    }
+
+    private byte[] renderBytes(Resume resume) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * 1024);
+        try {
+            pagesRendered.increment(renderer.render(resume, out));
+        } catch (IOException e) {
+            throw new UncheckedIOException("PDF rendering failed", e);
+        }
+        return out.toByteArray();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("PDF render pool saturated, rejecting request");
+            throw new ServiceBusyException("Too many PDF downloads in progress, please retry shortly", 2);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException("PDF rendering timed out, please retry shortly", 2);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rendering PDF", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PdfPageLimitException pageLimit) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                        "Resume is longer than " + pageLimit.getMaxPages() + " pages");
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("PDF rendering failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.html.PublicResumePage;
+import com.sasindu.rdsumebuilder.html.ResumeHtmlRenderer;
+import com.sasindu.rdsumebuilder.repository.ResumeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Public share links: server-rendered HTML pages behind opaque slugs.
+ *
+ * Reads go through two in-memory caches (CacheConfig), so a popular link
+ * is served without touching MongoDB:
+ * - shareSlugCache: slug -> resume ID, including slugs that match nothing
+ * - publicPageCache: resume ID -> rendered page
+ *
+ * Pages are loaded and rendered inside the cache's per-key computation,
+ * and ResumeService evicts a resume's page after every write, so a page
+ * rendered from data older than the last save is never left in the cache.
+ */
+@Service
+@RequiredArgsConstructor
+public class PublicResumeService {
+
+    /**
+     * Slugs are 16 random bytes, base64url encoded
+     */
+    private static final Pattern SLUG = Pattern.compile("[A-Za-z0-9_-]{22}");
+    private static final String NOT_SHARED = "";
+
+    private final ResumeRepository resumeRepository;
+    private final LegacyContentMapper legacyContentMapper;
+    private final Cache<String, PublicResumePage> publicPageCache;
+    private final Cache<String, String> shareSlugCache;
+    private final ResumeHtmlRenderer renderer = new ResumeHtmlRenderer();
+
+    /**
+     * Page of the resume shared under a slug
+     *
+     * @param slug Slug from the link
+     * @return Rendered page, or empty if no resume is shared under this slug
+     */
+    public Optional<PublicResumePage> page(String slug) {
+        // malformed slugs reach neither MongoDB nor the caches
+        if (!SLUG.matcher(slug).matches()) {
+            return Optional.empty();
+        }
+        String resumeId = shareSlugCache.get(slug,
+                key -> resumeRepository.findIdByShareSlug(key).orElse(NOT_SHARED));
+        if (resumeId.equals(NOT_SHARED)) {
+            return Optional.empty();
+        }
+        PublicResumePage page = publicPageCache.get(resumeId, this::load);
+        if (page == null || !page.slug().equals(slug)) {
+            // unshared, shared again under a new slug or deleted since the slug was cached
+            shareSlugCache.invalidate(slug);
+            return Optional.empty();
+        }
+        return Optional.of(page);
+    }
+
+    /**
+     * Drop the cached page of a resume (after any write to it)
+     *
+     * @param resumeId Resume ID
+     */
+    public void evict(String resumeId) {
+        publicPageCache.invalidate(resumeId);
+    }
+
+    /**
+     * Drop the cached pages of all of a user's resumes
+     *
+     * @param userId Owner (user's email)
+     */
+    public void evictUser(String userId) {
+        publicPageCache.asMap().values().removeIf(page -> page.userId().equals(userId));
+    }
+
+    /**
+     * Load and render a shared resume, null if it is gone or not shared
+     */
+    private PublicResumePage load(String resumeId) {
+        return resumeRepository.findById(resumeId)
+                .filter(resume -> resume.getShareSlug() != null)
+                .map(this::render)
+                .orElse(null);
+    }
+
+    private PublicResumePage render(Resume resume) {
+        String html = renderer.render(legacyContentMapper.withLegacyContent(resume));
+        return PublicResumePage.of(resume.getId(), resume.getUserId(), resume.getShareSlug(), html);
+    }
+}
@@ -0,0 +1,113 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.sasindu.rdsumebuilder.document.RefreshToken;
+import com.sasindu.rdsumebuilder.document.User;
+import com.sasindu.rdsumebuilder.repository.RefreshTokenRepository;
+import com.sasindu.rdsumebuilder.util.TokenDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Issues and rotates refresh tokens.
+ *
+ * Refresh tokens are opaque random strings. Only their SHA-256 digest is
+ * stored, with a TTL index on expiresAt. Every refresh consumes the presented
+ * token and issues a new one in the same family. Presenting a consumed token
+ * again means it leaked, so the whole family is revoked.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Value("${jwt.refresh.expiration:604800000}")
+    private long refreshExpirationMillis;
+
+    /**
+     * Issue the first refresh token of a new family (login)
+     *
+     * @param user Authenticated user
+     * @return Raw refresh token (only ever returned to the client)
+     */
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Issue a refresh token in an existing family (rotation)
+     *
+     * @param user     Authenticated user
+     * @param familyId Rotation chain ID
+     * @return Raw refresh token
+     */
+    public String issue(User user, String familyId) {
+        String rawToken = TokenDigest.randomToken();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenDigest.sha256(rawToken))
+                .familyId(familyId)
+                .email(user.getEmail())
+                .tokenVersion(user.getTokenVersionOrDefault())
+                .expiresAt(LocalDateTime.now().plusNanos(refreshExpirationMillis * 1_000_000))
+                .build());
+        return rawToken;
+    }
+
+    /**
+     * Consume a refresh token: it can be used exactly once
+     *
+     * @param rawToken Refresh token from the client
+     * @return The consumed token (email, family, token version)
+     * @throws ResponseStatusException 401 if unknown, expired or already used
+     */
+    public RefreshToken consume(String rawToken) {
+        String tokenHash = TokenDigest.sha256(rawToken);
+        RefreshToken token = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(RefreshTokenService::invalid);
+
+        if (!token.getExpiresAt().isAfter(LocalDateTime.now())) {
+            throw invalid();
+        }
+
+        // Conditional update: of two concurrent uses only one can win
+        if (token.getUsedAt() != null
+                || refreshTokenRepository.findAndSetUsedAtByTokenHashAndUsedAtIsNull(tokenHash, LocalDateTime.now()) == 0) {
+            log.warn("Refresh token reuse detected for {}, revoking token family", token.getEmail());
+            refreshTokenRepository.deleteByFamilyId(token.getFamilyId());
+            throw invalid();
+        }
+
+        return token;
+    }
+
+    /**
+     * Revoke the rotation chain a refresh token belongs to (logout)
+     *
+     * @param rawToken Refresh token from the client
+     */
+    public void revokeFamily(String rawToken) {
+        refreshTokenRepository.findByTokenHash(TokenDigest.sha256(rawToken))
+                .ifPresent(token -> refreshTokenRepository.deleteByFamilyId(token.getFamilyId()));
+    }
+
+    /**
+     * Revoke every refresh token of a user
+     *
+     * @param email User's email
+     */
+    public void revokeAll(String email) {
+        refreshTokenRepository.deleteByEmail(email);
+    }
+
+    private static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token");
+    }
+}
@@ -0,0 +1,222 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.sasindu.rdsumebuilder.artifact.RenderedArtifact;
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.exception.ServiceBusyException;
+import com.sasindu.rdsumebuilder.pdf.PdfPageLimitException;
+import com.sasindu.rdsumebuilder.repository.ResumeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * All of a user's resumes as PDFs in one zip (GET /api/resume/export/pdf).
+ *
+ * Resumes are read from a cursor and rendered on the PDF pool with at most
+ * concurrency renders in flight per request. Each PDF goes into the zip as
+ * soon as its render finishes (completion order, not list order) and is
+ * flushed, so the first bytes leave after one render and memory holds at
+ * most concurrency PDFs, however many resumes the user has.
+ *
+ * PDFs are already compressed, so entries are stored without further
+ * deflating. Resumes that cannot be rendered (page limit) are listed in
+ * errors.txt at the end of the archive instead of failing it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeArchiveService {
+
+    private static final String ERRORS_ENTRY = "errors.txt";
+
+    private final ResumeRepository resumeRepository;
+    private final PdfRenderService pdfRenderService;
+    private final ResumeStatsService resumeStatsService;
+
+    /**
+     * Renders in flight per archive request
+     */
+    @Value("${app.pdf.archive-concurrency:2}")
+    private int concurrency;
+
+    /**
+     * How long a render may wait for room in a saturated render pool
+     */
+    @Value("${app.pdf.timeout:10s}")
+    private Duration busyTimeout;
+
+    private record Finished(Resume resume, RenderedArtifact pdf, Throwable error) {
+    }
+
+    /**
+     * Zip of every resume of a user, rendered while streaming
+     *
+     * @param userId Owner (user's email)
+     * @return Body writing the archive
+     */
+    public StreamingResponseBody pdfArchive(String userId) {
+        return out -> {
+            try (Stream<Resume> resumes = resumeRepository.streamByUserIdOrderByUpdatedAtDesc(userId);
+                 ZipOutputStream zip = new ZipOutputStream(out)) {
+                zip.setLevel(Deflater.NO_COMPRESSION);
+                new ArchiveRun(resumes.iterator(), zip).run();
+                zip.finish();
+            }
+        };
+    }
+
+    /**
+     * State of one archive: renders in flight, entry names, failures
+     */
+    private final class ArchiveRun {
+
+        private final Iterator<Resume> resumes;
+        private final ZipOutputStream zip;
+        private final BlockingQueue<Finished> finished = new LinkedBlockingQueue<>();
+        private final Set<String> names = new HashSet<>();
+        private final List<String> errors = new ArrayList<>();
+        private int inFlight;
+        private int written;
+
+        ArchiveRun(Iterator<Resume> resumes, ZipOutputStream zip) {
+            this.resumes = resumes;
+            this.zip = zip;
+        }
+
+        void run() throws IOException {
+            Resume next = null;
+            while (true) {
+                while (inFlight < concurrency && (next != null || resumes.hasNext())) {
+                    Resume resume = next != null ? next : resumes.next();
+                    next = null;
+                    if (!start(resume)) {
+                        // pool saturated: write a finished PDF first, then retry
+                        next = resume;
+                        break;
+                    }
+                }
+                if (inFlight == 0) {
+                    break;
+                }
+                write(take());
+            }
+            if (!errors.isEmpty()) {
+                zip.putNextEntry(new ZipEntry(ERRORS_ENTRY));
+                zip.write((String.join("\n", errors) + "\n").getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            log.info("PDF archive: {} resumes, {} failed", written, errors.size());
+        }
+
+        /**
+         * Submit a render; false if the pool is saturated and other renders
+         * of this request are still running (their completion frees room)
+         */
+        private boolean start(Resume resume) throws IOException {
+            long deadline = System.nanoTime() + busyTimeout.toNanos();
+            while (true) {
+                try {
+                    pdfRenderService.renderAsync(resume).whenComplete((pdf, error) ->
+                            finished.add(new Finished(resume, pdf, error)));
+                    inFlight++;
+                    return true;
+                } catch (RejectedExecutionException e) {
+                    if (inFlight > 0) {
+                        return false;
+                    }
+                    if (System.nanoTime() > deadline) {
+                        if (written == 0 && errors.isEmpty()) {
+                            // nothing sent yet: still possible to answer 503
+                            throw new ServiceBusyException("Too many PDF downloads in progress, please retry shortly", 2);
+                        }
+                        errors.add(label(resume) + ": server busy, download it on its own");
+                        return true;
+                    }
+                    pause();
+                }
+            }
+        }
+
+        private Finished take() throws InterruptedIOException {
+            try {
+                Finished done = finished.take();
+                inFlight--;
+                return done;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while rendering PDFs");
+            }
+        }
+
+        private void pause() throws InterruptedIOException {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the PDF pool");
+            }
+        }
+
+        private void write(Finished done) throws IOException {
+            if (done.error() != null) {
+                Throwable cause = done.error() instanceof CompletionException ? done.error().getCause() : done.error();
+                if (cause instanceof PdfPageLimitException pageLimit) {
+                    errors.add(label(done.resume()) + ": longer than " + pageLimit.getMaxPages() + " pages");
+                } else {
+                    log.error("PDF render of resume {} failed", done.resume().getId(), cause);
+                    errors.add(label(done.resume()) + ": rendering failed");
+                }
+                return;
+            }
+            zip.putNextEntry(new ZipEntry(entryName(done.resume())));
+            done.pdf().writeTo(zip);
+            zip.closeEntry();
+            zip.flush();
+            written++;
+            resumeStatsService.record(done.resume().getUserId(), done.resume().getId(),
+                    ResumeStatsService.Event.DOWNLOAD);
+        }
+
+        /**
+         * "Title.pdf", made unique within the archive
+         */
+        private String entryName(Resume resume) {
+            String base = fileName(label(resume));
+            String name = base + ".pdf";
+            for (int n = 2; !names.add(name.toLowerCase(Locale.ROOT)); n++) {
+                name = base + " (" + n + ").pdf";
+            }
+            return name;
+        }
+    }
+
+    private static String label(Resume resume) {
+        return resume.getTitle() != null && !resume.getTitle().isBlank() ? resume.getTitle().trim() : "Resume";
+    }
+
+    private static String fileName(String title) {
+        String name = title.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_");
+        return name.length() > 100 ? name.substring(0, 100) : name;
+    }
+}
@@ -0,0 +1,255 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.dto.response.ResumeImportResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk resume import (career-center migrations, re-importing an export).
+ *
+ * The body is read with Jackson's streaming parser one record at a time;
+ * only the current record is materialized as a tree. Accepted input:
+ * - NDJSON (or any sequence of JSON objects), one record per object
+ * - a JSON array of records
+ * - a single JSON object
+ *
+ * A record is a JSON Resume document (has "basics" or "work"), a line of
+ * our own export ({"type": "resume", "data": {...}}; profile lines are
+ * skipped) or a Resume object as returned by the API.
+ *
+ * Valid records are inserted in unordered bulk writes of batch-size
+ * documents, so one round trip per batch and one bad document does not
+ * stop the others. Records that fail mapping, validation, the free plan
+ * limit or the insert are reported by position and the import goes on.
+ * Malformed JSON ends the import (the parser cannot resynchronize); the
+ * records before it are kept.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeImportService {
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final JsonResumeMapper jsonResumeMapper;
+    private final ResumeQuotaService resumeQuotaService;
+    private final ResumeSearchService resumeSearchService;
+
+    @Value("${app.import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Errors listed in the result; the rest are only counted
+     */
+    @Value("${app.import.max-errors:100}")
+    private int maxErrors;
+
+    /**
+     * Import every record of the body for a user
+     *
+     * @param userId Owner (user's email)
+     * @param body   NDJSON or JSON request body
+     * @return Counts and per-record errors
+     * @throws IOException if reading the body fails
+     */
+    public ResumeImportResult importResumes(String userId, InputStream body) throws IOException {
+        ImportRun run = new ImportRun(userId);
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        run.read(parser);
+                    }
+                } else {
+                    run.read(parser);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            run.error(run.received + 1, e.getLocation() != null ? e.getLocation().getLineNr() : 0,
+                    "Malformed JSON, import stopped: " + e.getOriginalMessage());
+        }
+        run.flush();
+        return run.result();
+    }
+
+    /**
+     * State of one import: the pending batch and the report
+     */
+    private final class ImportRun {
+
+        private final String userId;
+        private final LocalDateTime now = LocalDateTime.now();
+        private final List<Resume> pending = new ArrayList<>(batchSize);
+        private final List<int[]> pendingPositions = new ArrayList<>(batchSize);
+        private final List<ResumeImportResult.RecordError> errors = new ArrayList<>();
+        private int received;
+        private int imported;
+        private int failed;
+        private boolean limitReached;
+
+        ImportRun(String userId) {
+            this.userId = userId;
+        }
+
+        /**
+         * Read the record at the parser's current token
+         */
+        void read(JsonParser parser) throws IOException {
+            int line = parser.currentTokenLocation().getLineNr();
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                error(++received, line, "Expected a JSON object");
+                return;
+            }
+            JsonNode node = parser.readValueAsTree();
+            if (node.has("type") && node.has("data")) {
+                if (!"resume".equals(node.path("type").asText())) {
+                    return;
+                }
+                node = node.get("data");
+            }
+            int record = ++received;
+
+            Resume resume;
+            try {
+                resume = jsonResumeMapper.matches(node)
+                        ? jsonResumeMapper.toResume(node)
+                        : objectMapper.treeToValue(node, Resume.class);
+            } catch (JsonProcessingException e) {
+                error(record, line, "Not a resume: " + e.getOriginalMessage());
+                return;
+            }
+            prepare(resume);
+            Set<ConstraintViolation<Resume>> violations = validator.validate(resume);
+            if (!violations.isEmpty()) {
+                error(record, line, violations.stream()
+                        .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                        .limit(3)
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            pending.add(resume);
+            pendingPositions.add(new int[]{record, line});
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * New document owned by the importing user, whatever the file says
+         */
+        private void prepare(Resume resume) {
+            resume.setId(new ObjectId().toHexString());
+            resume.setUserId(userId);
+            resume.setRevision(0L);
+            resume.setDiscoverable(false);
+            resume.setShareSlug(null);
+            if (resume.getTitle() == null || resume.getTitle().isBlank()) {
+                resume.setTitle("Imported Resume");
+            }
+            if (resume.getTemplate() == null) {
+                resume.setTemplate("modern");
+            }
+            if (resume.getColorTheme() == null) {
+                resume.setColorTheme("blue");
+            }
+            if (resume.getCreatedAt() == null) {
+                resume.setCreatedAt(now);
+            }
+            resume.setUpdatedAt(now);
+        }
+
+        /**
+         * Insert the pending batch in one unordered bulk write
+         */
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            int granted = limitReached ? 0 : resumeQuotaService.reserveSlots(userId, pending.size());
+            for (int i = granted; i < pending.size(); i++) {
+                limitReached = true;
+                int[] position = pendingPositions.get(i);
+                error(position[0], position[1], resumeQuotaService.limitMessage());
+            }
+            List<Resume> batch = new ArrayList<>(pending.subList(0, granted));
+            List<int[]> positions = pendingPositions.subList(0, granted);
+
+            Set<Integer> rejected = new HashSet<>();
+            if (!batch.isEmpty()) {
+                try {
+                    mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Resume.class)
+                            .insert(batch)
+                            .execute();
+                } catch (BulkOperationException e) {
+                    for (BulkWriteError writeError : e.getErrors()) {
+                        rejected.add(writeError.getIndex());
+                        int[] position = positions.get(writeError.getIndex());
+                        error(position[0], position[1], "Insert failed: " + writeError.getMessage());
+                    }
+                    resumeQuotaService.releaseSlots(userId, rejected.size());
+                } catch (RuntimeException e) {
+                    resumeQuotaService.releaseSlots(userId, batch.size());
+                    throw e;
+                }
+            }
+
+            List<Resume> inserted = new ArrayList<>(batch.size() - rejected.size());
+            for (int i = 0; i < batch.size(); i++) {
+                if (!rejected.contains(i)) {
+                    inserted.add(batch.get(i));
+                }
+            }
+            imported += inserted.size();
+            resumeSearchService.indexAll(inserted);
+            pending.clear();
+            pendingPositions.clear();
+        }
+
+        void error(int record, int line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ResumeImportResult.RecordError(record, line, message));
+            }
+        }
+
+        ResumeImportResult result() {
+            log.info("Imported {} of {} resumes for {}", imported, received, userId);
+            return ResumeImportResult.builder()
+                    .received(received)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.sasindu.rdsumebuilder.document.Resume;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns a JSON Merge Patch (RFC 7386) into MongoDB $set/$unset operations.
+ *
+ * - "field": value        -> $set field
+ * - "field": null         -> $unset field
+ * - "personalInfo": {...}  -> merged key by key ($set/$unset personalInfo.key)
+ * - "experience": [...]    -> replaces the whole array (as RFC 7386 says)
+ * - "experience": {"2": {...}} -> merges into element 2 only (extension:
+ *   array fields also accept an object keyed by element index)
+ *
+ * Values are checked against the Resume field types, and unknown or
+ * read-only fields (id, userId, timestamps) are rejected with 400.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResumePatchMapper {
+
+    /**
+     * Plain string fields
+     */
+    private static final List<String> TEXT_FIELDS = List.of("title", "template", "colorTheme", "content", "summary");
+
+    /**
+     * Array fields and their element types
+     */
+    private static final Map<String, Class<?>> ARRAY_FIELDS = Map.of(
+            "education", Resume.Education.class,
+            "experience", Resume.Experience.class,
+            "skills", Resume.Skill.class,
+            "projects", Resume.Project.class,
+            "certifications", Resume.Certification.class,
+            "languages", Resume.Language.class);
+
+    private static final String PERSONAL_INFO = "personalInfo";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Update built from a patch
+     *
+     * @param update        $set/$unset operations
+     * @param requiredPaths Array elements that must exist for the update to apply
+     */
+    public record ResumePatch(Update update, List<String> requiredPaths) {
+
+        public boolean isEmpty() {
+            return update.getUpdateObject().isEmpty();
+        }
+    }
+
+    /**
+     * Convert a merge patch document
+     *
+     * @param patch JSON object from the request body
+     * @return Update and the array elements it addresses
+     * @throws ResponseStatusException 400 if the patch is not valid for a resume
+     */
+    public ResumePatch toUpdate(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw badRequest("Patch must be a JSON object");
+        }
+        Update update = new Update();
+        List<String> requiredPaths = new ArrayList<>();
+
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            JsonNode value = field.getValue();
+
+            if (TEXT_FIELDS.contains(name)) {
+                if (value.isNull()) {
+                    update.unset(name);
+                } else if (value.isTextual()) {
+                    update.set(name, value.textValue());
+                } else {
+                    throw badRequest("Field '" + name + "' must be a string");
+                }
+            } else if (PERSONAL_INFO.equals(name)) {
+                if (value.isNull()) {
+                    update.unset(name);
+                } else {
+                    mergeObject(update, name, value, Resume.PersonalInfo.class);
+                }
+            } else if (ARRAY_FIELDS.containsKey(name)) {
+                patchArray(update, requiredPaths, name, value, ARRAY_FIELDS.get(name));
+            } else {
+                throw badRequest("Field '" + name + "' cannot be patched");
+            }
+        }
+        return new ResumePatch(update, requiredPaths);
+    }
+
+    /**
+     * Full replacement of the editable fields (PUT), as one $set/$unset.
+     * id, userId, createdAt and revision are never taken from the client.
+     *
+     * @param resume Resume from the request body
+     * @return Update replacing every editable field
+     */
+    public Update toReplacement(Resume resume) {
+        Update update = new Update();
+        setOrUnset(update, "title", resume.getTitle());
+        setOrUnset(update, "template", resume.getTemplate());
+        setOrUnset(update, "colorTheme", resume.getColorTheme());
+        setOrUnset(update, "content", resume.getContent());
+        setOrUnset(update, PERSONAL_INFO, resume.getPersonalInfo());
+        setOrUnset(update, "summary", resume.getSummary());
+        setOrUnset(update, "education", resume.getEducation());
+        setOrUnset(update, "experience", resume.getExperience());
+        setOrUnset(update, "skills", resume.getSkills());
+        setOrUnset(update, "projects", resume.getProjects());
+        setOrUnset(update, "certifications", resume.getCertifications());
+        setOrUnset(update, "languages", resume.getLanguages());
+        return update;
+    }
+
+    private static void setOrUnset(Update update, String field, Object value) {
+        if (value == null) {
+            update.unset(field);
+        } else {
+            update.set(field, value);
+        }
+    }
+
+    /**
+     * Array field: null removes it, an array replaces it, an object keyed by
+     * index merges into the addressed elements
+     */
+    private void patchArray(Update update, List<String> requiredPaths, String name, JsonNode value, Class<?> elementType) {
+        if (value.isNull()) {
+            update.unset(name);
+            return;
+        }
+        if (value.isArray()) {
+            update.set(name, readList(value, elementType, name));
+            return;
+        }
+        if (!value.isObject()) {
+            throw badRequest("Field '" + name + "' must be an array or an object keyed by index");
+        }
+
+        Iterator<Map.Entry<String, JsonNode>> elements = value.fields();
+        while (elements.hasNext()) {
+            Map.Entry<String, JsonNode> element = elements.next();
+            int index = parseIndex(name, element.getKey());
+            if (!element.getValue().isObject()) {
+                // Removing by index needs $unset + $pull (two updates); send the whole array instead
+                throw badRequest("Element " + name + "." + index + " must be an object; replace the array to remove elements");
+            }
+            String path = name + "." + index;
+            requiredPaths.add(path);
+            mergeObject(update, path, element.getValue(), elementType);
+        }
+    }
+
+    /**
+     * Merge an object key by key into the document at path
+     */
+    private void mergeObject(Update update, String path, JsonNode value, Class<?> type) {
+        if (!value.isObject()) {
+            throw badRequest("Field '" + path + "' must be an object");
+        }
+        // Validate names and types against the target class, then take the typed values
+        Object typed = read(value, type, path);
+        Map<String, Object> typedValues = objectMapper.convertValue(typed, new TypeReference<>() {
+        });
+
+        Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String fieldPath = path + "." + field.getKey();
+            if (field.getValue().isNull()) {
+                update.unset(fieldPath);
+            } else {
+                update.set(fieldPath, typedValues.get(field.getKey()));
+            }
+        }
+    }
+
+    private Object read(JsonNode value, Class<?> type, String path) {
+        try {
+            return strictReader().forType(type).readValue(value);
+        } catch (IOException e) {
+            throw invalidValue(path, e);
+        }
+    }
+
+    private List<?> readList(JsonNode value, Class<?> elementType, String path) {
+        try {
+            return strictReader()
+                    .forType(objectMapper.getTypeFactory().constructCollectionType(List.class, elementType))
+                    .readValue(value);
+        } catch (IOException e) {
+            throw invalidValue(path, e);
+        }
+    }
+
+    private ObjectReader strictReader() {
+        return objectMapper.reader().with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private static ResponseStatusException invalidValue(String path, IOException e) {
+        String reason = e instanceof JsonProcessingException jsonError ? jsonError.getOriginalMessage() : e.getMessage();
+        return badRequest("Invalid value for '" + path + "': " + reason);
+    }
+
+    private static int parseIndex(String name, String key) {
+        try {
+            int index = Integer.parseInt(key);
+            if (index >= 0) {
+                return index;
+            }
+        } catch (NumberFormatException e) {
+            // fall through
+        }
+        throw badRequest("Invalid index '" + key + "' for '" + name + "'");
+    }
+
+    private static ResponseStatusException badRequest(String message) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+    }
+}
@@ -0,0 +1,198 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.sasindu.rdsumebuilder.document.User;
+import com.sasindu.rdsumebuilder.repository.ResumeRepository;
+import com.sasindu.rdsumebuilder.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Per-user resume counter and the free plan limit.
+ *
+ * The count lives on the user document (resumeCount), so reading it is a
+ * single indexed lookup instead of counting the resumes collection. Creates
+ * take a slot with a conditional $inc that fails at the limit (premium
+ * users always pass), deletes give it back.
+ *
+ * A crash between the counter update and the resume write can leave the
+ * counter off by one, so a scheduled job compares every counter with the
+ * real counts and fixes the ones that drifted. Counters touched within the
+ * grace period are skipped: a create may be between its two writes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeQuotaService {
+
+    private final UserRepository userRepository;
+    private final ResumeRepository resumeRepository;
+
+    @Value("${app.resume.free-limit:3}")
+    private long freeLimit;
+
+    @Value("${app.resume.counter.reconcile-grace:5m}")
+    private Duration reconcileGrace;
+
+    /**
+     * Take a resume slot before creating a resume
+     *
+     * @param userId Owner (user's email)
+     * @throws ResponseStatusException 403 when a free user is at the limit
+     */
+    public void reserveSlot(String userId) {
+        if (reserveSlots(userId, 1) == 0) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, limitMessage());
+        }
+    }
+
+    /**
+     * Take up to the requested number of slots (bulk import). Premium users
+     * get all of them, free users what is left below the limit.
+     *
+     * @param userId    Owner (user's email)
+     * @param requested Slots wanted
+     * @return Slots taken (0 to requested)
+     */
+    public int reserveSlots(String userId, int requested) {
+        if (requested <= 0 || tryIncrement(userId, requested)) {
+            return Math.max(requested, 0);
+        }
+        // Over the limit, or the counter is missing (account older than the
+        // counter): getResumeCount seeds it, then retry the full amount
+        long count = getResumeCount(userId);
+        if (tryIncrement(userId, requested)) {
+            return requested;
+        }
+        // Free user near the limit: take what is left, retried if a
+        // concurrent create took a slot in between
+        for (int attempt = 0; attempt < 3; attempt++) {
+            int available = (int) Math.min(requested, freeLimit - count);
+            if (available <= 0) {
+                return 0;
+            }
+            if (tryIncrement(userId, available)) {
+                return available;
+            }
+            count = getResumeCount(userId);
+        }
+        return 0;
+    }
+
+    /**
+     * Message for requests rejected at the free limit
+     */
+    public String limitMessage() {
+        return "The free plan allows up to " + freeLimit + " resumes. Upgrade to premium to create more.";
+    }
+
+    /**
+     * Give a slot back (resume deleted, or its creation failed)
+     *
+     * @param userId Owner (user's email)
+     */
+    public void releaseSlot(String userId) {
+        releaseSlots(userId, 1);
+    }
+
+    /**
+     * Give slots back (reserved for resumes that were not inserted)
+     *
+     * @param userId Owner (user's email)
+     * @param count  Slots to give back
+     */
+    public void releaseSlots(String userId, int count) {
+        if (count > 0) {
+            userRepository.decrementResumeCount(userId, count);
+        }
+    }
+
+    private boolean tryIncrement(String userId, int amount) {
+        return userRepository.incrementResumeCount(userId, amount, freeLimit, LocalDateTime.now()).isPresent();
+    }
+
+    /**
+     * All of the user's resumes were deleted
+     *
+     * @param userId Owner (user's email)
+     */
+    public void resetSlots(String userId) {
+        userRepository.resetResumeCount(userId);
+    }
+
+    /**
+     * Number of resumes the user owns
+     *
+     * @param userId Owner (user's email)
+     * @return Resume count
+     */
+    public long getResumeCount(String userId) {
+        Long count = userRepository.findResumeCountByEmail(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"))
+                .getResumeCount();
+        if (count != null) {
+            return count;
+        }
+        long counted = resumeRepository.countByUserId(userId);
+        if (userRepository.initializeResumeCount(userId, counted)) {
+            return counted;
+        }
+        // Seeded concurrently by another request
+        return userRepository.findResumeCountByEmail(userId)
+                .map(User::getResumeCount)
+                .orElse(counted);
+    }
+
+    /**
+     * Check the limit without taking a slot
+     *
+     * @param userId    Owner (user's email)
+     * @param isPremium Whether the user has an active premium subscription
+     * @return true if the user may create another resume
+     */
+    public boolean canCreateMore(String userId, boolean isPremium) {
+        return isPremium || getResumeCount(userId) < freeLimit;
+    }
+
+    /**
+     * Fix counters that drifted from the resumes collection
+     */
+    @Scheduled(fixedDelayString = "${app.resume.counter.reconcile-interval:1h}",
+            initialDelayString = "${app.resume.counter.reconcile-interval:1h}")
+    public void reconcile() {
+        try {
+            // Counters changed after this are in flight and left for the next run
+            LocalDateTime changedBefore = LocalDateTime.now().minus(reconcileGrace);
+            Map<String, Long> actual = resumeRepository.countPerUser();
+            AtomicInteger fixed = new AtomicInteger();
+            try (Stream<User> users = userRepository.streamResumeCounts()) {
+                users.forEach(user -> {
+                    long count = actual.getOrDefault(user.getEmail(), 0L);
+                    if (!Objects.equals(user.getResumeCount(), count)
+                            && (user.getResumeCountUpdatedAt() == null
+                            || user.getResumeCountUpdatedAt().isBefore(changedBefore))
+                            && userRepository.reconcileResumeCount(user.getEmail(), user.getResumeCount(), count,
+                            changedBefore)) {
+                        fixed.incrementAndGet();
+                    }
+                });
+            }
+            if (fixed.get() > 0) {
+                log.info("Reconciled {} resume counters", fixed.get());
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to reconcile resume counters", e);
+        }
+    }
+}
@@ -0,0 +1,452 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.search.InvertedIndex;
+import com.sasindu.rdsumebuilder.search.ResumeTokenizer;
+import com.sasindu.rdsumebuilder.search.TalentIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search over a user's resumes (all sections, not just the title).
+ *
+ * The index lives in memory on every node (see InvertedIndex). It is built
+ * at startup by streaming the resumes collection: one thread reads the
+ * cursor, batches are tokenized on a small pool, and at most a few batches
+ * are in flight, so the rebuild never holds the whole collection.
+ *
+ * ResumeService keeps it current: writes that return the full document are
+ * indexed right away, delta saves (which only return the revision) mark the
+ * resume dirty, and dirty resumes are reloaded in one query every
+ * refresh-interval. Writes on other nodes are picked up every sync-interval
+ * by streaming the resumes whose updatedAt is after the last sync (minus
+ * sync-overlap for clock skew between nodes); changes newer than that are
+ * covered by ResumeService with a title query (see changedSince()).
+ * Resumes deleted on another node stay in this index until the next
+ * restart, but callers load the ranked IDs from MongoDB and drop them.
+ *
+ * Until the first build finishes, search() returns empty and callers fall
+ * back to the title query. A failed build is retried with backoff.
+ *
+ * The same pipeline feeds the recruiter TalentIndex with the resumes that
+ * are discoverable (see TalentSearchService).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeSearchService {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${app.search.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Tokenizer threads for the startup rebuild (0 = CPU cores)
+     */
+    @Value("${app.search.rebuild-threads:0}")
+    private int rebuildThreads;
+
+    @Value("${app.search.rebuild-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.search.max-results:50}")
+    private int maxResults;
+
+    /**
+     * Margin subtracted from the last sync, for clocks of other nodes that run behind
+     */
+    @Value("${app.search.sync-overlap:1m}")
+    private Duration syncOverlap;
+
+    /**
+     * First retry of a failed build, doubled up to max-retry-delay
+     */
+    @Value("${app.search.retry-delay:10s}")
+    private Duration retryDelay;
+
+    @Value("${app.search.max-retry-delay:5m}")
+    private Duration maxRetryDelay;
+
+    /**
+     * Index used for searches, null until built
+     */
+    private volatile InvertedIndex index;
+
+    /**
+     * Discoverable resumes for recruiters, built and swapped with index
+     */
+    private volatile TalentIndex talentIndex;
+
+    private volatile boolean rebuilding;
+
+    /**
+     * Start of the last build or sync: later writes of other nodes may be missing
+     */
+    private volatile LocalDateTime syncedAt;
+
+    /**
+     * Resumes to reload from MongoDB (delta saves, writes during a rebuild)
+     */
+    private final Set<String> dirtyResumes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Owners whose resumes were all deleted during a rebuild
+     */
+    private final Set<String> removedOwners = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Rank a user's resumes against a query
+     *
+     * @param userId Owner (user's email)
+     * @param query  Search box text
+     * @return Resume IDs, best match first; empty if the index is not ready
+     */
+    public Optional<List<String>> search(String userId, String query) {
+        InvertedIndex current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.search(userId, ResumeTokenizer.parseQuery(query), maxResults).stream()
+                .map(InvertedIndex.Hit::resumeId)
+                .toList());
+    }
+
+    /**
+     * Resumes updated after this may be missing from the index (written on
+     * another node since the last sync)
+     *
+     * @return Lower bound for updatedAt, empty if the index is not ready
+     */
+    public Optional<LocalDateTime> changedSince() {
+        LocalDateTime synced = syncedAt;
+        return index == null || synced == null ? Optional.empty() : Optional.of(synced.minus(syncOverlap));
+    }
+
+    /**
+     * Recruiter index
+     *
+     * @return Talent index, empty until built
+     */
+    public Optional<TalentIndex> talentIndex() {
+        return Optional.ofNullable(talentIndex);
+    }
+
+    /**
+     * Index a resume after a write that returned the full document
+     *
+     * @param resume Saved resume
+     */
+    public void index(Resume resume) {
+        InvertedIndex current = index;
+        if (current != null) {
+            current.add(toIndexed(resume));
+        }
+        TalentIndex talent = talentIndex;
+        if (talent != null) {
+            updateTalent(talent, List.of(resume));
+        }
+        if (rebuilding) {
+            dirtyResumes.add(resume.getId());
+        }
+    }
+
+    /**
+     * Index resumes inserted in bulk (import)
+     *
+     * @param resumes Saved resumes
+     */
+    public void indexAll(List<Resume> resumes) {
+        InvertedIndex current = index;
+        if (current != null) {
+            current.addAll(resumes.stream().map(ResumeSearchService::toIndexed).toList());
+        }
+        TalentIndex talent = talentIndex;
+        if (talent != null) {
+            updateTalent(talent, resumes);
+        }
+        if (rebuilding) {
+            resumes.forEach(resume -> dirtyResumes.add(resume.getId()));
+        }
+    }
+
+    /**
+     * Reload a resume on the next refresh (writes that did not return the document)
+     *
+     * @param resumeId Resume ID
+     */
+    public void markDirty(String resumeId) {
+        if (index != null || rebuilding) {
+            dirtyResumes.add(resumeId);
+        }
+    }
+
+    /**
+     * Remove a deleted resume
+     *
+     * @param resumeId Resume ID
+     */
+    public void remove(String resumeId) {
+        InvertedIndex current = index;
+        if (current != null) {
+            current.remove(resumeId);
+        }
+        TalentIndex talent = talentIndex;
+        if (talent != null) {
+            talent.remove(resumeId);
+        }
+        if (rebuilding) {
+            dirtyResumes.add(resumeId);
+        }
+    }
+
+    /**
+     * Remove all resumes of a user
+     *
+     * @param userId Owner (user's email)
+     */
+    public void removeUser(String userId) {
+        InvertedIndex current = index;
+        if (current != null) {
+            current.removeOwner(userId);
+        }
+        TalentIndex talent = talentIndex;
+        if (talent != null) {
+            talent.removeOwner(userId);
+        }
+        if (rebuilding) {
+            removedOwners.add(userId);
+        }
+    }
+
+    /**
+     * Build the index in the background once MongoDB is reachable
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuildWithRetry, "resume-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Build until it succeeds, waiting longer after each failure
+     */
+    private void rebuildWithRetry() {
+        Duration delay = retryDelay;
+        while (!rebuild()) {
+            log.warn("Retrying the resume search index build in {} s", delay.toSeconds());
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            delay = delay.multipliedBy(2).compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay.multipliedBy(2);
+        }
+    }
+
+    /**
+     * Build a new index from the resumes collection and swap it in
+     *
+     * @return true if the index was built
+     */
+    public boolean rebuild() {
+        long start = System.nanoTime();
+        // Writes from here on are caught by the first sync
+        LocalDateTime startedAt = LocalDateTime.now();
+        rebuilding = true;
+        int threads = rebuildThreads > 0 ? rebuildThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "resume-search-rebuild-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Backpressure: the cursor thread waits while this many batches are being tokenized
+        Semaphore inFlight = new Semaphore(threads * 2);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        try {
+            InvertedIndex next = new InvertedIndex();
+            TalentIndex nextTalent = new TalentIndex();
+            Query query = searchableFields(new Query()).cursorBatchSize(batchSize);
+            try (Stream<Resume> resumes = mongoTemplate.stream(query, Resume.class)) {
+                Iterator<Resume> iterator = resumes.iterator();
+                List<Resume> batch = new ArrayList<>(batchSize);
+                while (iterator.hasNext() && failure.get() == null) {
+                    batch.add(iterator.next());
+                    if (batch.size() == batchSize || !iterator.hasNext()) {
+                        List<Resume> work = batch;
+                        batch = new ArrayList<>(batchSize);
+                        inFlight.acquire();
+                        pool.execute(() -> {
+                            try {
+                                next.addAll(work.stream().map(ResumeSearchService::toIndexed).toList());
+                                updateTalent(nextTalent, work);
+                            } catch (RuntimeException e) {
+                                failure.compareAndSet(null, e);
+                            } finally {
+                                inFlight.release();
+                            }
+                        });
+                    }
+                }
+            }
+            pool.shutdown();
+            if (!pool.awaitTermination(1, TimeUnit.HOURS)) {
+                throw new IllegalStateException("Resume search rebuild timed out");
+            }
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+
+            index = next;
+            talentIndex = nextTalent;
+            syncedAt = startedAt;
+            rebuilding = false;
+            // Catch up with writes made while the cursor was running
+            for (String owner : List.copyOf(removedOwners)) {
+                removedOwners.remove(owner);
+                next.removeOwner(owner);
+                nextTalent.removeOwner(owner);
+            }
+            refreshDirty();
+            log.info("Resume search index built: {} resumes ({} discoverable), {} terms in {} ms",
+                    next.size(), nextTalent.size(), next.termCount(), (System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (RuntimeException e) {
+            log.error("Failed to build the resume search index, search falls back to titles", e);
+            return false;
+        } finally {
+            rebuilding = false;
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Index resumes written on other nodes since the last sync
+     */
+    @Scheduled(fixedDelayString = "${app.search.sync-interval:30s}",
+            initialDelayString = "${app.search.sync-interval:30s}")
+    public void syncChanges() {
+        InvertedIndex current = index;
+        TalentIndex talent = talentIndex;
+        Optional<LocalDateTime> since = changedSince();
+        if (current == null || talent == null || rebuilding || since.isEmpty()) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        Query query = searchableFields(Query.query(Criteria.where("updatedAt").gt(since.get())))
+                .cursorBatchSize(batchSize);
+        int synced = 0;
+        try (Stream<Resume> resumes = mongoTemplate.stream(query, Resume.class)) {
+            Iterator<Resume> iterator = resumes.iterator();
+            List<Resume> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    current.addAll(batch.stream().map(ResumeSearchService::toIndexed).toList());
+                    updateTalent(talent, batch);
+                    synced += batch.size();
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            syncedAt = startedAt;
+            log.debug("Resume search index synced: {} changed resumes", synced);
+        } catch (RuntimeException e) {
+            // syncedAt unchanged: the next run covers this range again
+            log.warn("Failed to sync the resume search index, retrying later", e);
+        }
+    }
+
+    /**
+     * Reload dirty resumes in one query; missing ones were deleted
+     */
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval:2s}")
+    public void refreshDirty() {
+        InvertedIndex current = index;
+        TalentIndex talent = talentIndex;
+        if (current == null || talent == null || rebuilding || dirtyResumes.isEmpty()) {
+            return;
+        }
+        Set<String> ids = new HashSet<>();
+        for (Iterator<String> iterator = dirtyResumes.iterator(); iterator.hasNext() && ids.size() < batchSize; ) {
+            ids.add(iterator.next());
+            iterator.remove();
+        }
+        try {
+            Query query = searchableFields(Query.query(Criteria.where("id").in(ids)));
+            List<Resume> found = mongoTemplate.find(query, Resume.class);
+            found.forEach(resume -> ids.remove(resume.getId()));
+            current.addAll(found.stream().map(ResumeSearchService::toIndexed).toList());
+            updateTalent(talent, found);
+            ids.forEach(id -> {
+                current.remove(id);
+                talent.remove(id);
+            });
+        } catch (RuntimeException e) {
+            dirtyResumes.addAll(ids);
+            log.warn("Failed to refresh {} resumes in the search index, retrying later", ids.size(), e);
+        }
+    }
+
+    /**
+     * Discoverable resumes are put, the others removed
+     */
+    private static void updateTalent(TalentIndex talent, List<Resume> resumes) {
+        List<TalentIndex.TalentDocument> discoverable = new ArrayList<>();
+        for (Resume resume : resumes) {
+            if (Boolean.TRUE.equals(resume.getDiscoverable())) {
+                discoverable.add(TalentIndex.document(resume));
+            } else {
+                talent.remove(resume.getId());
+            }
+        }
+        talent.putAll(discoverable);
+    }
+
+    /**
+     * Skip fields that are never indexed (the profile image can be a data URL)
+     */
+    private static Query searchableFields(Query query) {
+        query.fields().exclude("personalInfo.profileImage");
+        return query;
+    }
+
+    private static InvertedIndex.IndexedResume toIndexed(Resume resume) {
+        return new InvertedIndex.IndexedResume(resume.getId(), resume.getUserId(),
+                resume.getRevisionOrDefault(), ResumeTokenizer.tokenize(resume));
+    }
+}
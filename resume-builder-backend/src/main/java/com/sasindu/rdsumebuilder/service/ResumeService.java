@@ -1,11 +1,31 @@
 package com.sasindu.rdsumebuilder.service;
 
 import com.sasindu.rdsumebuilder.document.Resume;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sasindu.rdsumebuilder.dto.request.ResumeDeltaRequest;
+import com.sasindu.rdsumebuilder.dto.response.ResumeSaveResponse;
+import com.sasindu.rdsumebuilder.dto.response.ResumeSummary;
+import com.sasindu.rdsumebuilder.dto.response.ResumeSummaryPage;
+import com.sasindu.rdsumebuilder.exception.RevisionConflictException;
 import com.sasindu.rdsumebuilder.repository.ResumeRepository;
+import com.sasindu.rdsumebuilder.util.TokenDigest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Resume service for business logic operations.
@@ -15,61 +35,318 @@ import java.util.List;
 public class ResumeService {
 
     private final ResumeRepository resumeRepository;
+    private final ResumePatchMapper resumePatchMapper;
+    private final ResumeSearchService resumeSearchService;
+    private final ResumeQuotaService resumeQuotaService;
+    private final PublicResumeService publicResumeService;
+    private final ResumeStatsService resumeStatsService;
+
+    @Value("${app.resume.summary.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.resume.summary.max-page-size:100}")
+    private int maxPageSize;
 
     public Resume createResume(Resume resume, String userId) {
         resume.setUserId(userId);
-        return resumeRepository.save(resume);
+        // New document: Spring Data starts the revision at 0
+        resume.setRevision(null);
+        // Share links are created explicitly (shareResume), never copied
+        resume.setShareSlug(null);
+        // Fails with 403 when a free user is at the limit
+        resumeQuotaService.reserveSlot(userId);
+        Resume saved;
+        try {
+            saved = resumeRepository.save(resume);
+        } catch (RuntimeException e) {
+            resumeQuotaService.releaseSlot(userId);
+            throw e;
+        }
+        resumeSearchService.index(saved);
+        return saved;
     }
 
     public List<Resume> getAllUserResumes(String userId) {
         return resumeRepository.findByUserId(userId);
     }
 
+    /**
+     * Dashboard cards, most recently updated first, one page at a time
+     *
+     * @param userId Owner (user's email)
+     * @param cursor nextCursor from the previous page, null for the first page
+     * @param size   Page size, null for the default (capped at max-page-size)
+     * @return Summaries and the cursor for the next page
+     */
+    public ResumeSummaryPage getResumeSummaries(String userId, String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        LocalDateTime afterUpdatedAt = null;
+        String afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            afterUpdatedAt = LocalDateTime.parse(parts[0]);
+            afterId = parts[1];
+        }
+
+        // One extra row tells whether there is a next page without a count query
+        List<Resume> rows = resumeRepository.findSummaries(userId, afterUpdatedAt, afterId, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<ResumeSummary> items = rows.stream()
+                .limit(pageSize)
+                .map(ResumeSummary::from)
+                .toList();
+
+        String nextCursor = null;
+        if (hasMore) {
+            ResumeSummary last = items.get(items.size() - 1);
+            nextCursor = encodeCursor(last.getUpdatedAt(), last.getId());
+        }
+        return ResumeSummaryPage.builder().items(items).nextCursor(nextCursor).build();
+    }
+
+    private static String encodeCursor(LocalDateTime updatedAt, String id) {
+        String raw = updatedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length == 2) {
+                LocalDateTime.parse(parts[0]);
+                return parts;
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // fall through
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+
     public Resume getResumeById(String resumeId, String userId) {
         return resumeRepository.findByIdAndUserId(resumeId, userId)
-                .orElseThrow(() -> new RuntimeException(
-                        "Resume not found or you don't have permission to access it"));
+                .orElseThrow(this::notFound);
     }
 
+    /**
+     * Search a user's resumes by content (title, summary, experience, skills,
+     * projects, ...), best match first. Falls back to a title match while the
+     * search index is being built. Resumes changed since the index last synced
+     * (possibly on another node) are matched by title too and listed after
+     * the ranked ones.
+     *
+     * @param userId     Owner (user's email)
+     * @param searchTerm Search box text; the last word matches as a prefix
+     * @return Matching resumes
+     */
     public List<Resume> searchUserResumes(String userId, String searchTerm) {
-        return resumeRepository.findByUserIdAndTitleContaining(userId, searchTerm);
+        Optional<List<String>> rankedIds = resumeSearchService.search(userId, searchTerm);
+        if (rankedIds.isEmpty()) {
+            return resumeRepository.findByUserIdAndTitleContaining(userId, searchTerm);
+        }
+        List<String> ids = rankedIds.get();
+        List<Resume> recent = resumeSearchService.changedSince()
+                .map(since -> resumeRepository.findByUserIdAndUpdatedAtAfterAndTitleContaining(userId, since,
+                        searchTerm))
+                .orElse(List.of());
+        if (ids.isEmpty() && recent.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Resume> byId = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Resume resume : resumeRepository.findByIdInAndUserId(ids, userId)) {
+                byId.put(resume.getId(), resume);
+            }
+        }
+        List<Resume> results = new ArrayList<>(ids.stream().map(byId::get).filter(Objects::nonNull).toList());
+        for (Resume resume : recent) {
+            if (!byId.containsKey(resume.getId())) {
+                results.add(resume);
+            }
+        }
+        return results;
     }
 
     public long getUserResumeCount(String userId) {
-        return resumeRepository.countByUserId(userId);
+        return resumeQuotaService.getResumeCount(userId);
     }
 
+    /**
+     * Replace a resume's content in one conditional write, filtered on id,
+     * owner and the revision the client loaded (no read first).
+     *
+     * @param resume Resume from the request body, with the revision it is based on
+     * @param userId Owner (user's email)
+     * @return Updated resume
+     * @throws RevisionConflictException 409 if the resume is at a newer revision
+     */
     public Resume updateResume(Resume resume, String userId) {
-        getResumeById(resume.getId(), userId);
-        resume.setUserId(userId);
-        return resumeRepository.save(resume);
+        if (resume.getRevision() == null) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_REQUIRED,
+                    "Resume revision is required for updates");
+        }
+        long expectedRevision = resume.getRevision();
+        Resume updated = resumeRepository
+                .updateRevisionAndGet(resume.getId(), userId, expectedRevision, List.of(),
+                        resumePatchMapper.toReplacement(resume))
+                .orElseThrow(() -> saveFailure(resume.getId(), userId, expectedRevision));
+        resumeSearchService.index(updated);
+        publicResumeService.evict(updated.getId());
+        return updated;
     }
 
     public Resume updateResumeTitle(String resumeId, String userId, String newTitle) {
-        Resume resume = getResumeById(resumeId, userId);
-        resume.setTitle(newTitle);
-        return resumeRepository.save(resume);
+        return updateField(resumeId, userId, "title", newTitle);
     }
 
     public Resume updateResumeTemplate(String resumeId, String userId, String template) {
-        Resume resume = getResumeById(resumeId, userId);
-        resume.setTemplate(template);
-        return resumeRepository.save(resume);
+        return updateField(resumeId, userId, "template", template);
     }
 
     public Resume updateResumeColorTheme(String resumeId, String userId, String colorTheme) {
-        Resume resume = getResumeById(resumeId, userId);
-        resume.setColorTheme(colorTheme);
-        return resumeRepository.save(resume);
+        return updateField(resumeId, userId, "colorTheme", colorTheme);
+    }
+
+    /**
+     * Opt a resume in or out of recruiter talent search
+     */
+    public Resume updateResumeDiscoverable(String resumeId, String userId, boolean discoverable) {
+        return updateField(resumeId, userId, "discoverable", discoverable);
+    }
+
+    /**
+     * Apply a JSON Merge Patch in one ownership-filtered update.
+     * Only the patched fields are sent to MongoDB.
+     *
+     * @param resumeId Resume ID
+     * @param userId   Owner (user's email)
+     * @param patch    Merge patch document
+     * @return Updated resume
+     */
+    public Resume patchResume(String resumeId, String userId, JsonNode patch) {
+        ResumePatchMapper.ResumePatch resumePatch = resumePatchMapper.toUpdate(patch);
+        if (resumePatch.isEmpty()) {
+            return getResumeById(resumeId, userId);
+        }
+        Resume patched = resumeRepository.updateOwned(resumeId, userId, resumePatch.requiredPaths(), resumePatch.update())
+                .orElseThrow(() -> resumePatch.requiredPaths().isEmpty() || !userOwnsResume(resumeId, userId)
+                        ? notFound()
+                        : new ResponseStatusException(HttpStatus.BAD_REQUEST, "Array index out of range"));
+        resumeSearchService.index(patched);
+        publicResumeService.evict(resumeId);
+        return patched;
+    }
+
+    /**
+     * Delta save for the editor: apply only the changed sections or array
+     * elements, atomically and only if nobody saved since baseRevision.
+     *
+     * @param resumeId Resume ID
+     * @param userId   Owner (user's email)
+     * @param request  Base revision and changes (merge patch)
+     * @return New revision
+     * @throws RevisionConflictException 409 if the resume is at a newer revision
+     */
+    public ResumeSaveResponse saveDelta(String resumeId, String userId, ResumeDeltaRequest request) {
+        ResumePatchMapper.ResumePatch resumePatch = resumePatchMapper.toUpdate(request.getChanges());
+        long baseRevision = request.getBaseRevision();
+
+        if (resumePatch.isEmpty()) {
+            long current = resumeRepository.findRevision(resumeId, userId).orElseThrow(this::notFound);
+            if (current != baseRevision) {
+                throw new RevisionConflictException(current);
+            }
+            return ResumeSaveResponse.builder().id(resumeId).revision(current).build();
+        }
+
+        ResumeSaveResponse response = resumeRepository
+                .updateRevision(resumeId, userId, baseRevision, resumePatch.requiredPaths(), resumePatch.update())
+                .map(saved -> ResumeSaveResponse.builder()
+                        .id(resumeId)
+                        .revision(saved.getRevisionOrDefault())
+                        .updatedAt(saved.getUpdatedAt())
+                        .build())
+                .orElseThrow(() -> saveFailure(resumeId, userId, baseRevision));
+        // Only the revision came back; the search index reloads the resume shortly
+        resumeSearchService.markDirty(resumeId);
+        publicResumeService.evict(resumeId);
+        return response;
+    }
+
+    /**
+     * Work out why a conditional write matched nothing (rare path, one extra read)
+     */
+    private RuntimeException saveFailure(String resumeId, String userId, long expectedRevision) {
+        return resumeRepository.findRevision(resumeId, userId)
+                .<RuntimeException>map(current -> current != expectedRevision
+                        ? new RevisionConflictException(current)
+                        : new ResponseStatusException(HttpStatus.BAD_REQUEST, "Array index out of range"))
+                .orElseGet(this::notFound);
+    }
+
+    /**
+     * Single-field $set, no read before the write
+     */
+    private Resume updateField(String resumeId, String userId, String field, Object value) {
+        Resume updated = resumeRepository.updateOwned(resumeId, userId, List.of(), new Update().set(field, value))
+                .orElseThrow(this::notFound);
+        resumeSearchService.index(updated);
+        publicResumeService.evict(resumeId);
+        return updated;
+    }
+
+    /**
+     * Public share link of a resume, created on the first call
+     *
+     * @param resumeId Resume ID
+     * @param userId   Owner (user's email)
+     * @return Share slug (/api/public/resume/{slug})
+     */
+    public String shareResume(String resumeId, String userId) {
+        String slug = TokenDigest.randomToken(16);
+        if (resumeRepository.updateShareSlug(resumeId, userId, slug)) {
+            return slug;
+        }
+        // Already shared, or not found / not owned
+        String existing = getResumeById(resumeId, userId).getShareSlug();
+        if (existing == null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Share link changed, please retry");
+        }
+        return existing;
+    }
+
+    /**
+     * Remove the public share link of a resume; the old link stops working
+     */
+    public void unshareResume(String resumeId, String userId) {
+        if (!resumeRepository.updateShareSlug(resumeId, userId, null)) {
+            throw notFound();
+        }
+        publicResumeService.evict(resumeId);
+        resumeStatsService.deleteByResumeId(userId, resumeId);
+    }
+
+    private RuntimeException notFound() {
+        return new RuntimeException("Resume not found or you don't have permission to access it");
     }
 
     public void deleteResume(String resumeId, String userId) {
-        Resume resume = getResumeById(resumeId, userId);
-        resumeRepository.delete(resume);
+        // Only the request that actually deleted the resume gives the slot back
+        if (resumeRepository.deleteByIdAndUserId(resumeId, userId) == 0) {
+            throw notFound();
+        }
+        resumeQuotaService.releaseSlot(userId);
+        resumeSearchService.remove(resumeId);
+        publicResumeService.evict(resumeId);
     }
 
     public void deleteAllUserResumes(String userId) {
         resumeRepository.deleteByUserId(userId);
+        resumeQuotaService.resetSlots(userId);
+        resumeSearchService.removeUser(userId);
+        publicResumeService.evictUser(userId);
+        resumeStatsService.deleteByUserId(userId);
     }
 
     public boolean userOwnsResume(String resumeId, String userId) {
@@ -77,11 +354,6 @@ public class ResumeService {
     }
 
     public boolean canCreateMoreResumes(String userId, boolean isPremium) {
-        if (isPremium) {
-            return true;
-        }
-
-        long resumeCount = resumeRepository.countByUserId(userId);
-        return resumeCount < 3;
+        return resumeQuotaService.canCreateMore(userId, isPremium);
     }
 }
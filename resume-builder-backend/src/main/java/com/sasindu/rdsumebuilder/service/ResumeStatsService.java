@@ -0,0 +1,354 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.sasindu.rdsumebuilder.document.ResumeDailyStats;
+import com.sasindu.rdsumebuilder.dto.response.ResumeStatsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * View and download counts per resume per day (UTC).
+ *
+ * Recording is in memory only: one LongAdder per (resume, day, event), so
+ * concurrent views of a popular resume update different cells instead of
+ * contending on one counter, and no request writes to MongoDB. Every
+ * flush-interval the counts are drained and written as unordered bulk
+ * upserts ($inc) into resume_daily_stats, one document per resume and day
+ * however many views it had. A last flush runs on shutdown, after the web
+ * server has finished in-flight requests (server.shutdown=graceful).
+ *
+ * Counts of a failed write are put back and retried on the next flush.
+ * Adders of a finished day are removed only once the day has been over for
+ * a full flush interval, so a record() that read the clock just before
+ * midnight still finds its adder in the map. A crash loses at most one
+ * interval of counts of this node.
+ *
+ * Deleting a resume or an account deletes its counts too (ResumeService).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResumeStatsService {
+
+    private final MongoTemplate mongoTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Upserts per bulk write
+     */
+    @Value("${app.stats.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Longest range the stats endpoint returns, in days
+     */
+    @Value("${app.stats.max-days:366}")
+    private int maxDays;
+
+    @Value("${app.stats.flush-interval:30s}")
+    private Duration flushInterval;
+
+    private final ConcurrentHashMap<Key, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Scheduled and shutdown flushes never run at the same time
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private Counter flushedDocuments;
+
+    public enum Event {
+
+        VIEW("views"),
+        PUBLIC_VIEW("publicViews"),
+        DOWNLOAD("downloads");
+
+        private final String field;
+
+        Event(String field) {
+            this.field = field;
+        }
+    }
+
+    private record Key(String userId, String resumeId, String day, Event event) {
+    }
+
+    /**
+     * Counts of one stats document waiting to be written
+     */
+    private record Row(String userId, String resumeId, String day, long[] counts) {
+    }
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gaugeMapSize("resume.stats.pending", Tags.empty(), pending);
+        flushedDocuments = meterRegistry.counter("resume.stats.flushed");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * Count one view or download (memory only, never blocks on MongoDB)
+     *
+     * @param userId   Owner of the resume (user's email)
+     * @param resumeId Resume ID
+     * @param event    What happened
+     */
+    public void record(String userId, String resumeId, Event event) {
+        Key key = new Key(userId, resumeId, today().toString(), event);
+        LongAdder adder = pending.get(key);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * Write the counts recorded since the last flush
+     */
+    @Scheduled(fixedDelayString = "${app.stats.flush-interval:30s}",
+            initialDelayString = "${app.stats.flush-interval:30s}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Row> rows = drain();
+            for (int start = 0; start < rows.size(); start += batchSize) {
+                write(rows.subList(start, Math.min(start + batchSize, rows.size())));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Take the recorded counts out of the adders, grouped per document.
+     * Adders stay in the map (they keep counting) until their day ended at
+     * least one flush interval ago. A record() still holding one would have
+     * had to stall that long between reading the clock and incrementing;
+     * they are drained one last time and removed.
+     */
+    private List<Row> drain() {
+        String retireBefore = LocalDateTime.now(ZoneOffset.UTC).minus(flushInterval).toLocalDate().toString();
+        Map<String, Row> rows = new HashMap<>();
+        for (Map.Entry<Key, LongAdder> entry : pending.entrySet()) {
+            Key key = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long count = adder.sumThenReset();
+            if (key.day().compareTo(retireBefore) < 0 && pending.remove(key, adder)) {
+                // increments between the reset and the removal
+                count += adder.sumThenReset();
+            }
+            if (count > 0) {
+                rows.computeIfAbsent(ResumeDailyStats.id(key.resumeId(), key.day()),
+                                id -> new Row(key.userId(), key.resumeId(), key.day(), new long[Event.values().length]))
+                        .counts()[key.event().ordinal()] += count;
+            }
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    private void write(List<Row> batch) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ResumeDailyStats.class);
+        for (Row row : batch) {
+            Update update = new Update()
+                    .setOnInsert("userId", row.userId())
+                    .setOnInsert("resumeId", row.resumeId())
+                    .setOnInsert("day", row.day());
+            for (Event event : Event.values()) {
+                long count = row.counts()[event.ordinal()];
+                if (count > 0) {
+                    update.inc(event.field, count);
+                }
+            }
+            bulk.upsert(Query.query(Criteria.where("id").is(ResumeDailyStats.id(row.resumeId(), row.day()))),
+                    update);
+        }
+        try {
+            bulk.execute();
+            flushedDocuments.increment(batch.size());
+        } catch (BulkOperationException e) {
+            // unordered: only the reported upserts failed
+            Set<Integer> failed = new HashSet<>();
+            for (BulkWriteError error : e.getErrors()) {
+                failed.add(error.getIndex());
+            }
+            log.error("Failed to write {} of {} resume stats documents, retrying on the next flush",
+                    failed.size(), batch.size());
+            for (int index : failed) {
+                restore(batch.get(index));
+            }
+            flushedDocuments.increment(batch.size() - failed.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to write resume stats, retrying on the next flush", e);
+            batch.forEach(this::restore);
+        }
+    }
+
+    /**
+     * Put unwritten counts back so the next flush picks them up
+     */
+    private void restore(Row row) {
+        for (Event event : Event.values()) {
+            long count = row.counts()[event.ordinal()];
+            if (count > 0) {
+                pending.computeIfAbsent(new Key(row.userId(), row.resumeId(), row.day(), event), k -> new LongAdder())
+                        .add(count);
+            }
+        }
+    }
+
+    // ==================== DELETE ====================
+
+    /**
+     * Remove the counts of a deleted resume, stored and pending. Holds the
+     * flush lock so a flush that already drained them cannot upsert the
+     * documents again after the delete.
+     *
+     * @param userId   Owner (user's email)
+     * @param resumeId Resume ID
+     */
+    public void deleteByResumeId(String userId, String resumeId) {
+        delete(userId, resumeId);
+    }
+
+    /**
+     * Remove the counts of every resume of a deleted account
+     *
+     * @param userId Owner (user's email)
+     */
+    public void deleteByUserId(String userId) {
+        delete(userId, null);
+    }
+
+    private void delete(String userId, String resumeId) {
+        flushLock.lock();
+        try {
+            pending.keySet().removeIf(key -> key.userId().equals(userId)
+                    && (resumeId == null || key.resumeId().equals(resumeId)));
+            // userId first, so the userId_day index applies
+            Criteria criteria = Criteria.where("userId").is(userId);
+            if (resumeId != null) {
+                criteria = criteria.and("resumeId").is(resumeId);
+            }
+            mongoTemplate.remove(Query.query(criteria), ResumeDailyStats.class);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // ==================== READ ====================
+
+    /**
+     * Daily counts of a user's resumes, including counts of this node that
+     * are not flushed yet
+     *
+     * @param userId   Owner (user's email)
+     * @param from     First day (UTC), null for 29 days before to
+     * @param to       Last day (UTC), null for today
+     * @param resumeId Only this resume, null for all of the user's resumes
+     * @return Series per resume, most viewed first
+     */
+    public ResumeStatsResponse series(String userId, LocalDate from, LocalDate to, String resumeId) {
+        LocalDate last = to != null ? to : today();
+        LocalDate first = from != null ? from : last.minusDays(29);
+        if (first.isAfter(last)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(first, last) >= maxDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range is limited to " + maxDays + " days");
+        }
+
+        Criteria criteria = Criteria.where("userId").is(userId)
+                .and("day").gte(first.toString()).lte(last.toString());
+        if (resumeId != null) {
+            criteria = criteria.and("resumeId").is(resumeId);
+        }
+        // resume -> day -> counts
+        Map<String, TreeMap<String, long[]>> series = new HashMap<>();
+        for (ResumeDailyStats stats : mongoTemplate.find(Query.query(criteria), ResumeDailyStats.class)) {
+            long[] counts = counts(series, stats.getResumeId(), stats.getDay());
+            counts[Event.VIEW.ordinal()] += stats.getViews();
+            counts[Event.PUBLIC_VIEW.ordinal()] += stats.getPublicViews();
+            counts[Event.DOWNLOAD.ordinal()] += stats.getDownloads();
+        }
+        for (Map.Entry<Key, LongAdder> entry : pending.entrySet()) {
+            Key key = entry.getKey();
+            long count = entry.getValue().sum();
+            if (count > 0 && key.userId().equals(userId)
+                    && (resumeId == null || key.resumeId().equals(resumeId))
+                    && key.day().compareTo(first.toString()) >= 0 && key.day().compareTo(last.toString()) <= 0) {
+                counts(series, key.resumeId(), key.day())[key.event().ordinal()] += count;
+            }
+        }
+
+        List<ResumeStatsResponse.ResumeSeries> resumes = new ArrayList<>();
+        for (Map.Entry<String, TreeMap<String, long[]>> resume : series.entrySet()) {
+            long[] totals = new long[Event.values().length];
+            List<ResumeStatsResponse.DailyCounts> days = new ArrayList<>();
+            for (Map.Entry<String, long[]> day : resume.getValue().entrySet()) {
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += day.getValue()[i];
+                }
+                days.add(new ResumeStatsResponse.DailyCounts(LocalDate.parse(day.getKey()), toCounts(day.getValue())));
+            }
+            resumes.add(ResumeStatsResponse.ResumeSeries.builder()
+                    .resumeId(resume.getKey())
+                    .totals(toCounts(totals))
+                    .days(days)
+                    .build());
+        }
+        resumes.sort(Comparator.comparingLong(
+                (ResumeStatsResponse.ResumeSeries resume) -> resume.getTotals().total()).reversed());
+        return ResumeStatsResponse.builder().from(first).to(last).resumes(resumes).build();
+    }
+
+    private static long[] counts(Map<String, TreeMap<String, long[]>> series, String resumeId, String day) {
+        return series.computeIfAbsent(resumeId, id -> new TreeMap<>())
+                .computeIfAbsent(day, d -> new long[Event.values().length]);
+    }
+
+    private static ResumeStatsResponse.Counts toCounts(long[] counts) {
+        return new ResumeStatsResponse.Counts(counts[Event.VIEW.ordinal()], counts[Event.PUBLIC_VIEW.ordinal()],
+                counts[Event.DOWNLOAD.ordinal()]);
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(ZoneOffset.UTC);
+    }
+}
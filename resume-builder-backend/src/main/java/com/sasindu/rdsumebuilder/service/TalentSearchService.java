@@ -0,0 +1,86 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.sasindu.rdsumebuilder.dto.response.TalentSearchPage;
+import com.sasindu.rdsumebuilder.exception.ServiceBusyException;
+import com.sasindu.rdsumebuilder.search.TalentIndex;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Recruiter talent search over discoverable resumes.
+ *
+ * Answered entirely from the in-memory TalentIndex (maintained by
+ * ResumeSearchService). The scan runs on a dedicated fork-join pool so a
+ * burst of broad searches cannot starve the common pool.
+ */
+@Service
+public class TalentSearchService {
+
+    private final ResumeSearchService resumeSearchService;
+    private final ForkJoinPool pool;
+
+    @Value("${app.talent.page-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.talent.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * Deepest result reachable by paging (top-k is computed up to here)
+     */
+    @Value("${app.talent.max-window:1000}")
+    private int maxWindow;
+
+    @Value("${app.talent.facet-size:10}")
+    private int facetSize;
+
+    public TalentSearchService(ResumeSearchService resumeSearchService,
+                               @Value("${app.talent.parallelism:0}") int parallelism) {
+        this.resumeSearchService = resumeSearchService;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Search discoverable resumes
+     *
+     * @param skills   Required skills (all must match)
+     * @param location Required location, null for any
+     * @param keywords Title keywords, null for none
+     * @param page     Page number (0-based)
+     * @param size     Page size, null for the default
+     * @return Page of candidate profiles with facet counts
+     */
+    public TalentSearchPage search(List<String> skills, String location, String keywords, int page, Integer size) {
+        TalentIndex index = resumeSearchService.talentIndex()
+                .orElseThrow(() -> new ServiceBusyException("Talent search index is loading", 30));
+
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+        long offset = (long) Math.max(page, 0) * pageSize;
+        if (offset + pageSize > maxWindow) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Only the first " + maxWindow + " results can be paged, narrow the search");
+        }
+
+        TalentIndex.Result result = index.search(new TalentIndex.TalentQuery(skills, location, keywords),
+                (int) offset, pageSize, facetSize, pool);
+        return TalentSearchPage.builder()
+                .items(result.hits())
+                .page(Math.max(page, 0))
+                .size(pageSize)
+                .total(result.total())
+                .skillFacets(result.skills())
+                .locationFacets(result.locations())
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+}
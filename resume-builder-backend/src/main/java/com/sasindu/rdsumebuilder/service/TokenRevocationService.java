@@ -0,0 +1,149 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.sasindu.rdsumebuilder.document.RevokedToken;
+import com.sasindu.rdsumebuilder.repository.RevokedTokenRepository;
+import com.sasindu.rdsumebuilder.util.BloomFilter;
+import com.sasindu.rdsumebuilder.util.VerifiedToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.stream.Stream;
+
+/**
+ * Access token revocation (logout).
+ *
+ * Revoked jtis live in the TTL-indexed revoked_tokens collection. Every
+ * authenticated request checks an in-memory Bloom filter first: a negative
+ * answer is final, and only probable hits (real revocations plus ~1% false
+ * positives) go to MongoDB. The filter is rebuilt from the collection
+ * periodically, which drops expired entries and picks up revocations made
+ * on other nodes.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Counter exactChecks;
+    private final Counter revokedHits;
+
+    @Value("${app.security.revocation.expected-tokens:100000}")
+    private long expectedTokens;
+
+    @Value("${app.security.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    /**
+     * Filter used for lookups, swapped atomically on rebuild
+     */
+    private volatile BloomFilter filter;
+
+    /**
+     * Filter being rebuilt (null otherwise); revocations during a rebuild go to both
+     */
+    private volatile BloomFilter rebuilding;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository, MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.exactChecks = Counter.builder("jwt.revocation.exact_checks")
+                .description("Bloom filter hits checked against MongoDB")
+                .register(meterRegistry);
+        this.revokedHits = Counter.builder("jwt.revocation.rejected")
+                .description("Requests rejected with a revoked token")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check if a verified token has been revoked
+     *
+     * @param token Verified token
+     * @return true if revoked
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.id() == null) {
+            return false;
+        }
+        // No filter yet (startup, failed build): fall back to the exact check
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(token.id())) {
+            return false;
+        }
+        exactChecks.increment();
+        boolean revoked = revokedTokenRepository.existsByJti(token.id());
+        if (revoked) {
+            revokedHits.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * Revoke a token until it expires
+     *
+     * @param token Verified token
+     */
+    public void revoke(VerifiedToken token) {
+        if (token.id() == null) {
+            return;
+        }
+        try {
+            revokedTokenRepository.save(RevokedToken.builder()
+                    .jti(token.id())
+                    .expiresAt(token.expiresAt() != null
+                            ? LocalDateTime.ofInstant(token.expiresAt(), ZoneId.systemDefault())
+                            : LocalDateTime.now().plusDays(1))
+                    .revokedAt(LocalDateTime.now())
+                    .build());
+        } catch (DuplicateKeyException e) {
+            // Already revoked (double logout)
+        }
+
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(token.id());
+        }
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(token.id());
+        }
+    }
+
+    /**
+     * Build the filter once the application (and MongoDB) is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the filter from MongoDB: drops expired tokens and picks up
+     * revocations from other nodes
+     */
+    @Scheduled(fixedDelayString = "${app.security.revocation.rebuild-interval:5m}",
+            initialDelayString = "${app.security.revocation.rebuild-interval:5m}")
+    public void rebuild() {
+        try {
+            long count = revokedTokenRepository.count();
+            BloomFilter next = BloomFilter.create(Math.max(expectedTokens, count * 2), falsePositiveRate);
+            rebuilding = next;
+            try (Stream<RevokedToken> revoked = revokedTokenRepository.streamAllJtis()) {
+                revoked.forEach(token -> next.put(token.getJti()));
+            }
+            filter = next;
+            log.debug("Revocation filter rebuilt with {} tokens", count);
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild revocation filter, keeping the previous one", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.sasindu.rdsumebuilder.document.User;
+import com.sasindu.rdsumebuilder.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Token version lookups for the stateless authentication mode.
+ * A token is accepted only while its embedded version matches the user's
+ * current tokenVersion; versions are served from a small short-lived cache
+ * and loaded with a projection query on a miss.
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenVersionService {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> tokenVersionCache;
+
+    /**
+     * Check if a token version is still current for a user
+     *
+     * @param email        User's email (token subject)
+     * @param tokenVersion Version embedded in the token
+     * @return true if the user exists and the version matches
+     */
+    public boolean isCurrent(String email, long tokenVersion) {
+        Long current = tokenVersionCache.get(email, this::loadVersion);
+        return current != null && current == tokenVersion;
+    }
+
+    /**
+     * Drop the cached version so the next check reads MongoDB
+     *
+     * @param email User's email
+     */
+    public void evict(String email) {
+        if (email != null) {
+            tokenVersionCache.invalidate(email);
+        }
+    }
+
+    /**
+     * Load the current version, null (not cached) if the user no longer exists
+     */
+    private Long loadVersion(String email) {
+        return userRepository.findTokenVersionByEmail(email)
+                .map(User::getTokenVersionOrDefault)
+                .orElse(null);
+    }
+}
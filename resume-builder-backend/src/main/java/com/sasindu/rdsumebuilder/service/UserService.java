@@ -16,6 +16,8 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final CustomUserDetailsService userDetailsService;
+    private final RefreshTokenService refreshTokenService;
 
     public Optional<User> getUserById(String id) {
         return userRepository.findById(id);
@@ -69,10 +71,14 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        String oldEmail = user.getEmail();
         user.setEmail(newEmail);
         user.setIsEmailVerified(false);
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userDetailsService.evictUser(oldEmail);
+        userDetailsService.evictUser(newEmail);
+        return savedUser;
     }
 
     public User updateUserProfile(String email, String firstName) {
@@ -88,6 +94,8 @@ public class UserService {
     public void deleteUser(String email) {
         User user = getUserByEmail(email);
         userRepository.delete(user);
+        refreshTokenService.revokeAll(email);
+        userDetailsService.evictUser(email);
     }
 
     public AuthResponse.UserInfo convertToUserInfo(User user) {
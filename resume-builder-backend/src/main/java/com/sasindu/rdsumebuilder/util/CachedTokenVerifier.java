@@ -0,0 +1,70 @@
+package com.sasindu.rdsumebuilder.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies JWTs through a cache keyed by the token's SHA-256 digest.
+ * Repeat requests with the same bearer token (editor autosave, dashboard
+ * polling) skip signature verification until the token expires.
+ *
+ * Only successful verifications are cached. Raw tokens are never kept in
+ * memory, only their digests.
+ *
+ * Metrics (Actuator):
+ * - cache.gets{cache=verifiedTokenCache,result=hit|miss} - hit rate
+ * - jwt.verification - time spent verifying on cache misses
+ * - jwt.verification.time.saved - hits x mean verification time
+ */
+@Component
+public class CachedTokenVerifier {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
+    private final Timer verificationTimer;
+
+    public CachedTokenVerifier(JwtUtil jwtUtil,
+            Cache<String, VerifiedToken> verifiedTokenCache,
+            MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.verificationTimer = Timer.builder("jwt.verification")
+                .description("JWT signature verification on cache misses")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verification.time.saved", this, CachedTokenVerifier::timeSavedSeconds)
+                .description("Estimated verification time saved by the verified token cache")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Verify a token, serving repeat tokens from the cache
+     *
+     * @param token JWT token from Authorization header
+     * @return Verified token data, or empty if invalid or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        String key = TokenDigest.sha256(token);
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long start = System.nanoTime();
+        Optional<VerifiedToken> verified = jwtUtil.verifyToken(token);
+        verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        verified.ifPresent(v -> verifiedTokenCache.put(key, v));
+        return verified;
+    }
+
+    private double timeSavedSeconds() {
+        return verifiedTokenCache.stats().hitCount() * verificationTimer.mean(TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,264 @@
+package com.sasindu.rdsumebuilder.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.WeakKeyException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.File;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.interfaces.EdECKey;
+import java.security.interfaces.RSAKey;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Signing and verification keys for JWTs.
+ *
+ * jwt.signing.algorithm=HS256 (default) signs with jwt.secret, as before.
+ * EdDSA or RS256 sign with the private key stored under jwt.signing.active-kid
+ * in the jwt.keystore.path keystore (PKCS12/JKS) and put that alias in the
+ * token's "kid" header. Every certificate in the keystore is a verification
+ * key, and all of them are published at /api/public/jwks.json.
+ *
+ * Key rotation without downtime:
+ * 1. Add the new key pair to the keystore on every node (rolling restart).
+ *    Nodes now verify it but still sign with the old key.
+ * 2. Point jwt.signing.active-kid at the new alias (rolling restart).
+ * 3. After one access token lifetime, remove the old alias.
+ *
+ * A node with certificates but no active-kid only verifies (e.g. a rendering
+ * worker): it needs neither the private key nor jwt.secret.
+ *
+ * Keys are resolved once at startup into an immutable kid -> key map, so
+ * verifying a token is a map lookup plus the signature check.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    public static final String HS256 = "HS256";
+    public static final String EDDSA = "EdDSA";
+    public static final String RS256 = "RS256";
+
+    @Value("${jwt.secret:dev-secret-change-me}")
+    private String secret;
+
+    /**
+     * HS256, EdDSA or RS256
+     */
+    @Value("${jwt.signing.algorithm:HS256}")
+    private String algorithm;
+
+    @Value("${jwt.keystore.path:}")
+    private String keystorePath;
+
+    @Value("${jwt.keystore.password:}")
+    private String keystorePassword;
+
+    /**
+     * Keystore alias to sign with (also the "kid" header), blank = verify only
+     */
+    @Value("${jwt.signing.active-kid:}")
+    private String activeKid;
+
+    /**
+     * Keep accepting HS256 tokens (no kid) after switching to EdDSA/RS256.
+     * Leave on for one access token lifetime after the switch, then turn off.
+     */
+    @Value("${jwt.signing.accept-legacy-hmac:true}")
+    private boolean acceptLegacyHmac;
+
+    /**
+     * kid -> public key (immutable, built once)
+     */
+    private Map<String, PublicKey> verificationKeys = Map.of();
+
+    /**
+     * Public keys as JWKs for /api/public/jwks.json
+     */
+    private List<Map<String, Object>> jwks = List.of();
+
+    /**
+     * HMAC key from jwt.secret, null if disabled or the secret is too weak
+     */
+    private SecretKey hmacKey;
+
+    private PrivateKey signingKey;
+    private String signingKid;
+
+    /**
+     * Why tokens cannot be signed (weak secret, verify-only node).
+     * Thrown on use so startup behaves as before with a weak dev secret.
+     */
+    private RuntimeException signingError;
+
+    /**
+     * Load the keys once the configuration has been injected
+     */
+    @PostConstruct
+    void init() throws GeneralSecurityException, IOException {
+        boolean hmacSigning = HS256.equalsIgnoreCase(algorithm);
+        if (!hmacSigning && !EDDSA.equalsIgnoreCase(algorithm) && !RS256.equalsIgnoreCase(algorithm)) {
+            throw new IllegalStateException("Unsupported jwt.signing.algorithm: " + algorithm);
+        }
+
+        if (hmacSigning || acceptLegacyHmac) {
+            try {
+                hmacKey = Keys.hmacShaKeyFor(secret.getBytes());
+            } catch (WeakKeyException e) {
+                if (hmacSigning) {
+                    signingError = e;
+                    log.error("jwt.secret is too short for HMAC-SHA signing, tokens cannot be issued or verified", e);
+                }
+            }
+        }
+        if (hmacSigning) {
+            return;
+        }
+
+        Map<String, PublicKey> keys = new LinkedHashMap<>();
+        if (keystorePath.isBlank()) {
+            loadEphemeralKey(keys);
+        } else {
+            loadKeystore(keys);
+        }
+        verificationKeys = Collections.unmodifiableMap(keys);
+        jwks = buildJwks(keys);
+
+        if (signingKid == null) {
+            signingError = new IllegalStateException("No jwt.signing.active-kid configured, this node only verifies tokens");
+            log.info("JWT key ring loaded in verify-only mode with {} key(s)", keys.size());
+        } else {
+            log.info("JWT key ring loaded with {} key(s), signing with kid '{}' ({})", keys.size(), signingKid, algorithm);
+        }
+    }
+
+    /**
+     * Sign a token with the active key, adding the kid header for EdDSA/RS256
+     *
+     * @param builder Token builder with claims set
+     * @return The same builder, signed
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (signingError != null) {
+            throw signingError;
+        }
+        if (signingKid == null) {
+            return builder.signWith(hmacKey);
+        }
+        return builder.header().keyId(signingKid).and().signWith(signingKey);
+    }
+
+    /**
+     * Pick the verification key for a token from its kid header.
+     * Called by the JwtParser before the signature check; the parser then
+     * rejects keys that do not fit the token's alg header.
+     */
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (hmacKey == null) {
+                throw new UnsupportedJwtException("Token has no kid and HMAC tokens are not accepted");
+            }
+            return hmacKey;
+        }
+        PublicKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown JWT kid: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * Public verification keys in JWK format
+     *
+     * @return JWKs (empty in HS256 mode, the secret is never published)
+     */
+    public List<Map<String, Object>> getJwks() {
+        return jwks;
+    }
+
+    /**
+     * Dev/test fallback: a fresh key pair per start. Tokens do not survive a
+     * restart and other nodes cannot verify them.
+     */
+    private void loadEphemeralKey(Map<String, PublicKey> keys) throws GeneralSecurityException {
+        KeyPairGenerator generator;
+        if (RS256.equalsIgnoreCase(algorithm)) {
+            generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+        } else {
+            generator = KeyPairGenerator.getInstance("Ed25519");
+        }
+        KeyPair keyPair = generator.generateKeyPair();
+        signingKid = "ephemeral-" + UUID.randomUUID();
+        signingKey = keyPair.getPrivate();
+        keys.put(signingKid, keyPair.getPublic());
+        log.warn("jwt.keystore.path is not set, signing with an ephemeral {} key; tokens will not survive a restart", algorithm);
+    }
+
+    private void loadKeystore(Map<String, PublicKey> keys) throws GeneralSecurityException, IOException {
+        char[] password = keystorePassword.toCharArray();
+        KeyStore keyStore = KeyStore.getInstance(new File(keystorePath), password);
+
+        for (String alias : Collections.list(keyStore.aliases())) {
+            Certificate certificate = keyStore.getCertificate(alias);
+            if (certificate == null) {
+                continue;
+            }
+            PublicKey publicKey = certificate.getPublicKey();
+            if (!(publicKey instanceof RSAKey) && !(publicKey instanceof EdECKey)) {
+                log.warn("Skipping keystore alias '{}': {} keys are not supported", alias, publicKey.getAlgorithm());
+                continue;
+            }
+            keys.put(alias, publicKey);
+        }
+
+        if (activeKid.isBlank()) {
+            return;
+        }
+        if (!keyStore.isKeyEntry(activeKid) || !keys.containsKey(activeKid)) {
+            throw new IllegalStateException("jwt.signing.active-kid '" + activeKid + "' is not a key pair in " + keystorePath);
+        }
+        Key key = keyStore.getKey(activeKid, password);
+        boolean matches = RS256.equalsIgnoreCase(algorithm) ? key instanceof RSAKey : key instanceof EdECKey;
+        if (!matches) {
+            throw new IllegalStateException("Key '" + activeKid + "' does not match jwt.signing.algorithm=" + algorithm);
+        }
+        signingKey = (PrivateKey) key;
+        signingKid = activeKid;
+    }
+
+    private static List<Map<String, Object>> buildJwks(Map<String, PublicKey> keys) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        keys.forEach((kid, key) -> result.add(new LinkedHashMap<>(Jwks.builder()
+                .key(key)
+                .id(kid)
+                .algorithm(key instanceof RSAKey ? RS256 : EDDSA)
+                .publicKeyUse("sig")
+                .build())));
+        return List.copyOf(result);
+    }
+}
@@ -1,30 +1,64 @@
 package com.sasindu.rdsumebuilder.util;
 
+import com.sasindu.rdsumebuilder.document.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
  * JWT utility for token generation, validation and extraction.
  * Handles all JWT operations for authentication.
+ *
+ * Keys come from JwtKeyRing (HS256 secret or EdDSA/RS256 key pairs).
+ * The parser is built once at startup and reused, so verifying a token
+ * costs one parse, one key lookup by kid and one signature check.
  */
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
-    @Value("${jwt.secret:dev-secret-change-me}")
-    private String SECRET_KEY;
+    private final JwtKeyRing keyRing;
 
-    @Value("${jwt.expiration:86400000}")
+    @Value("${jwt.expiration:900000}")
     private long EXPIRATION_TIME;
 
+    /**
+     * Claim names used by the stateless authentication mode
+     */
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_LOCKED = "locked";
+    public static final String CLAIM_VERIFIED = "verified";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    /**
+     * Signature-verifying parser (thread-safe, built once).
+     * Picks the verification key from the token's kid header.
+     */
+    private JwtParser jwtParser;
+
+    /**
+     * Build the parser once the key ring is loaded
+     */
+    @PostConstruct
+    void init() {
+        jwtParser = Jwts.parser()
+                .keyLocator(keyRing)
+                .build();
+    }
+
     /**
      * Generate JWT token for a user
      *
@@ -36,6 +70,24 @@ public class JwtUtil {
         return createToken(claims, email);
     }
 
+    /**
+     * Generate JWT token for a user with roles, account status and token
+     * version embedded, so the stateless auth mode can authenticate requests
+     * without loading the user from MongoDB.
+     *
+     * @param user Authenticated user
+     * @return JWT token string
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        // Same authorities CustomUserDetailsService grants
+        claims.put(CLAIM_ROLES, user.authorities());
+        claims.put(CLAIM_LOCKED, Boolean.TRUE.equals(user.getIsLocked()));
+        claims.put(CLAIM_VERIFIED, Boolean.TRUE.equals(user.getIsEmailVerified()));
+        claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersionOrDefault());
+        return createToken(claims, user.getEmail());
+    }
+
     /**
      * Create JWT token with claims and subject
      *
@@ -47,15 +99,56 @@ public class JwtUtil {
         Date now = new Date();
         Date expirationDate = new Date(now.getTime() + EXPIRATION_TIME);
 
-        return Jwts.builder()
-                .claims(claims)
-                .subject(subject)
-                .issuedAt(now)
-                .expiration(expirationDate)
-                .signWith(getSigningKey())
+        return keyRing.sign(Jwts.builder()
+                        .claims(claims)
+                        // Unique ID (jti) so a single token can be revoked on logout
+                        .id(UUID.randomUUID().toString())
+                        .subject(subject)
+                        .issuedAt(now)
+                        .expiration(expirationDate))
                 .compact();
     }
 
+    /**
+     * Parse and verify a token exactly once.
+     * Checks the signature and expiration in a single pass.
+     *
+     * @param token JWT token from Authorization header
+     * @return Verified token data, or empty if the token is invalid or expired
+     */
+    public Optional<VerifiedToken> verifyToken(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            if (claims.getSubject() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(toVerifiedToken(claims));
+        } catch (JwtException | IllegalArgumentException | ClassCastException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Copy the verified claims into an immutable VerifiedToken
+     *
+     * @param claims Verified claims
+     * @return VerifiedToken
+     */
+    @SuppressWarnings("unchecked")
+    private VerifiedToken toVerifiedToken(Claims claims) {
+        List<String> roles = claims.get(CLAIM_ROLES, List.class);
+        Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                roles != null ? List.copyOf(roles) : null,
+                claims.get(CLAIM_LOCKED, Boolean.class),
+                claims.get(CLAIM_VERIFIED, Boolean.class),
+                tokenVersion != null ? tokenVersion.longValue() : null);
+    }
+
     /**
      * Validate if token is valid and not expired
      *
@@ -64,12 +157,9 @@ public class JwtUtil {
      * @return true if valid, false otherwise
      */
     public Boolean validateToken(String token, String email) {
-        try {
-            final String tokenEmail = extractEmail(token);
-            return (tokenEmail.equals(email) && !isTokenExpired(token));
-        } catch (Exception e) {
-            return false;
-        }
+        return verifyToken(token)
+                .map(verified -> verified.subject().equals(email))
+                .orElse(false);
     }
 
     /**
@@ -81,23 +171,7 @@ public class JwtUtil {
      * @return true if token is valid and matches user
      */
     public Boolean isTokenValid(String token, org.springframework.security.core.userdetails.UserDetails userDetails) {
-        try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    /**
-     * Check if token is expired
-     *
-     * @param token JWT token
-     * @return true if expired, false if still valid
-     */
-    private Boolean isTokenExpired(String token) {
-        Date expiration = extractExpiration(token);
-        return expiration.before(new Date());
+        return validateToken(token, userDetails.getUsername());
     }
 
     /**
@@ -161,22 +235,11 @@ public class JwtUtil {
      * @return Claims object containing all token data
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    /**
-     * Get signing key for JWT operations
-     *
-     * @return SecretKey object for HMAC-SHA signing
-     */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
-    }
-
     // ========================================================================
     // 🎯 YOUR TASK #7: Add method to get token expiration time in hours
     // ========================================================================
@@ -0,0 +1,58 @@
+package com.sasindu.rdsumebuilder.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Helpers for opaque tokens: generation and one-way digests.
+ * Digests are used wherever a token must be looked up without storing it
+ * in plain form (verified token cache, refresh tokens).
+ */
+public final class TokenDigest {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private TokenDigest() {
+    }
+
+    /**
+     * SHA-256 digest of a token, base64url encoded (43 chars)
+     *
+     * @param token Raw token
+     * @return Digest string
+     */
+    public static String sha256(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * New random opaque token with 256 bits of entropy, base64url encoded
+     *
+     * @return Random token
+     */
+    public static String randomToken() {
+        return randomToken(32);
+    }
+
+    /**
+     * New random opaque token of the given size, base64url encoded
+     *
+     * @param bytes Random bytes (16 = 128 bits, 22 chars)
+     * @return Random token
+     */
+    public static String randomToken(int bytes) {
+        byte[] random = new byte[bytes];
+        RANDOM.nextBytes(random);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+    }
+}
@@ -0,0 +1,39 @@
+package com.sasindu.rdsumebuilder.util;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable result of a successful JWT verification.
+ * Produced once per request by {@link JwtUtil#verifyToken(String)} so callers
+ * never have to parse or check the signature of the same token again.
+ *
+ * @param id           Unique token ID (jti), used for revocation
+ * @param subject      User's email (token subject)
+ * @param issuedAt     When the token was issued
+ * @param expiresAt    When the token expires
+ * @param roles        Embedded authorities, null for tokens issued without them
+ * @param locked       Account locked flag at issue time, null if not embedded
+ * @param verified     Email verified flag at issue time, null if not embedded
+ * @param tokenVersion User's token version at issue time, null if not embedded
+ */
+public record VerifiedToken(
+        String id,
+        String subject,
+        Instant issuedAt,
+        Instant expiresAt,
+        List<String> roles,
+        Boolean locked,
+        Boolean verified,
+        Long tokenVersion) {
+
+    /**
+     * Check if the token carries everything needed to authenticate without a
+     * database lookup (stateless mode)
+     *
+     * @return true if roles, status flags and token version are all present
+     */
+    public boolean hasEmbeddedAuthorities() {
+        return roles != null && locked != null && verified != null && tokenVersion != null;
+    }
+}
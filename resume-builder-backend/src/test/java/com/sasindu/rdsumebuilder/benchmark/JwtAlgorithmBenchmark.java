@@ -0,0 +1,74 @@
+package com.sasindu.rdsumebuilder.benchmark;
+
+import com.sasindu.rdsumebuilder.util.JwtKeyRing;
+import com.sasindu.rdsumebuilder.util.JwtUtil;
+import com.sasindu.rdsumebuilder.util.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing and verification cost per JWT algorithm (uncached path).
+ *
+ * HS256 - shared secret, what every verifying service needed before.
+ * EdDSA - Ed25519 key pair, kid header, verified with the public key.
+ * RS256 - RSA 2048 key pair, kid header, verified with the public key.
+ *
+ * Asymmetric keys are ephemeral (no keystore configured), which does not
+ * change the per-token cost.
+ *
+ * Run from the IDE (main method) or after test-compile with:
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ * com.sasindu.rdsumebuilder.benchmark.JwtAlgorithmBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAlgorithmBenchmark {
+
+    @Param({JwtKeyRing.HS256, JwtKeyRing.EDDSA, JwtKeyRing.RS256})
+    public String algorithm;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing();
+        ReflectionTestUtils.setField(keyRing, "secret", "benchmark-secret-with-at-least-256-bits-of-key");
+        ReflectionTestUtils.setField(keyRing, "algorithm", algorithm);
+        ReflectionTestUtils.setField(keyRing, "keystorePath", "");
+        ReflectionTestUtils.setField(keyRing, "keystorePassword", "");
+        ReflectionTestUtils.setField(keyRing, "activeKid", "");
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+
+        jwtUtil = new JwtUtil(keyRing);
+        ReflectionTestUtils.setField(jwtUtil, "EXPIRATION_TIME", 86400000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        token = jwtUtil.generateToken("benchmark@example.com");
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verify() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateToken("benchmark@example.com");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAlgorithmBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
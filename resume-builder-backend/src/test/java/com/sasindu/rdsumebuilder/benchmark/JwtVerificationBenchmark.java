@@ -0,0 +1,101 @@
+package com.sasindu.rdsumebuilder.benchmark;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sasindu.rdsumebuilder.util.CachedTokenVerifier;
+import com.sasindu.rdsumebuilder.util.JwtKeyRing;
+import com.sasindu.rdsumebuilder.util.JwtUtil;
+import com.sasindu.rdsumebuilder.util.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old JWT filter path with the parse-once pipeline.
+ *
+ * legacyFilterPath - what JwtAuthenticationFilter did before:
+ * extractUsername + isTokenValid = 3 parses, each with a new key and parser.
+ * verifyOnce - JwtUtil.verifyToken with the key and parser built at startup.
+ * verifyCached - CachedTokenVerifier with the token already in the cache
+ * (digest + lookup only, the autosave case).
+ *
+ * Run from the IDE (main method) or after test-compile with:
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ * com.sasindu.rdsumebuilder.benchmark.JwtVerificationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-with-at-least-256-bits-of-key";
+
+    private JwtUtil jwtUtil;
+    private CachedTokenVerifier cachedTokenVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing();
+        ReflectionTestUtils.setField(keyRing, "secret", SECRET);
+        ReflectionTestUtils.setField(keyRing, "algorithm", JwtKeyRing.HS256);
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+
+        jwtUtil = new JwtUtil(keyRing);
+        ReflectionTestUtils.setField(jwtUtil, "EXPIRATION_TIME", 86400000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        token = jwtUtil.generateToken("benchmark@example.com");
+
+        cachedTokenVerifier = new CachedTokenVerifier(jwtUtil,
+                Caffeine.newBuilder().maximumSize(1000).build(),
+                new SimpleMeterRegistry());
+        cachedTokenVerifier.verify(token);
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        String email = legacyClaims(token).getSubject();
+        String username = legacyClaims(token).getSubject();
+        Date expiration = legacyClaims(token).getExpiration();
+        return username.equals(email) && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyOnce() {
+        return jwtUtil.verifyToken(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyCached() {
+        return cachedTokenVerifier.verify(token);
+    }
+
+    /**
+     * Old JwtUtil.extractAllClaims: new key and parser on every call
+     */
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
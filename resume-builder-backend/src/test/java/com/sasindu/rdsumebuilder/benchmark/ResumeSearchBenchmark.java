@@ -0,0 +1,191 @@
+package com.sasindu.rdsumebuilder.benchmark;
+
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.search.InvertedIndex;
+import com.sasindu.rdsumebuilder.search.ResumeTokenizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query and update latency of the resume search index over a synthetic
+ * corpus (1M resumes by default, 5 per user, interleaved so a user's
+ * resumes are spread over the whole id range).
+ *
+ * Descriptions draw from a 20k-word vocabulary with a Zipf-like skew, and
+ * skills/technologies from a short list of real ones, so common terms have
+ * posting lists in the hundreds of thousands.
+ *
+ * Needs ~3 GB of heap for 1M resumes (set below). Smaller corpus:
+ * -p resumes=100000
+ *
+ * Run from the IDE (main method) or after test-compile with:
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ * com.sasindu.rdsumebuilder.benchmark.ResumeSearchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class ResumeSearchBenchmark {
+
+    private static final int RESUMES_PER_USER = 5;
+
+    private static final String[] SKILLS = {
+            "Java", "Spring", "Python", "Django", "JavaScript", "TypeScript", "React", "Angular", "Vue",
+            "Node.js", "Go", "Rust", "C++", "C#", ".NET", "Kotlin", "Swift", "SQL", "PostgreSQL", "MongoDB",
+            "Redis", "Kafka", "Docker", "Kubernetes", "AWS", "Azure", "GCP", "Terraform", "Linux", "GraphQL",
+            "Figma", "Excel", "Tableau", "Salesforce", "SAP", "Scrum", "Jira", "Photoshop", "Pandas", "TensorFlow"};
+
+    private static final String[] TITLES = {
+            "Software Engineer", "Backend Developer", "Frontend Developer", "Data Scientist", "Product Manager",
+            "DevOps Engineer", "QA Engineer", "Designer", "Data Analyst", "Engineering Manager",
+            "Mobile Developer", "Solutions Architect", "Marketing Manager", "Accountant", "Sales Executive"};
+
+    private static final String[] SENIORITY = {"Junior", "", "Senior", "Lead", "Principal"};
+
+    @Param({"1000000"})
+    public int resumes;
+
+    private InvertedIndex index;
+    private String[] owners;
+    private Resume[] updates;
+    private int nextOwner;
+    private int nextUpdate;
+
+    private final List<ResumeTokenizer.QueryTerm> commonTerm = ResumeTokenizer.parseQuery("java ");
+    private final List<ResumeTokenizer.QueryTerm> twoTerms = ResumeTokenizer.parseQuery("senior kubernetes ");
+    private final List<ResumeTokenizer.QueryTerm> prefix = ResumeTokenizer.parseQuery("engineer ku");
+    private final List<ResumeTokenizer.QueryTerm> rareTerm = ResumeTokenizer.parseQuery("w19999 ");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] vocabulary = new String[20_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = "w" + i;
+        }
+
+        int users = resumes / RESUMES_PER_USER;
+        owners = new String[users];
+        for (int i = 0; i < users; i++) {
+            owners[i] = "user" + i + "@example.com";
+        }
+
+        long start = System.nanoTime();
+        index = new InvertedIndex();
+        List<InvertedIndex.IndexedResume> batch = new ArrayList<>(1000);
+        for (int i = 0; i < resumes; i++) {
+            Resume resume = syntheticResume(random, vocabulary, "r" + i, owners[i % users]);
+            batch.add(new InvertedIndex.IndexedResume(resume.getId(), resume.getUserId(), 0,
+                    ResumeTokenizer.tokenize(resume)));
+            if (batch.size() == 1000) {
+                index.addAll(batch);
+                batch.clear();
+            }
+        }
+        index.addAll(batch);
+        System.out.printf("%nIndexed %d resumes, %d terms in %d ms%n",
+                index.size(), index.termCount(), (System.nanoTime() - start) / 1_000_000);
+
+        updates = new Resume[1024];
+        for (int i = 0; i < updates.length; i++) {
+            int id = random.nextInt(resumes);
+            updates[i] = syntheticResume(random, vocabulary, "r" + id, owners[id % users]);
+        }
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> searchCommonTerm() {
+        return index.search(nextOwner(), commonTerm, 50);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> searchTwoTerms() {
+        return index.search(nextOwner(), twoTerms, 50);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> searchPrefix() {
+        return index.search(nextOwner(), prefix, 50);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> searchRareTerm() {
+        return index.search(nextOwner(), rareTerm, 50);
+    }
+
+    /**
+     * Re-index a saved resume (tokenize + replace), compactions included
+     */
+    @Benchmark
+    public void update() {
+        Resume resume = updates[nextUpdate++ & (updates.length - 1)];
+        resume.setRevision(resume.getRevisionOrDefault() + 1);
+        index.add(new InvertedIndex.IndexedResume(resume.getId(), resume.getUserId(), resume.getRevision(),
+                ResumeTokenizer.tokenize(resume)));
+    }
+
+    private String nextOwner() {
+        nextOwner = (nextOwner + 7919) % owners.length;
+        return owners[nextOwner];
+    }
+
+    private static Resume syntheticResume(Random random, String[] vocabulary, String id, String owner) {
+        String title = TITLES[random.nextInt(TITLES.length)];
+        List<Resume.Experience> experience = new ArrayList<>();
+        for (int i = 0, n = 1 + random.nextInt(3); i < n; i++) {
+            experience.add(Resume.Experience.builder()
+                    .jobTitle(SENIORITY[random.nextInt(SENIORITY.length)] + " " + TITLES[random.nextInt(TITLES.length)])
+                    .company("Company" + random.nextInt(5000))
+                    .description(words(random, vocabulary, 15))
+                    .technologies(List.of(pick(random), pick(random), pick(random)))
+                    .build());
+        }
+        List<Resume.Skill> skills = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            skills.add(Resume.Skill.builder().name(pick(random)).build());
+        }
+        return Resume.builder()
+                .id(id)
+                .userId(owner)
+                .title(title + " Resume")
+                .summary(words(random, vocabulary, 20))
+                .personalInfo(Resume.PersonalInfo.builder().fullName("Name" + random.nextInt(100_000))
+                        .location("City" + random.nextInt(200)).build())
+                .experience(experience)
+                .skills(skills)
+                .build();
+    }
+
+    private static String pick(Random random) {
+        return SKILLS[random.nextInt(SKILLS.length)];
+    }
+
+    /**
+     * Words with a Zipf-like skew (low indexes are far more common)
+     */
+    private static String words(Random random, String[] vocabulary, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            double u = random.nextDouble();
+            int word = (int) Math.min(vocabulary.length - 1, Math.pow(vocabulary.length, u) - 1);
+            text.append(vocabulary[word]).append(' ');
+        }
+        return text.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ResumeSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
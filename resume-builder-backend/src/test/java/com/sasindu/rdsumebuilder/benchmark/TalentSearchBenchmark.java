@@ -0,0 +1,155 @@
+package com.sasindu.rdsumebuilder.benchmark;
+
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.search.TalentIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recruiter talent search latency distribution (look at p0.99) over a
+ * synthetic corpus of discoverable resumes (1M by default).
+ *
+ * Skills mix 40 common technologies with a long tail of 5000 rare ones,
+ * and locations are skewed, so the suite covers dense (bitset) and sparse
+ * (int list) filters. commonSkill and deepPage are the heaviest: a quarter
+ * of the corpus matches and every match is scored and counted into the
+ * facets. broad scores everything but takes its facets from the set sizes.
+ *
+ * The scan uses one fork-join thread per core (-p parallelism=N to change).
+ *
+ * Run from the IDE (main method) or after test-compile with:
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ * com.sasindu.rdsumebuilder.benchmark.TalentSearchBenchmark
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms3g", "-Xmx3g"})
+@State(Scope.Benchmark)
+public class TalentSearchBenchmark {
+
+    private static final String[] SKILLS = {
+            "Java", "Spring", "Python", "Django", "JavaScript", "TypeScript", "React", "Angular", "Vue",
+            "Node.js", "Go", "Rust", "C++", "C#", ".NET", "Kotlin", "Swift", "SQL", "PostgreSQL", "MongoDB",
+            "Redis", "Kafka", "Docker", "Kubernetes", "AWS", "Azure", "GCP", "Terraform", "Linux", "GraphQL",
+            "Figma", "Excel", "Tableau", "Salesforce", "SAP", "Scrum", "Jira", "Photoshop", "Pandas", "TensorFlow"};
+
+    private static final String[] TITLES = {
+            "Software Engineer", "Backend Developer", "Frontend Developer", "Data Scientist", "Product Manager",
+            "DevOps Engineer", "QA Engineer", "Designer", "Data Analyst", "Engineering Manager",
+            "Mobile Developer", "Solutions Architect", "Marketing Manager", "Accountant", "Sales Executive"};
+
+    @Param({"1000000"})
+    public int resumes;
+
+    @Param({"0"})
+    public int parallelism;
+
+    private TalentIndex index;
+    private ForkJoinPool pool;
+
+    private final TalentIndex.TalentQuery broad = new TalentIndex.TalentQuery(null, null, null);
+    private final TalentIndex.TalentQuery commonSkill = new TalentIndex.TalentQuery(List.of("Java"), null, null);
+    private final TalentIndex.TalentQuery skillsAndLocation =
+            new TalentIndex.TalentQuery(List.of("Java", "Kubernetes"), "City1", null);
+    private final TalentIndex.TalentQuery keywordsAndSkill =
+            new TalentIndex.TalentQuery(List.of("Python"), null, "backend engineer");
+    private final TalentIndex.TalentQuery rareSkill = new TalentIndex.TalentQuery(List.of("Skill4999"), null, null);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+
+        long start = System.nanoTime();
+        index = new TalentIndex();
+        List<TalentIndex.TalentDocument> batch = new ArrayList<>(1000);
+        for (int i = 0; i < resumes; i++) {
+            List<Resume.Skill> skills = new ArrayList<>();
+            for (int s = 0; s < 8; s++) {
+                skills.add(Resume.Skill.builder().name(SKILLS[random.nextInt(SKILLS.length)]).build());
+            }
+            skills.add(Resume.Skill.builder().name("Skill" + random.nextInt(5000)).build());
+            List<Resume.Experience> experience = List.of(
+                    Resume.Experience.builder().jobTitle(TITLES[random.nextInt(TITLES.length)]).build(),
+                    Resume.Experience.builder().jobTitle(TITLES[random.nextInt(TITLES.length)]).build());
+            Resume resume = Resume.builder()
+                    .id("r" + i)
+                    .userId("user" + (i / 5) + "@example.com")
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .personalInfo(Resume.PersonalInfo.builder()
+                            .fullName("Name" + i)
+                            .location("City" + (int) Math.pow(500, random.nextDouble()))
+                            .build())
+                    .skills(skills)
+                    .projects(List.of(Resume.Project.builder()
+                            .technologies(List.of(SKILLS[random.nextInt(SKILLS.length)]))
+                            .build()))
+                    .experience(experience)
+                    .updatedAt(now.minusDays(random.nextInt(730)))
+                    .build();
+            batch.add(TalentIndex.document(resume));
+            if (batch.size() == 1000) {
+                index.putAll(batch);
+                batch.clear();
+            }
+        }
+        index.putAll(batch);
+        System.out.printf("%nIndexed %d resumes in %d ms%n", index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public TalentIndex.Result broad() {
+        return index.search(broad, 0, 20, 10, pool);
+    }
+
+    @Benchmark
+    public TalentIndex.Result commonSkill() {
+        return index.search(commonSkill, 0, 20, 10, pool);
+    }
+
+    @Benchmark
+    public TalentIndex.Result skillsAndLocation() {
+        return index.search(skillsAndLocation, 0, 20, 10, pool);
+    }
+
+    @Benchmark
+    public TalentIndex.Result keywordsAndSkill() {
+        return index.search(keywordsAndSkill, 0, 20, 10, pool);
+    }
+
+    @Benchmark
+    public TalentIndex.Result rareSkill() {
+        return index.search(rareSkill, 0, 20, 10, pool);
+    }
+
+    /**
+     * Last reachable page: top-k of 1000
+     */
+    @Benchmark
+    public TalentIndex.Result deepPage() {
+        return index.search(commonSkill, 980, 20, 10, pool);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TalentSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,186 @@
+package com.sasindu.rdsumebuilder.repository;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.sasindu.rdsumebuilder.config.MongoIndexManager;
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.document.ResumeDailyStats;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every repository query against a database with the declared indexes
+ * and asks MongoDB to explain it; fails if a winning plan scans a whole
+ * collection. Add new query methods to {@link #runRepositoryQueries()}.
+ *
+ * Needs a running MongoDB (spring.data.mongodb.uri), like contextLoads.
+ */
+@DataMongoTest
+@Import({MongoIndexManager.class, QueryPlanTest.CommandCapture.class})
+class QueryPlanTest {
+
+    private static final Set<String> QUERY_COMMANDS =
+            Set.of("find", "count", "aggregate", "delete", "update", "findAndModify");
+
+    /**
+     * Fields added by the driver that explain does not accept
+     */
+    private static final Set<String> SESSION_FIELDS = Set.of("lsid", "txnNumber");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private MongoIndexManager indexManager;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CommandCapture capture;
+
+    @BeforeEach
+    void buildIndexes() {
+        assertThat(indexManager.ensureIndexes()).isZero();
+        capture.commands.clear();
+    }
+
+    @Test
+    void repositoryQueriesUseIndexes() {
+        runRepositoryQueries();
+
+        List<String> collectionScans = new ArrayList<>();
+        for (Document command : capture.commands) {
+            Document explain = mongoTemplate.getDb().runCommand(
+                    new Document("explain", command).append("verbosity", "queryPlanner"));
+            if (explain.toJson().contains("\"COLLSCAN\"")) {
+                collectionScans.add(command.toJson());
+            }
+        }
+        assertThat(collectionScans).as("queries without a usable index").isEmpty();
+    }
+
+    /**
+     * Every query method with placeholder arguments (results do not matter,
+     * only the plans). streamAllJtis, streamResumeCounts, countPerUser and
+     * the revocation count() read the whole collection by design and are
+     * left out.
+     */
+    private void runRepositoryQueries() {
+        String email = "plan@example.com";
+        String id = "65f000000000000000000001";
+        LocalDateTime now = LocalDateTime.now();
+
+        userRepository.findByEmail(email);
+        userRepository.existsByEmail(email);
+        userRepository.findByVerificationToken("token");
+        userRepository.findByPasswordResetToken("token");
+        userRepository.findTokenVersionByEmail(email);
+        userRepository.recordFailedLogin(email, 5);
+        userRepository.recordSuccessfulLogin(id, null);
+        userRepository.verifyEmail("token", now);
+        userRepository.setPasswordResetToken(email, "token", now);
+        userRepository.resetPassword("token", "hash", now);
+        userRepository.setVerificationToken(email, "token", now);
+        userRepository.findResumeCountByEmail(email);
+        userRepository.incrementResumeCount(email, 1, 3, now);
+        userRepository.decrementResumeCount(email, 1);
+        userRepository.initializeResumeCount(email, 0);
+        userRepository.resetResumeCount(email);
+        userRepository.reconcileResumeCount(email, 1L, 0, now);
+
+        resumeRepository.findByUserId(email);
+        try (Stream<Resume> resumes = resumeRepository.streamByUserIdOrderByUpdatedAtDesc(email)) {
+            resumes.count();
+        }
+        resumeRepository.findByIdAndUserId(id, email);
+        resumeRepository.countByUserId(email);
+        resumeRepository.deleteByUserId(email);
+        resumeRepository.deleteByIdAndUserId(id, email);
+        resumeRepository.findByUserIdAndTitleContaining(email, "dev");
+        resumeRepository.findByUserIdAndUpdatedAtAfterAndTitleContaining(email, now, "dev");
+        resumeRepository.findByIdInAndUserId(List.of(id), email);
+        resumeRepository.updateOwned(id, email, List.of(), new Update().set("title", "t"));
+        resumeRepository.updateRevision(id, email, 1L, List.of("experience.0"), new Update().set("title", "t"));
+        resumeRepository.updateRevisionAndGet(id, email, 0L, List.of(), new Update().set("title", "t"));
+        resumeRepository.findRevision(id, email);
+        resumeRepository.findSummaries(email, null, null, 20);
+        resumeRepository.findSummaries(email, now, id, 20);
+        resumeRepository.updateShareSlug(id, email, "slug");
+        resumeRepository.updateShareSlug(id, email, null);
+        resumeRepository.findIdByShareSlug("slug");
+        // ResumeSearchService.syncChanges
+        try (Stream<Resume> resumes = mongoTemplate.stream(
+                Query.query(Criteria.where("updatedAt").gt(now)), Resume.class)) {
+            resumes.count();
+        }
+        // ResumeStatsService.deleteByResumeId and deleteByUserId
+        mongoTemplate.remove(Query.query(Criteria.where("userId").is(email).and("resumeId").is(id)),
+                ResumeDailyStats.class);
+        mongoTemplate.remove(Query.query(Criteria.where("userId").is(email)), ResumeDailyStats.class);
+
+        refreshTokenRepository.findByTokenHash("hash");
+        refreshTokenRepository.findAndSetUsedAtByTokenHashAndUsedAtIsNull("hash", now);
+        refreshTokenRepository.deleteByFamilyId("family");
+        refreshTokenRepository.deleteByEmail(email);
+
+        revokedTokenRepository.existsByJti("jti");
+    }
+
+    /**
+     * Records the query commands sent by the driver
+     */
+    @TestConfiguration
+    static class CommandCapture implements CommandListener {
+
+        final List<Document> commands = new CopyOnWriteArrayList<>();
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCaptureCustomizer() {
+            return settings -> settings.addCommandListener(this);
+        }
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (!QUERY_COMMANDS.contains(event.getCommandName())) {
+                return;
+            }
+            Document command = new Document();
+            event.getCommand().forEach((key, value) -> {
+                if (!key.startsWith("$") && !SESSION_FIELDS.contains(key)) {
+                    command.append(key, value);
+                }
+            });
+            commands.add(command);
+        }
+    }
+}
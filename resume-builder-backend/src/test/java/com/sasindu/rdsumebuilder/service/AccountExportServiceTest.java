@@ -0,0 +1,149 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.document.User;
+import com.sasindu.rdsumebuilder.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Exports a 10k-resume account from a lazily generated cursor and checks
+ * that the heap stays flat: the live heap after GC is sampled once 1,000
+ * resumes have been written and again at the last one. Each resume carries
+ * ~16 KB of text, so holding the exported resumes (or the output) in memory
+ * would grow the heap by well over 100 MB.
+ */
+class AccountExportServiceTest {
+
+    private static final String EMAIL = "export@example.com";
+    private static final int RESUMES = 10_000;
+    private static final int FIRST_SAMPLE = 1_000;
+    private static final long MAX_GROWTH = 16L * 1024 * 1024;
+
+    private MongoTemplate mongoTemplate;
+    private AccountExportService exportService;
+    private long heapAtFirstSample;
+    private long heapAtLastSample;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder()
+                .email(EMAIL)
+                .firstName("Export")
+                .password("hash")
+                .build()));
+        when(mongoTemplate.stream(any(Query.class), eq(Resume.class)))
+                .thenAnswer(invocation -> syntheticCursor(invocation.getArgument(0)));
+
+        exportService = new AccountExportService(mongoTemplate, userRepository,
+                new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(exportService, "batchSize", 100);
+    }
+
+    @Test
+    void ndjsonExportKeepsHeapFlat() throws Exception {
+        CountingSink sink = new CountingSink();
+        StreamingResponseBody body = exportService.ndjson(EMAIL);
+        body.writeTo(sink);
+
+        assertThat(sink.newlines).isEqualTo(RESUMES + 1);
+        assertThat(sink.bytes).isGreaterThan(RESUMES * 16_000L);
+        assertThat(heapAtLastSample - heapAtFirstSample).isLessThan(MAX_GROWTH);
+    }
+
+    @Test
+    void zipExportKeepsHeapFlat() throws Exception {
+        CountingSink sink = new CountingSink();
+        StreamingResponseBody body = exportService.zip(EMAIL);
+        body.writeTo(sink);
+
+        assertThat(sink.bytes).isPositive();
+        assertThat(heapAtLastSample - heapAtFirstSample).isLessThan(MAX_GROWTH);
+    }
+
+    @Test
+    void profileLeavesOutCredentials() throws Exception {
+        when(mongoTemplate.stream(any(Query.class), eq(Resume.class))).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.ndjson(EMAIL).writeTo(out);
+
+        List<String> lines = out.toString().lines().toList();
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).contains("\"type\":\"profile\"", EMAIL).doesNotContain("hash");
+    }
+
+    /**
+     * Resumes are built one at a time as the export pulls them, like a cursor
+     */
+    private Stream<Resume> syntheticCursor(Query query) {
+        assertThat(query.getMeta().getCursorBatchSize()).isEqualTo(100);
+        return Stream.iterate(1, i -> i <= RESUMES, i -> i + 1).map(i -> {
+            if (i == FIRST_SAMPLE) {
+                heapAtFirstSample = usedHeapAfterGc();
+            } else if (i == RESUMES) {
+                heapAtLastSample = usedHeapAfterGc();
+            }
+            return Resume.builder()
+                    .id("r" + i)
+                    .userId(EMAIL)
+                    .title("Resume " + i)
+                    .summary(i + "x".repeat(16_000))
+                    .skills(List.of(Resume.Skill.builder().name("Java").build()))
+                    .build();
+        });
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Discards the output, counting bytes and lines
+     */
+    private static final class CountingSink extends OutputStream {
+
+        long bytes;
+        long newlines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                newlines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    newlines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.sasindu.rdsumebuilder.document.Resume;
+import com.sasindu.rdsumebuilder.dto.response.ResumeImportResult;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bulk import against a mocked MongoTemplate: record/line positions of
+ * errors from parsing, validation, the free plan limit and bulk-write
+ * rejections, and the slots reserved and given back on the way.
+ */
+class ResumeImportServiceTest {
+
+    private static final String EMAIL = "import@example.com";
+    private static final String LIMIT_MESSAGE = "The free plan allows up to 3 resumes.";
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulkOperations;
+    private ResumeQuotaService quotaService;
+    private ResumeSearchService searchService;
+    private ValidatorFactory validatorFactory;
+    private ResumeImportService importService;
+
+    /**
+     * Documents passed to each bulk insert
+     */
+    private final List<List<Resume>> insertedBatches = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        quotaService = mock(ResumeQuotaService.class);
+        searchService = mock(ResumeSearchService.class);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Resume.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenAnswer(invocation -> {
+            insertedBatches.add(new ArrayList<>((List<Resume>) invocation.getArgument(0)));
+            return bulkOperations;
+        });
+        when(quotaService.reserveSlots(eq(EMAIL), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(quotaService.limitMessage()).thenReturn(LIMIT_MESSAGE);
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        importService = new ResumeImportService(mongoTemplate, objectMapper, validatorFactory.getValidator(),
+                new JsonResumeMapper(), quotaService, searchService);
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+        ReflectionTestUtils.setField(importService, "maxErrors", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void mixedNdjsonReportsEachFailureByPosition() throws Exception {
+        // second batch: the document at index 1 (record 7) is rejected by MongoDB
+        when(bulkOperations.execute())
+                .thenReturn(null)
+                .thenThrow(bulkFailure(1));
+
+        ResumeImportResult result = importService.importResumes(EMAIL, body(
+                "{\"type\":\"profile\",\"data\":{\"email\":\"someone@example.com\"}}",
+                "{\"title\":\"Backend\"}",
+                "{\"basics\":{\"name\":\"Jane Doe\",\"label\":\"Engineer\"}}",
+                "42",
+                "{\"title\":\"" + "x".repeat(201) + "\"}",
+                "{\"title\":{\"nested\":true}}",
+                "{\"type\":\"resume\",\"data\":{\"title\":\"From export\"}}",
+                "{\"title\":\"Duplicate\"}"));
+
+        assertThat(result.getReceived()).isEqualTo(7);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.isErrorsTruncated()).isFalse();
+        assertThat(result.getErrors())
+                .extracting(ResumeImportResult.RecordError::getRecord, ResumeImportResult.RecordError::getLine)
+                .containsExactly(tuple(3, 4), tuple(4, 5), tuple(5, 6), tuple(7, 8));
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Expected a JSON object");
+        assertThat(result.getErrors().get(1).getMessage()).startsWith("title:");
+        assertThat(result.getErrors().get(2).getMessage()).startsWith("Not a resume");
+        assertThat(result.getErrors().get(3).getMessage()).startsWith("Insert failed");
+
+        assertThat(insertedBatches).hasSize(2);
+        assertThat(insertedBatches.get(0)).extracting(Resume::getTitle).containsExactly("Backend", "Engineer");
+        assertThat(insertedBatches.get(1)).extracting(Resume::getTitle).containsExactly("From export", "Duplicate");
+        assertThat(insertedBatches).allSatisfy(batch -> assertThat(batch)
+                .allSatisfy(resume -> assertThat(resume.getUserId()).isEqualTo(EMAIL)));
+        // the rejected insert gives its slot back
+        verify(quotaService).releaseSlots(EMAIL, 1);
+    }
+
+    @Test
+    void freeUserNearLimitImportsOnlyRemainingSlots() throws Exception {
+        ReflectionTestUtils.setField(importService, "batchSize", 3);
+        when(quotaService.reserveSlots(EMAIL, 3)).thenReturn(1);
+
+        ResumeImportResult result = importService.importResumes(EMAIL, body(
+                "{\"title\":\"One\"}",
+                "{\"title\":\"Two\"}",
+                "{\"title\":\"Three\"}",
+                "{\"title\":\"Four\"}"));
+
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors())
+                .extracting(ResumeImportResult.RecordError::getRecord, ResumeImportResult.RecordError::getLine,
+                        ResumeImportResult.RecordError::getMessage)
+                .containsExactly(
+                        tuple(2, 2, LIMIT_MESSAGE),
+                        tuple(3, 3, LIMIT_MESSAGE),
+                        tuple(4, 4, LIMIT_MESSAGE));
+        assertThat(insertedBatches).hasSize(1);
+        assertThat(insertedBatches.get(0)).extracting(Resume::getTitle).containsExactly("One");
+        // once the limit is hit, later batches do not ask for slots again
+        verify(quotaService, times(1)).reserveSlots(eq(EMAIL), anyInt());
+        verify(quotaService, never()).releaseSlots(eq(EMAIL), anyInt());
+    }
+
+    @Test
+    void malformedJsonStopsImportAndKeepsEarlierRecords() throws Exception {
+        ResumeImportResult result = importService.importResumes(EMAIL, body(
+                "{\"title\":\"One\"}",
+                "{\"title\":\"Two\"}",
+                "{\"title\":\"Three\"}",
+                "{\"title\": oops}",
+                "{\"title\":\"Never read\"}"));
+
+        assertThat(result.getReceived()).isEqualTo(3);
+        assertThat(result.getImported()).isEqualTo(3);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors())
+                .extracting(ResumeImportResult.RecordError::getRecord, ResumeImportResult.RecordError::getLine)
+                .containsExactly(tuple(4, 4));
+        assertThat(result.getErrors().get(0).getMessage()).startsWith("Malformed JSON, import stopped");
+        assertThat(insertedBatches).extracting(List::size).containsExactly(2, 1);
+        verify(searchService, times(2)).indexAll(anyList());
+    }
+
+    private static ByteArrayInputStream body(String... lines) {
+        return new ByteArrayInputStream((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BulkOperationException bulkFailure(int index) {
+        BulkWriteError error = new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), index);
+        MongoBulkWriteException cause = new MongoBulkWriteException(BulkWriteResult.unacknowledged(),
+                List.of(error), null, new ServerAddress(), Set.of());
+        return new BulkOperationException("Bulk write failed", cause);
+    }
+}
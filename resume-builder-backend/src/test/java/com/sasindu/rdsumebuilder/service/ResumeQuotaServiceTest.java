@@ -0,0 +1,125 @@
+package com.sasindu.rdsumebuilder.service;
+
+import com.sasindu.rdsumebuilder.document.User;
+import com.sasindu.rdsumebuilder.repository.ResumeRepository;
+import com.sasindu.rdsumebuilder.repository.UserRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Accounts created before the resume counter: their user document has no
+ * resumeCount field. The document is read through the same mapping
+ * converter the repositories use, and the repository mock applies the
+ * counter queries the way MongoDB evaluates them on a missing field.
+ */
+class ResumeQuotaServiceTest {
+
+    private static final String EMAIL = "legacy@example.com";
+
+    private UserRepository userRepository;
+    private ResumeRepository resumeRepository;
+    private ResumeQuotaService quotaService;
+
+    /**
+     * Stored counter, null while the field is missing
+     */
+    private final AtomicReference<Long> storedCount = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        resumeRepository = mock(ResumeRepository.class);
+        quotaService = new ResumeQuotaService(userRepository, resumeRepository);
+        ReflectionTestUtils.setField(quotaService, "freeLimit", 3L);
+
+        when(userRepository.findResumeCountByEmail(EMAIL)).thenAnswer(invocation -> {
+            Document document = legacyUserDocument();
+            if (storedCount.get() != null) {
+                document.put("resumeCount", storedCount.get());
+            }
+            return Optional.of(read(document));
+        });
+        // resumeCount: {$ne: null} never matches a missing field
+        when(userRepository.incrementResumeCount(eq(EMAIL), anyLong(), eq(3L), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    long amount = invocation.getArgument(1);
+                    Long count = storedCount.get();
+                    if (count == null || count + amount > 3) {
+                        return Optional.empty();
+                    }
+                    storedCount.set(count + amount);
+                    return Optional.of(User.builder().email(EMAIL).resumeCount(count + amount).build());
+                });
+        // resumeCount: null matches a missing field
+        when(userRepository.initializeResumeCount(eq(EMAIL), anyLong()))
+                .thenAnswer(invocation -> storedCount.compareAndSet(null, invocation.getArgument(1)));
+    }
+
+    @Test
+    void legacyDocumentMapsToMissingCounter() {
+        assertThat(read(legacyUserDocument()).getResumeCount()).isNull();
+    }
+
+    @Test
+    void legacyAccountIsSeededAndCanCreate() {
+        when(resumeRepository.countByUserId(EMAIL)).thenReturn(1L);
+
+        quotaService.reserveSlot(EMAIL);
+
+        verify(userRepository).initializeResumeCount(EMAIL, 1L);
+        assertThat(storedCount.get()).isEqualTo(2L);
+    }
+
+    @Test
+    void legacyAccountImportGetsRemainingSlots() {
+        when(resumeRepository.countByUserId(EMAIL)).thenReturn(2L);
+
+        assertThat(quotaService.reserveSlots(EMAIL, 5)).isEqualTo(1);
+        assertThat(storedCount.get()).isEqualTo(3L);
+    }
+
+    @Test
+    void newUserObjectHasNoCounterUntilSet() {
+        assertThat(User.builder().email(EMAIL).build().getResumeCount()).isNull();
+        assertThat(new User().getResumeCount()).isNull();
+    }
+
+    private static Document legacyUserDocument() {
+        return new Document("_id", "65f000000000000000000001")
+                .append("email", EMAIL)
+                .append("firstName", "Legacy")
+                .append("password", "hash")
+                .append("isPremium", false)
+                .append("tokenVersion", 0L);
+    }
+
+    private static User read(Document document) {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter.read(User.class, document);
+    }
+}
@@ -3,8 +3,8 @@
  */
 
 import { createContext, useContext, useState, useEffect, ReactNode } from 'react'
-import { setToken, getToken, removeToken, setUser, getUser, removeUser } from '@/utils/tokenStorage'
-import { loginUser, registerUser } from '@/services/authService'
+import { setToken, getToken, removeToken, setRefreshToken, getRefreshToken, removeRefreshToken, setUser, getUser, removeUser } from '@/utils/tokenStorage'
+import { loginUser, logoutUser, registerUser } from '@/services/authService'
 
 /**
  * User interface
@@ -75,8 +75,11 @@ export const AuthProvider = ({ children }: { children: ReactNode }) => {
             const response = await loginUser({ email, password })
 
             // Save token and user data
-            // AuthResponse structure: { token, tokenType, user: { email, firstName, lastName, ... } }
+            // AuthResponse structure: { token, refreshToken, tokenType, user: { email, firstName, lastName, ... } }
             setToken(response.token)
+            if (response.refreshToken) {
+                setRefreshToken(response.refreshToken)
+            }
             const userData: User = {
                 email: response.user?.email || email,
                 firstName: response.user?.firstName,
@@ -135,7 +138,13 @@ export const AuthProvider = ({ children }: { children: ReactNode }) => {
      * Clear token, user data, and state
      */
     const logout = () => {
+        // Revoke tokens server-side; local logout must not wait for or depend on it
+        const accessToken = getToken()
+        if (accessToken) {
+            logoutUser(accessToken, getRefreshToken()).catch(() => undefined)
+        }
         removeToken()
+        removeRefreshToken()
         removeUser()
         setUserState(null)
         setError(null)
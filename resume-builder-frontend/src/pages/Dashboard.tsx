@@ -17,6 +17,12 @@ interface Resume {
     createdAt: string
     updatedAt: string
     template?: string
+    colorTheme?: string
+}
+
+interface ResumeSummaryPage {
+    items: Resume[]
+    nextCursor: string | null
 }
 
 interface UserStats {
@@ -36,6 +42,8 @@ export function Dashboard() {
     const [sortOption, setSortOption] = useState<'recent' | 'updated' | 'alpha'>('recent')
     const [isLoading, setIsLoading] = useState(true)
     const [isCreating, setIsCreating] = useState(false)
+    const [nextCursor, setNextCursor] = useState<string | null>(null)
+    const [isLoadingMore, setIsLoadingMore] = useState(false)
 
     // Fetch user's resumes and stats
     useEffect(() => {
@@ -43,11 +51,12 @@ export function Dashboard() {
             try {
                 setIsLoading(true)
 
-                // Fetch resumes
-                const resumesRes = await api.get('/resume')
-                const resumesData = resumesRes.data.data || resumesRes.data
+                // Fetch the first page of resume cards (summary fields only)
+                const resumesRes = await api.get<ResumeSummaryPage>('/resume/summary')
+                const resumesData = resumesRes.data.items
                 setResumes(Array.isArray(resumesData) ? resumesData : [])
                 setFilteredResumes(Array.isArray(resumesData) ? resumesData : [])
+                setNextCursor(resumesRes.data.nextCursor)
 
                 // Fetch stats
                 try {
@@ -71,6 +80,21 @@ export function Dashboard() {
         fetchData()
     }, [])
 
+    // Load the next page of resume cards
+    const handleLoadMore = async () => {
+        if (!nextCursor) return
+        try {
+            setIsLoadingMore(true)
+            const response = await api.get<ResumeSummaryPage>('/resume/summary', { params: { cursor: nextCursor } })
+            setResumes((prev) => [...prev, ...response.data.items])
+            setNextCursor(response.data.nextCursor)
+        } catch {
+            toast.error('Failed to load more resumes')
+        } finally {
+            setIsLoadingMore(false)
+        }
+    }
+
     // Sorting helper
     const sortResumes = (list: Resume[]) => {
         const sorted = [...list]
@@ -104,11 +128,13 @@ export function Dashboard() {
             toast.success('Resume created!')
             navigate(`/resume/${newResume.id}`)
         } catch (error: any) {
-            const errorMsg = typeof error?.response?.data?.message === 'string'
+            const errorMsg = typeof error?.response?.data?.message === 'string' && error.response.data.message
                 ? error.response.data.message
-                : typeof error?.message === 'string'
-                    ? error.message
-                    : 'Failed to create resume'
+                : error?.response?.status === 403
+                    ? 'Free plan resume limit reached. Upgrade to premium to create more.'
+                    : typeof error?.message === 'string'
+                        ? error.message
+                        : 'Failed to create resume'
             toast.error(errorMsg)
         } finally {
             setIsCreating(false)
@@ -141,7 +167,8 @@ export function Dashboard() {
 
         try {
             const payload = { title: newTitle.trim() }
-            await api.put(`/resume/${id}`, payload)
+            // Single-field update; PUT would replace the whole resume
+            await api.patch(`/resume/${id}/title`, null, { params: { title: payload.title } })
             const updated = resumes.map(r => (r.id === id ? { ...r, title: payload.title, updatedAt: new Date().toISOString() } : r))
             setResumes(updated)
             setFilteredResumes(sortResumes(updated.filter(resume =>
@@ -279,6 +306,14 @@ export function Dashboard() {
                         ))}
                     </motion.div>
                 )}
+
+                {!isLoading && nextCursor && (
+                    <div className="mt-8 flex justify-center">
+                        <Button variant="secondary" onClick={handleLoadMore} loading={isLoadingMore}>
+                            Load more
+                        </Button>
+                    </div>
+                )}
             </main>
         </div>
     )
@@ -11,8 +11,9 @@ import { TemplateName, ThemeName, TEMPLATES, THEMES } from '@/types/template';
 import { TemplateIcon } from '@/components/common/TemplateIcon';
 import { ColorSwatch } from '@/components/common/ColorSwatch';
 import previewStyles from '../styles/editor/ResumePreview.module.css';
-import html2canvas from 'html2canvas';
-import jsPDF from 'jspdf';
+import axios from 'axios';
+import { Sections, toSections, fromResume, diffSections } from '@/utils/resumeSections';
+import type { ResumeDocument } from '@/types/resume';
 
 export interface ResumeData {
     title: string;
@@ -86,7 +87,9 @@ export function ResumeEditor() {
     const [lastSaved, setLastSaved] = useState<Date | null>(null);
     const [currentStep, setCurrentStep] = useState(0);
     const saveTimeoutRef = useRef<ReturnType<typeof setTimeout> | undefined>();
-    const previewRef = useRef<HTMLDivElement>(null);
+    // Revision and sections as last saved; autosave sends only the difference
+    const revisionRef = useRef(0);
+    const savedSectionsRef = useRef<Sections | null>(null);
 
     const steps = [
         { title: 'Title & Design', description: 'Choose a title, template, and color' },
@@ -185,51 +188,69 @@ export function ResumeEditor() {
         return () => window.removeEventListener('keydown', onKeyDown);
     }, [addEducation, addExperience, addSkill]);
 
-    useEffect(() => {
-        const fetchResume = async () => {
-            if (!id) return;
-            try {
-                setLoading(true);
-                const response = await api.get(`/resume/${id}`);
-                if (response.data.content) {
-                    try {
-                        const parsedContent = JSON.parse(response.data.content);
-                        setResumeData(parsedContent);
-                    } catch {
-                        setResumeData({ ...defaultResumeData, title: response.data.title });
-                    }
-                } else {
-                    setResumeData({ ...defaultResumeData, title: response.data.title });
+    const loadResume = useCallback(async () => {
+        if (!id) return;
+        try {
+            setLoading(true);
+            const response = await api.get<ResumeDocument>(`/resume/${id}`);
+            const resume = response.data;
+            revisionRef.current = resume.revision ?? 0;
+            if (resume.content) {
+                // Legacy resume saved as a JSON blob: the first autosave
+                // writes all sections and drops the blob
+                savedSectionsRef.current = null;
+                try {
+                    setResumeData(JSON.parse(resume.content));
+                } catch {
+                    setResumeData({ ...defaultResumeData, title: resume.title ?? defaultResumeData.title });
                 }
-            } catch (err) {
-                setError(err instanceof Error ? err.message : 'Failed to load resume');
-                toast.error('Failed to load resume');
-            } finally {
-                setLoading(false);
+            } else {
+                const data = fromResume(resume, defaultResumeData);
+                savedSectionsRef.current = toSections(data);
+                setResumeData(data);
             }
-        };
-
-        fetchResume();
+        } catch (err) {
+            setError(err instanceof Error ? err.message : 'Failed to load resume');
+            toast.error('Failed to load resume');
+        } finally {
+            setLoading(false);
+        }
     }, [id]);
 
+    useEffect(() => {
+        loadResume();
+    }, [loadResume]);
+
     const autoSave = useCallback(async () => {
-        if (!id) return;
+        if (!id || loading) return;
+        const sections = toSections(resumeData);
+        const changes = savedSectionsRef.current
+            ? diffSections(savedSectionsRef.current, sections)
+            : { ...sections, content: null };
+        if (Object.keys(changes).length === 0) return;
+
         try {
             setIsSaving(true);
-            await api.put(`/resume/${id}`, {
-                title: resumeData.title,
-                template: resumeData.template,
-                colorTheme: resumeData.theme,
-                content: JSON.stringify(resumeData),
+            const response = await api.patch(`/resume/${id}/sections`, {
+                baseRevision: revisionRef.current,
+                changes,
             });
+            revisionRef.current = response.data.revision;
+            savedSectionsRef.current = sections;
             setLastSaved(new Date());
         } catch (err) {
+            if (axios.isAxiosError(err) && err.response?.status === 409) {
+                // Saved from another tab or device: show the latest version
+                toast.error('This resume was changed elsewhere. Reloading the latest version.', { duration: 4000 });
+                await loadResume();
+                return;
+            }
             console.error('❌ Auto-save failed:', err);
             toast.error('Failed to save changes', { duration: 2000 });
         } finally {
             setIsSaving(false);
         }
-    }, [id, resumeData]);
+    }, [id, loading, resumeData, loadResume]);
 
     useEffect(() => {
         if (saveTimeoutRef.current) {
@@ -302,33 +323,22 @@ export function ResumeEditor() {
     };
 
     const exportToPDF = async () => {
-        if (!previewRef.current) return;
+        if (!id) return;
 
         try {
             setIsExporting(true);
             toast.loading('Generating PDF...', { id: 'pdf-export' });
 
-            const canvas = await html2canvas(previewRef.current, {
-                scale: 2,
-                useCORS: true,
-                logging: false,
-                backgroundColor: '#ffffff',
-            });
-
-            const imgWidth = 210;
-            const imgHeight = (canvas.height * imgWidth) / canvas.width;
-
-            const pdf = new jsPDF({
-                orientation: 'portrait',
-                unit: 'mm',
-                format: 'a4',
-            });
-
-            const imgData = canvas.toDataURL('image/png');
-            pdf.addImage(imgData, 'PNG', 0, 0, imgWidth, imgHeight);
+            // Rendered on the server from the saved resume: save pending edits first
+            await autoSave();
+            const response = await api.get<Blob>(`/resume/${id}/pdf`, { responseType: 'blob' });
 
-            const fileName = `${resumeData.personalInfo.fullName || resumeData.title || 'resume'}.pdf`;
-            pdf.save(fileName);
+            const url = URL.createObjectURL(response.data);
+            const link = document.createElement('a');
+            link.href = url;
+            link.download = `${resumeData.personalInfo.fullName || resumeData.title || 'resume'}.pdf`;
+            link.click();
+            URL.revokeObjectURL(url);
 
             toast.success('PDF downloaded successfully!', { id: 'pdf-export' });
         } catch (error) {
@@ -949,7 +959,6 @@ export function ResumeEditor() {
                         aria-label="Resume preview"
                     >
                         <div
-                            ref={previewRef}
                             className={`a4-sheet mx-auto ${previewStyles.sheet}`}
                             style={{
                                 width: '210mm',
@@ -1,8 +1,10 @@
 import axios from 'axios'
-import { getToken, removeToken, removeUser } from '@/utils/tokenStorage'
+import { getToken, setToken, getRefreshToken, setRefreshToken, clearAuth } from '@/utils/tokenStorage'
+
+const baseURL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080/api'
 
 const api = axios.create({
-    baseURL: import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080/api',
+    baseURL,
     headers: {
         'Content-Type': 'application/json',
     },
@@ -11,7 +13,7 @@ const api = axios.create({
 
 api.interceptors.request.use(
     (config) => {
-        const publicEndpoints = ['/auth/register', '/auth/login', '/auth/verify-email', '/auth/forgot-password']
+        const publicEndpoints = ['/auth/register', '/auth/login', '/auth/verify-email', '/auth/forgot-password', '/auth/refresh']
 
         const isPublicEndpoint = publicEndpoints.some(endpoint => {
             const url = config.url || ''
@@ -32,12 +34,47 @@ api.interceptors.request.use(
     }
 )
 
+/**
+ * Exchange the stored refresh token for a new token pair.
+ * Concurrent 401s share one in-flight refresh, since each refresh token is single use.
+ */
+let refreshInFlight: Promise<string> | null = null
+
+const refreshAccessToken = (): Promise<string> => {
+    if (!refreshInFlight) {
+        const refreshToken = getRefreshToken()
+        refreshInFlight = (refreshToken
+            ? axios.post(`${baseURL}/auth/refresh`, { refreshToken }, { timeout: 10000 })
+                .then((response) => {
+                    setToken(response.data.token)
+                    setRefreshToken(response.data.refreshToken)
+                    return response.data.token as string
+                })
+            : Promise.reject(new Error('No refresh token')))
+            .finally(() => {
+                refreshInFlight = null
+            })
+    }
+    return refreshInFlight
+}
+
 api.interceptors.response.use(
     (response) => response,
-    (error) => {
+    async (error) => {
+        const original = error.config
         if (error.response?.status === 401) {
-            removeToken()
-            removeUser()
+            // Access token expired: refresh once and replay the request
+            if (original && !original._retry) {
+                original._retry = true
+                try {
+                    const token = await refreshAccessToken()
+                    original.headers.Authorization = `Bearer ${token}`
+                    return api(original)
+                } catch {
+                    // Refresh token missing, expired or revoked - fall through to logout
+                }
+            }
+            clearAuth()
             window.location.href = '/login'
         }
         return Promise.reject(error)
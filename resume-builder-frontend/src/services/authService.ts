@@ -31,6 +31,14 @@ export const loginUser = async (data: { email: string; password: string }) => {
     return response.data
 }
 
+export const logoutUser = async (accessToken: string, refreshToken: string | null): Promise<string> => {
+    // Header set explicitly: local storage is cleared before the interceptor runs
+    const response = await api.post('/auth/logout', refreshToken ? { refreshToken } : undefined, {
+        headers: { Authorization: `Bearer ${accessToken}` },
+    })
+    return response.data
+}
+
 export const verifyEmail = async (token: string): Promise<string> => {
     const response = await api.get(`/auth/verify-email?token=${token}`)
     return response.data
@@ -0,0 +1,44 @@
+/**
+ * Resume document as returned by GET /api/resume/{id}
+ */
+export interface ResumeDocument {
+    id: string
+    title?: string
+    template?: string
+    colorTheme?: string
+    /** Legacy editor state (JSON string), replaced by the structured fields */
+    content?: string | null
+    personalInfo?: {
+        fullName?: string
+        email?: string
+        phone?: string
+        location?: string
+    }
+    summary?: string
+    education?: Array<{
+        degree?: string
+        institution?: string
+        fieldOfStudy?: string
+        startDate?: string
+        endDate?: string
+        grade?: string
+    }>
+    experience?: Array<{
+        jobTitle?: string
+        company?: string
+        startDate?: string
+        endDate?: string
+        description?: string
+        responsibilities?: string
+        technologies?: string[]
+        achievements?: string[]
+    }>
+    skills?: Array<{
+        name?: string
+        level?: string
+    }>
+    /** Incremented on every save; sent back as baseRevision */
+    revision?: number
+    createdAt?: string
+    updatedAt?: string
+}
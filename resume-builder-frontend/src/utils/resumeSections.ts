@@ -0,0 +1,151 @@
+/**
+ * Resume Sections - Map editor state to the backend Resume fields and
+ * compute the delta between two saves (JSON Merge Patch form)
+ */
+
+import type { ResumeData } from '@/pages/ResumeEditor'
+import type { ResumeDocument } from '@/types/resume'
+import type { TemplateName, ThemeName } from '@/types/template'
+
+export type Sections = Record<string, unknown>
+type Element = Record<string, unknown>
+
+const splitList = (value: string | undefined, separator: string | RegExp): string[] =>
+    (value || '')
+        .split(separator)
+        .map((item) => item.trim())
+        .filter((item) => item !== '')
+
+/**
+ * Editor state -> Resume document fields
+ */
+export const toSections = (data: ResumeData): Sections => ({
+    title: data.title,
+    template: data.template,
+    colorTheme: data.theme,
+    personalInfo: {
+        fullName: data.personalInfo.fullName,
+        email: data.personalInfo.email,
+        phone: data.personalInfo.phone,
+        location: data.personalInfo.location,
+    },
+    summary: data.personalInfo.summary,
+    education: data.education.map((edu) => ({
+        degree: edu.degree,
+        institution: edu.institution,
+        fieldOfStudy: edu.fieldOfStudy,
+        startDate: edu.startDate,
+        endDate: edu.endDate,
+        grade: edu.gpa || '',
+    })),
+    experience: data.experience.map((exp) => ({
+        jobTitle: exp.jobTitle,
+        company: exp.company,
+        startDate: exp.startDate,
+        endDate: exp.endDate,
+        description: exp.description,
+        responsibilities: exp.responsibilities || '',
+        technologies: splitList(exp.technologies, ','),
+        achievements: splitList(exp.achievements, /\n/),
+    })),
+    skills: data.skills.map((skill) => ({
+        name: skill.name,
+        level: skill.proficiency,
+    })),
+})
+
+/**
+ * Resume document (structured fields) -> editor state.
+ * Element ids only exist in the editor, so they are generated here.
+ */
+export const fromResume = (resume: ResumeDocument, defaults: ResumeData): ResumeData => {
+    const key = (prefix: string, index: number) => `${prefix}-${index}`
+    return {
+        title: resume.title ?? defaults.title,
+        template: (resume.template as TemplateName) ?? defaults.template,
+        theme: (resume.colorTheme as ThemeName) ?? defaults.theme,
+        personalInfo: {
+            fullName: resume.personalInfo?.fullName ?? '',
+            email: resume.personalInfo?.email ?? '',
+            phone: resume.personalInfo?.phone ?? '',
+            location: resume.personalInfo?.location ?? '',
+            summary: resume.summary ?? '',
+        },
+        education: (resume.education ?? []).map((edu, i) => ({
+            id: key('edu', i),
+            degree: edu.degree ?? '',
+            institution: edu.institution ?? '',
+            fieldOfStudy: edu.fieldOfStudy ?? '',
+            startDate: edu.startDate ?? '',
+            endDate: edu.endDate ?? '',
+            gpa: edu.grade ?? '',
+        })),
+        experience: (resume.experience ?? []).map((exp, i) => ({
+            id: key('exp', i),
+            jobTitle: exp.jobTitle ?? '',
+            company: exp.company ?? '',
+            startDate: exp.startDate ?? '',
+            endDate: exp.endDate ?? '',
+            description: exp.description ?? '',
+            responsibilities: exp.responsibilities ?? '',
+            technologies: (exp.technologies ?? []).join(', '),
+            achievements: (exp.achievements ?? []).join('\n'),
+        })),
+        skills: (resume.skills ?? []).map((skill, i) => ({
+            id: key('skill', i),
+            name: skill.name ?? '',
+            proficiency: (skill.level as ResumeData['skills'][0]['proficiency']) ?? 'Intermediate',
+        })),
+    }
+}
+
+const same = (a: unknown, b: unknown) => JSON.stringify(a) === JSON.stringify(b)
+
+/**
+ * Changed keys of an object (shallow)
+ */
+const diffObject = (prev: Element, next: Element): Element => {
+    const changes: Element = {}
+    for (const key of Object.keys(next)) {
+        if (!same(prev[key], next[key])) {
+            changes[key] = next[key]
+        }
+    }
+    return changes
+}
+
+/**
+ * Delta between the last saved sections and the current ones.
+ * - changed scalars are sent as-is
+ * - personalInfo sends only changed keys
+ * - arrays of the same length send only changed keys of changed elements,
+ *   keyed by index ({"2": {"company": "Acme"}}); otherwise the whole array
+ */
+export const diffSections = (prev: Sections, next: Sections): Sections => {
+    const delta: Sections = {}
+    for (const key of Object.keys(next)) {
+        const before = prev[key]
+        const after = next[key]
+        if (same(before, after)) continue
+
+        if (Array.isArray(after)) {
+            if (!Array.isArray(before) || before.length !== after.length) {
+                delta[key] = after
+                continue
+            }
+            const elements: Record<string, Element> = {}
+            after.forEach((element: Element, index: number) => {
+                const changed = diffObject(before[index] as Element, element)
+                if (Object.keys(changed).length > 0) {
+                    elements[String(index)] = changed
+                }
+            })
+            delta[key] = elements
+        } else if (after !== null && typeof after === 'object' && before !== null && typeof before === 'object') {
+            delta[key] = diffObject(before as Element, after as Element)
+        } else {
+            delta[key] = after
+        }
+    }
+    return delta
+}
@@ -6,6 +6,7 @@
 
 const TOKEN_KEY = 'resume_builder_token'
 const USER_KEY = 'resume_builder_user'
+const REFRESH_TOKEN_KEY = 'resume_builder_refresh_token'
 
 /**
  * Save JWT token to localStorage
@@ -30,6 +31,29 @@ export const removeToken = (): void => {
     localStorage.removeItem(TOKEN_KEY)
 }
 
+/**
+ * Save refresh token to localStorage
+ * @param refreshToken - Single-use refresh token from backend (rotated on every refresh)
+ */
+export const setRefreshToken = (refreshToken: string): void => {
+    localStorage.setItem(REFRESH_TOKEN_KEY, refreshToken)
+}
+
+/**
+ * Retrieve refresh token from localStorage
+ * @returns Refresh token or null if not found
+ */
+export const getRefreshToken = (): string | null => {
+    return localStorage.getItem(REFRESH_TOKEN_KEY)
+}
+
+/**
+ * Remove refresh token from localStorage (on logout)
+ */
+export const removeRefreshToken = (): void => {
+    localStorage.removeItem(REFRESH_TOKEN_KEY)
+}
+
 /**
  * Save user data to localStorage
  * @param user - User object from backend
@@ -55,10 +79,11 @@ export const removeUser = (): void => {
 }
 
 /**
- * Clear all auth data (token + user) - typically on logout
+ * Clear all auth data (tokens + user) - typically on logout
  */
 export const clearAuth = (): void => {
     removeToken()
+    removeRefreshToken()
     removeUser()
 }
 